@@ -0,0 +1,41 @@
+package com.app.replant.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 채팅 활동 요약 (마지막 채팅/선제 메시지 시각, 당일 선제 메시지 수)
+ * - chat_log를 매번 집계하지 않도록 채팅 저장 시점에 원자적 UPSERT로 갱신 (ChatActivityRepository)
+ * - 행이 있는 사용자 = 채팅 기록이 있는 사용자 (선제 메시지 대상 조회의 기준 테이블)
+ */
+@Entity
+@Table(name = "chat_activity", indexes = {
+        // 선제 메시지 대상(비활성 사용자) 키셋 조회용
+        @Index(name = "idx_chat_activity_last_chat_user", columnList = "last_chat_at, user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatActivity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_chat_at", nullable = false)
+    private LocalDateTime lastChatAt;
+
+    @Column(name = "last_proactive_at")
+    private LocalDateTime lastProactiveAt;
+
+    // proactive_count가 집계된 날짜 (날짜가 바뀌면 다음 선제 메시지 시 1부터 다시 셈)
+    @Column(name = "proactive_date")
+    private LocalDate proactiveDate;
+
+    @Column(name = "proactive_count", nullable = false)
+    private Integer proactiveCount = 0;
+}
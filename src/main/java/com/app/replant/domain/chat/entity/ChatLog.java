@@ -24,8 +24,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatLog extends BaseEntity {
 
+    // 배치 INSERT를 위해 IDENTITY 대신 테이블 기반 pooled 할당 (IdSequenceInitializer가 EntityManagerFactory 생성 전 기존 최대 ID 이후로 시작값 설정)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_log_id")
+    @TableGenerator(name = "chat_log_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "chat_log", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,102 @@
+package com.app.replant.domain.chat.repository;
+
+import com.app.replant.domain.chat.entity.ChatActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 채팅 활동 요약 Repository
+ * 요약은 모두 원자적 UPSERT로 갱신 (엔티티 읽기-수정-쓰기 없음)
+ * 선제 메시지 대상은 조건별로 (정렬 키, user_id) 인덱스를 키셋으로 한 번씩만 훑음
+ * (페이지마다 LIMIT에서 멈추므로 전체 실행이 조건별 대상 수에 비례)
+ */
+public interface ChatActivityRepository extends JpaRepository<ChatActivity, Long> {
+
+    /**
+     * 사용자 채팅 기록 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_activity (user_id, last_chat_at, proactive_count) " +
+            "VALUES (:userId, :chatAt, 0) " +
+            "ON DUPLICATE KEY UPDATE last_chat_at = GREATEST(last_chat_at, :chatAt)", nativeQuery = true)
+    int recordChat(@Param("userId") Long userId, @Param("chatAt") LocalDateTime chatAt);
+
+    /**
+     * 여러 사용자의 선제 메시지 기록 반영 (행이 없으면 생성)
+     * 당일 선제 메시지 수는 집계 날짜가 오늘이면 1 증가, 아니면 1로 초기화
+     * (MySQL은 SET 절을 왼쪽부터 적용하므로 proactive_count가 proactive_date 갱신 전 값을 비교)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_activity (user_id, last_chat_at, last_proactive_at, proactive_date, proactive_count) " +
+            "SELECT u.id, :sentAt, :sentAt, :today, 1 FROM `user` u WHERE u.id IN (:userIds) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "proactive_count = IF(proactive_date = :today, proactive_count + 1, 1), " +
+            "proactive_date = :today, " +
+            "last_proactive_at = :sentAt, " +
+            "last_chat_at = GREATEST(last_chat_at, :sentAt)", nativeQuery = true)
+    int recordProactive(@Param("userIds") Collection<Long> userIds,
+                        @Param("sentAt") LocalDateTime sentAt,
+                        @Param("today") LocalDate today);
+
+    /**
+     * 선제 메시지 대상 조회 - 배고픔 (키셋 페이지, idx_reant_fed_at_user 순서)
+     * 오늘 한도에 도달했거나 이번 실행에서 이미 보낸 사용자는 제외
+     * @return [사용자 ID, 마지막 채팅 시각, fed_at]
+     */
+    @Query(value = "SELECT a.user_id, a.last_chat_at, r.fed_at FROM reant r JOIN chat_activity a ON a.user_id = r.user_id " +
+            "WHERE r.fed_at < :hungryFedBefore " +
+            "AND r.fed_at >= :afterFedAt AND (r.fed_at > :afterFedAt OR r.user_id > :afterId) " +
+            "AND (a.proactive_date IS NULL OR a.proactive_date <> :today OR a.proactive_count < :maxPerDay) " +
+            "AND (a.last_proactive_at IS NULL OR a.last_proactive_at < :runStartedAt) " +
+            "ORDER BY r.fed_at, r.user_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findHungryProactiveCandidates(@Param("afterFedAt") LocalDateTime afterFedAt,
+                                                 @Param("afterId") Long afterId,
+                                                 @Param("hungryFedBefore") LocalDateTime hungryFedBefore,
+                                                 @Param("today") LocalDate today,
+                                                 @Param("maxPerDay") int maxPerDay,
+                                                 @Param("runStartedAt") LocalDateTime runStartedAt,
+                                                 @Param("limit") int limit);
+
+    /**
+     * 선제 메시지 대상 조회 - 기분 저하 (키셋 페이지, idx_reant_mood_user 순서)
+     * @return [사용자 ID, 마지막 채팅 시각, mood]
+     */
+    @Query(value = "SELECT a.user_id, a.last_chat_at, r.mood FROM reant r JOIN chat_activity a ON a.user_id = r.user_id " +
+            "WHERE r.mood < :lowMood " +
+            "AND r.mood >= :afterMood AND (r.mood > :afterMood OR r.user_id > :afterId) " +
+            "AND (a.proactive_date IS NULL OR a.proactive_date <> :today OR a.proactive_count < :maxPerDay) " +
+            "AND (a.last_proactive_at IS NULL OR a.last_proactive_at < :runStartedAt) " +
+            "ORDER BY r.mood, r.user_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findLowMoodProactiveCandidates(@Param("afterMood") int afterMood,
+                                                  @Param("afterId") Long afterId,
+                                                  @Param("lowMood") int lowMood,
+                                                  @Param("today") LocalDate today,
+                                                  @Param("maxPerDay") int maxPerDay,
+                                                  @Param("runStartedAt") LocalDateTime runStartedAt,
+                                                  @Param("limit") int limit);
+
+    /**
+     * 선제 메시지 대상 조회 - 비활성 (키셋 페이지, idx_chat_activity_last_chat_user 순서)
+     * @return [사용자 ID, 마지막 채팅 시각]
+     */
+    @Query(value = "SELECT a.user_id, a.last_chat_at FROM chat_activity a JOIN reant r ON r.user_id = a.user_id " +
+            "WHERE a.last_chat_at < :inactiveBefore " +
+            "AND a.last_chat_at >= :afterLastChatAt AND (a.last_chat_at > :afterLastChatAt OR a.user_id > :afterId) " +
+            "AND (a.proactive_date IS NULL OR a.proactive_date <> :today OR a.proactive_count < :maxPerDay) " +
+            "AND (a.last_proactive_at IS NULL OR a.last_proactive_at < :runStartedAt) " +
+            "ORDER BY a.last_chat_at, a.user_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findInactiveProactiveCandidates(@Param("afterLastChatAt") LocalDateTime afterLastChatAt,
+                                                   @Param("afterId") Long afterId,
+                                                   @Param("inactiveBefore") LocalDateTime inactiveBefore,
+                                                   @Param("today") LocalDate today,
+                                                   @Param("maxPerDay") int maxPerDay,
+                                                   @Param("runStartedAt") LocalDateTime runStartedAt,
+                                                   @Param("limit") int limit);
+}
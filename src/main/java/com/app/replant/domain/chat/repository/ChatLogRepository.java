@@ -50,22 +50,4 @@ public interface ChatLogRepository extends JpaRepository<ChatLog, Long> {
      */
     @Query("SELECT COUNT(c) FROM ChatLog c WHERE c.user.id = :userId AND c.createdAt >= :todayStart")
     Long countTodayChatsByUserId(@Param("userId") Long userId, @Param("todayStart") LocalDateTime todayStart);
-
-    /**
-     * 사용자별 마지막 채팅 시간 조회
-     */
-    @Query("SELECT MAX(c.createdAt) FROM ChatLog c WHERE c.user.id = :userId")
-    LocalDateTime findLastChatTimeByUserId(@Param("userId") Long userId);
-
-    /**
-     * 사용자별 오늘 선제 메시지 수 조회 (스팸 방지)
-     */
-    @Query("SELECT COUNT(c) FROM ChatLog c WHERE c.user.id = :userId AND c.isProactive = true AND c.createdAt >= :todayStart")
-    Long countProactiveTodayByUserId(@Param("userId") Long userId, @Param("todayStart") LocalDateTime todayStart);
-
-    /**
-     * 채팅 기록이 있는 사용자 ID 목록 조회
-     */
-    @Query("SELECT DISTINCT c.user.id FROM ChatLog c")
-    List<Long> findDistinctUserIds();
 }
@@ -6,6 +6,7 @@ import com.app.replant.domain.chat.dto.ChatResponse;
 import com.app.replant.domain.chat.entity.ChatLog;
 import com.app.replant.domain.chat.enums.ChatStatus;
 import com.app.replant.domain.chat.enums.LLMProvider;
+import com.app.replant.domain.chat.repository.ChatActivityRepository;
 import com.app.replant.domain.chat.repository.ChatLogRepository;
 import com.app.replant.domain.reant.entity.Reant;
 import com.app.replant.domain.reant.repository.ReantRepository;
@@ -23,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 /**
  * 채팅 서비스
@@ -35,6 +37,7 @@ import java.time.LocalTime;
 public class ChatService {
 
     private final ChatLogRepository chatLogRepository;
+    private final ChatActivityRepository chatActivityRepository;
     private final ReantRepository reantRepository;
     private final UserRepository userRepository;
     private final PromptService promptService;
@@ -74,8 +77,9 @@ public class ChatService {
             finalResponse = defaultResponse;
         }
 
-        // 6. 채팅 로그 저장
+        // 6. 채팅 로그 저장 + 채팅 활동 요약 갱신 (선제 메시지 대상 조회용)
         ChatLog chatLog = saveChatLog(user, reant, request.getMessage(), result, defaultResponse);
+        chatActivityRepository.recordChat(userId, LocalDateTime.now());
 
         // 7. 응답 반환
         return ChatResponse.of(
@@ -94,23 +98,30 @@ public class ChatService {
     }
 
     /**
-     * 리앤트 선제 메시지 생성 (스케줄러에서 호출)
+     * 리앤트 선제 메시지 일괄 생성 (스케줄러에서 호출)
+     * ChatLog INSERT는 flush 시 JDBC 배치로 전송 (pooled ID), 채팅 활동 요약은 한 문장으로 갱신
      */
     @Transactional
-    public void createProactiveMessage(User user, Reant reant, String message) {
-        ChatLog chatLog = ChatLog.builder()
-                .user(user)
-                .reant(reant)
-                .userMessage(null)
-                .aiResponse(message)
-                .llmProvider(LLMProvider.AUTO)
-                .modelName("auto")
-                .status(ChatStatus.SUCCESS)
-                .isProactive(true)
-                .build();
-
-        chatLogRepository.save(chatLog);
-        log.info("[선제메시지] 저장 완료 - userId: {}, reant: {}", user.getId(), reant.getName());
+    public void createProactiveMessages(List<ProactiveMessage> messages, LocalDateTime sentAt) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        chatLogRepository.saveAll(messages.stream()
+                .map(message -> ChatLog.builder()
+                        .user(message.reant().getUser())
+                        .reant(message.reant())
+                        .userMessage(null)
+                        .aiResponse(message.message())
+                        .llmProvider(LLMProvider.AUTO)
+                        .modelName("auto")
+                        .status(ChatStatus.SUCCESS)
+                        .isProactive(true)
+                        .build())
+                .toList());
+        chatActivityRepository.recordProactive(
+                messages.stream().map(message -> message.reant().getUser().getId()).toList(),
+                sentAt, sentAt.toLocalDate());
+        log.info("[선제메시지] 다건 저장 완료 - count: {}", messages.size());
     }
 
     /**
@@ -172,4 +183,6 @@ public class ChatService {
     }
 
     public record ChatStats(Long totalChats, Long errorCount, Long fallbackCount) {}
+
+    public record ProactiveMessage(Reant reant, String message) {}
 }
@@ -2,6 +2,7 @@ package com.app.replant.domain.diary.entity;
 
 import com.app.replant.global.common.SoftDeletableEntity;
 import com.app.replant.domain.user.entity.User;
+import com.app.replant.domain.usermission.service.CalendarSummaryEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import java.time.LocalDate;
         @Index(name = "idx_diary_user_date", columnList = "user_id, date")
 })
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners(CalendarSummaryEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Diary extends SoftDeletableEntity {
@@ -27,6 +27,13 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     @Query("SELECT d FROM Diary d WHERE d.user.id = :userId AND d.date BETWEEN :startDate AND :endDate ORDER BY d.date DESC")
     List<Diary> findByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    /**
+     * 캘린더 요약용 날짜별 감정/기분 조회 (본문 등 큰 컬럼 제외)
+     * @return [날짜, emotion, mood] 목록
+     */
+    @Query("SELECT d.date, d.emotion, d.mood FROM Diary d WHERE d.user.id = :userId AND d.date BETWEEN :startDate AND :endDate")
+    List<Object[]> findMoodByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
     long countByUserId(Long userId);
 
     @Query("SELECT d.emotion, COUNT(d) FROM Diary d WHERE d.user.id = :userId GROUP BY d.emotion")
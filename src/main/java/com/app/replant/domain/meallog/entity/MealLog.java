@@ -5,6 +5,7 @@ import com.app.replant.domain.meallog.enums.MealType;
 import com.app.replant.domain.post.entity.Post;
 import com.app.replant.domain.user.entity.User;
 import com.app.replant.global.common.BaseEntity;
+import com.app.replant.domain.usermission.service.CalendarSummaryEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,12 +25,15 @@ import java.time.LocalDateTime;
         @Index(name = "idx_meal_log_status", columnList = "status")
     }
 )
+@EntityListeners(CalendarSummaryEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MealLog extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meal_log_id")
+    @TableGenerator(name = "meal_log_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "meal_log", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -92,15 +96,15 @@ public class MealLog extends BaseEntity {
     /**
      * 미션 할당 (스케줄러에서 호출)
      */
-    public static MealLog assign(User user, MealType mealType, LocalDate mealDate, int deadlineMinutes) {
-        LocalDateTime now = LocalDateTime.now();
+    public static MealLog assign(User user, MealType mealType, LocalDate mealDate,
+                                 LocalDateTime assignedAt, int deadlineMinutes) {
         return MealLog.builder()
                 .user(user)
                 .mealType(mealType)
                 .mealDate(mealDate)
                 .status(MealLogStatus.ASSIGNED)
-                .assignedAt(now)
-                .deadlineAt(now.plusMinutes(deadlineMinutes))
+                .assignedAt(assignedAt)
+                .deadlineAt(assignedAt.plusMinutes(deadlineMinutes))
                 .expReward(15)
                 .build();
     }
@@ -124,6 +128,18 @@ public class MealLog extends BaseEntity {
         this.status = MealLogStatus.FAILED;
     }
 
+    /**
+     * 마감 시간이 지난 ASSIGNED 미션을 실패 처리 (조회 시 지연 만료)
+     * @return 이번 호출로 실패 처리되었으면 true
+     */
+    public boolean expireIfOverdue() {
+        if (this.status != MealLogStatus.ASSIGNED || !isExpired()) {
+            return false;
+        }
+        this.status = MealLogStatus.FAILED;
+        return true;
+    }
+
     /**
      * 건너뛰기
      */
@@ -4,13 +4,12 @@ import com.app.replant.domain.meallog.entity.MealLog;
 import com.app.replant.domain.meallog.enums.MealLogStatus;
 import com.app.replant.domain.meallog.enums.MealType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,22 +44,16 @@ public interface MealLogRepository extends JpaRepository<MealLog, Long> {
     boolean existsByUserIdAndMealTypeAndMealDate(Long userId, MealType mealType, LocalDate mealDate);
 
     /**
-     * ASSIGNED 상태이면서 마감 시간이 지난 미션 조회 (실패 처리용)
+     * 해당 날짜/식사 타입 기록이 이미 있는 사용자 ID 일괄 조회 (idx_meal_log_user_date)
      */
-    @Query("SELECT m FROM MealLog m WHERE m.status = :status AND m.deadlineAt < :now")
-    List<MealLog> findExpiredMissions(
-            @Param("status") MealLogStatus status,
-            @Param("now") LocalDateTime now
+    @Query("SELECT m.user.id FROM MealLog m WHERE m.user.id IN :userIds " +
+           "AND m.mealDate = :mealDate AND m.mealType = :mealType")
+    List<Long> findUserIdsWithMealLog(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("mealDate") LocalDate mealDate,
+            @Param("mealType") MealType mealType
     );
 
-    /**
-     * 만료된 미션 일괄 실패 처리
-     */
-    @Modifying
-    @Query("UPDATE MealLog m SET m.status = 'FAILED' " +
-           "WHERE m.status = 'ASSIGNED' AND m.deadlineAt < :now")
-    int updateExpiredMissionsToFailed(@Param("now") LocalDateTime now);
-
     /**
      * 특정 사용자의 완료된 식사 수 조회
      */
@@ -78,6 +71,20 @@ public interface MealLogRepository extends JpaRepository<MealLog, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 캘린더 요약용 날짜별 식사 수 집계 (idx_meal_log_user_date)
+     * @return [식사 날짜, 개수] 목록
+     */
+    @Query("SELECT m.mealDate, COUNT(m) FROM MealLog m WHERE m.user.id = :userId " +
+           "AND m.status = :status AND m.mealDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY m.mealDate")
+    List<Object[]> countDailyByUserIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") MealLogStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 특정 사용자의 평균 평점 조회
      */
@@ -7,10 +7,10 @@ import com.app.replant.domain.meallog.enums.MealLogStatus;
 import com.app.replant.domain.meallog.enums.MealType;
 import com.app.replant.domain.meallog.repository.MealLogRepository;
 import com.app.replant.domain.post.entity.Post;
+import com.app.replant.domain.post.event.PostChangedEvent;
 import com.app.replant.domain.post.repository.PostRepository;
 import com.app.replant.domain.notification.entity.Notification;
 import com.app.replant.domain.notification.repository.NotificationRepository;
-import com.app.replant.domain.reant.repository.ReantRepository;
 import com.app.replant.domain.reant.service.ReantService;
 import com.app.replant.domain.user.entity.User;
 import com.app.replant.domain.user.repository.UserRepository;
@@ -18,6 +18,7 @@ import com.app.replant.global.exception.CustomException;
 import com.app.replant.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +26,10 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,38 +41,41 @@ public class MealLogService {
     private final MealLogRepository mealLogRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final ReantRepository reantRepository;
     private final ReantService reantService;
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 식사 인증 마감 시간 (분)
     private static final int MEAL_DEADLINE_MINUTES = 120;  // 2시간
 
     /**
-     * 식사 미션 할당 (스케줄러에서 호출)
+     * 식사 미션 일괄 할당 (식사 미션 스케줄러에서 호출)
+     * - 해당 날짜/식사 기록이 이미 있는 사용자는 한 번에 조회해 제외 (idx_meal_log_user_date)
+     * - MealLog INSERT는 flush 시 JDBC 배치로 전송 (pooled ID)
+     * @return 새로 할당한 식사 기록 (이미 기록이 있던 사용자 제외)
      */
     @Transactional
-    public MealLog assignMealMission(User user, MealType mealType, LocalDate date) {
-        // 이미 해당 날짜/타입에 기록이 있는지 확인
-        Optional<MealLog> existingMealLog = mealLogRepository.findByUserIdAndMealTypeAndMealDate(
-                user.getId(), mealType, date);
-        
-        if (existingMealLog.isPresent()) {
-            MealLog mealLog = existingMealLog.get();
-            log.info("이미 {} {} 식사 미션이 존재합니다. userId={}, mealLogId={}, status={}, assignedAt={}, deadlineAt={}", 
-                    date, mealType.getDisplayName(), user.getId(), mealLog.getId(), 
-                    mealLog.getStatus(), mealLog.getAssignedAt(), mealLog.getDeadlineAt());
-            // 기존 미션이 있으면 그것을 반환 (알림 전송을 위해)
-            return mealLog;
+    public List<MealLog> assignMealMissions(MealType mealType, Collection<Long> userIds, LocalDateTime assignedAt) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDate mealDate = assignedAt.toLocalDate();
+        Set<Long> existingUserIds = new HashSet<>(
+                mealLogRepository.findUserIdsWithMealLog(userIds, mealDate, mealType));
+
+        List<MealLog> mealLogs = userIds.stream()
+                .distinct()
+                .filter(userId -> !existingUserIds.contains(userId))
+                .map(userId -> MealLog.assign(userRepository.getReferenceById(userId), mealType, mealDate,
+                        assignedAt, MEAL_DEADLINE_MINUTES))
+                .toList();
+        if (mealLogs.isEmpty()) {
+            return List.of();
         }
 
-        MealLog mealLog = MealLog.assign(user, mealType, date, MEAL_DEADLINE_MINUTES);
-        MealLog saved = mealLogRepository.save(mealLog);
-        
-        log.info("식사 미션 할당 완료: userId={}, mealType={}, mealLogId={}, assignedAt={}, deadlineAt={}", 
-                user.getId(), mealType.getDisplayName(), saved.getId(), 
-                saved.getAssignedAt(), saved.getDeadlineAt());
-        
+        List<MealLog> saved = mealLogRepository.saveAll(mealLogs);
+        log.info("식사 미션 할당 완료: mealType={}, mealDate={}, 할당={}, 스킵(기존 기록)={}",
+                mealType.getDisplayName(), mealDate, saved.size(), existingUserIds.size());
         return saved;
     }
 
@@ -140,21 +146,18 @@ public class MealLogService {
             // postType을 VERIFICATION으로 변경하고 상태 설정
             post.convertToMealVerification();
             post = postRepository.save(post);
+            eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
             log.info("식사 인증 게시글 자동 생성: userId={}, postId={}", userId, post.getId());
         }
 
         // 인증 처리
         mealLog.verify(post, request.getTitle(), request.getDescription(), request.getRating());
 
-        // 경험치 지급 (리앤트) - N+1 문제 방지를 위해 user를 함께 fetch join
+        // 밥 주기 + 경험치 지급 (리앤트) - 원자적 UPDATE + 캐시 write-through
         int expReward = mealLog.getExpReward();
         try {
-            reantRepository.findByUserIdWithUser(userId)
-                    .ifPresent(reant -> {
-                        reant.addExp(expReward);
-                        reantRepository.save(reant);  // 변경사항 저장
-                        reantService.evictReantCache(userId);  // 캐시 무효화
-                    });
+            reantService.feed(userId);
+            reantService.grantExp(userId, expReward);
             log.info("식사 인증 경험치 지급: userId={}, exp={}", userId, expReward);
         } catch (Exception e) {
             log.warn("식사 인증 경험치 지급 실패: userId={}, error={}", userId, e.getMessage());
@@ -202,14 +205,20 @@ public class MealLogService {
     /**
      * 현재 진행 중인 식사 미션 상태 조회
      * 오늘 날짜의 ASSIGNED 상태 미션을 조회하거나, 없으면 오늘 날짜의 가장 최근 미션을 조회
+     * 마감 시간이 지난 미션은 조회 시점에 실패 처리 (주기적 만료 스캔 없음)
      */
+    @Transactional
     public MealLogResponse.Status getCurrentMealMissionStatus(Long userId) {
         LocalDate today = LocalDate.now();
         
-        // 먼저 오늘 날짜의 ASSIGNED 상태 미션 조회
+        // 먼저 오늘 날짜의 ASSIGNED 상태 미션 조회 (마감 지난 미션은 여기서 실패 처리)
         List<MealLog> todayAssignedMissions = mealLogRepository.findCurrentAssignedMissions(userId, today);
-        if (!todayAssignedMissions.isEmpty()) {
-            MealLog latestMission = todayAssignedMissions.get(0); // 가장 최근 미션
+        expireOverdue(todayAssignedMissions);
+        MealLog latestMission = todayAssignedMissions.stream() // 가장 최근 미션
+                .filter(mealLog -> mealLog.getStatus() == MealLogStatus.ASSIGNED)
+                .findFirst()
+                .orElse(null);
+        if (latestMission != null) {
             log.info("오늘 할당된 식사 미션 조회: userId={}, mealLogId={}, status={}, mealType={}", 
                     userId, latestMission.getId(), latestMission.getStatus(), latestMission.getMealType());
             return MealLogResponse.Status.from(latestMission);
@@ -219,7 +228,7 @@ public class MealLogService {
         List<MealLog> todayMissions = mealLogRepository.findByUserIdAndMealDateOrderByMealType(userId, today);
         if (!todayMissions.isEmpty()) {
             // 가장 최근에 할당된 미션 반환
-            MealLog latestMission = todayMissions.stream()
+            latestMission = todayMissions.stream()
                     .max(java.util.Comparator.comparing(MealLog::getAssignedAt))
                     .orElse(null);
             if (latestMission != null) {
@@ -236,16 +245,20 @@ public class MealLogService {
     /**
      * 특정 날짜의 식사 기록 조회
      */
+    @Transactional
     public MealLogResponse.Daily getDailyMealLogs(Long userId, LocalDate date) {
         List<MealLog> mealLogs = mealLogRepository.findByUserIdAndMealDateOrderByMealType(userId, date);
+        expireOverdue(mealLogs);
         return MealLogResponse.Daily.from(date, mealLogs);
     }
 
     /**
      * 날짜 범위의 식사 기록 조회 (캘린더용)
      */
+    @Transactional
     public List<MealLogResponse.Daily> getMealLogsByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         List<MealLog> mealLogs = mealLogRepository.findByUserIdAndMealDateBetween(userId, startDate, endDate);
+        expireOverdue(mealLogs);
         
         // 날짜별로 그룹핑
         return mealLogs.stream()
@@ -287,6 +300,7 @@ public class MealLogService {
     /**
      * 특정 식사 기록 상세 조회
      */
+    @Transactional
     public MealLogResponse.Detail getMealLogDetail(Long userId, Long mealLogId) {
         MealLog mealLog = mealLogRepository.findById(mealLogId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MISSION_NOT_FOUND));
@@ -294,6 +308,7 @@ public class MealLogService {
         if (!mealLog.isOwner(userId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
+        expireOverdue(List.of(mealLog));
 
         return MealLogResponse.Detail.from(mealLog);
     }
@@ -306,15 +321,16 @@ public class MealLogService {
     }
 
     /**
-     * 만료된 미션 일괄 실패 처리 (스케줄러에서 호출)
+     * 마감 시간이 지난 ASSIGNED 기록을 조회 시점에 실패 처리 (지연 만료)
+     * 주기적 전체 스캔 대신 읽히는 기록만 처리하며, 변경된 기록만 dirty checking으로 UPDATE
      */
-    @Transactional
-    public int processExpiredMissions() {
-        int updated = mealLogRepository.updateExpiredMissionsToFailed(LocalDateTime.now());
-        if (updated > 0) {
-            log.info("만료된 식사 미션 {}개 실패 처리 완료", updated);
+    private void expireOverdue(List<MealLog> mealLogs) {
+        for (MealLog mealLog : mealLogs) {
+            if (mealLog.expireIfOverdue()) {
+                log.info("식사 미션 시간 초과 실패 처리: mealLogId={}, deadlineAt={}",
+                        mealLog.getId(), mealLog.getDeadlineAt());
+            }
         }
-        return updated;
     }
 
     /**
@@ -9,7 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class MissionResponse {
     private Long id;
     private MissionType missionType;  // OFFICIAL or CUSTOM
@@ -16,7 +16,9 @@ import java.util.List;
 @Table(name = "mission", indexes = {
     @Index(name = "idx_mission_type", columnList = "mission_type"),
     @Index(name = "idx_mission_creator", columnList = "creator_id"),
-    @Index(name = "idx_mission_is_active", columnList = "is_active")
+    @Index(name = "idx_mission_is_active", columnList = "is_active"),
+    @Index(name = "idx_mission_creator_selectable", columnList = "creator_id, mission_type, is_active, created_at, id"),
+    @Index(name = "idx_mission_public_selectable", columnList = "mission_type, is_public, is_active, created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,37 @@
+package com.app.replant.domain.mission.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미션별 통계 (참여자 수, 리뷰 수, 완료 수)
+ * - user_mission / mission_review 를 매번 집계하지 않도록 쓰기 시점에 증분 갱신
+ * - 참여자 수는 mission_participant (mission_id, user_id) 고유 집합에 처음 추가될 때만 증가
+ * - 값은 MissionStatsReconciliationScheduler가 주기적으로 원본 테이블과 재동기화
+ */
+@Entity
+@Table(name = "mission_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MissionStats {
+
+    @Id
+    @Column(name = "mission_id")
+    private Long missionId;
+
+    @Column(name = "participant_count", nullable = false)
+    private Long participantCount = 0L;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    @Column(name = "completion_count", nullable = false)
+    private Long completionCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.app.replant.domain.mission.event;
+
+import com.app.replant.domain.mission.enums.MissionType;
+
+import java.util.List;
+
+/**
+ * 미션 변경 이벤트
+ * 미션이 생성/수정/삭제/활성화 토글될 때 발행되며,
+ * 트랜잭션 커밋 이후 인메모리 미션 카탈로그 등을 갱신하는 데 사용됩니다.
+ */
+public record MissionChangedEvent(List<Long> missionIds, MissionType missionType, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static MissionChangedEvent created(List<Long> missionIds, MissionType missionType) {
+        return new MissionChangedEvent(missionIds, missionType, ChangeType.CREATED);
+    }
+
+    public static MissionChangedEvent updated(Long missionId, MissionType missionType) {
+        return new MissionChangedEvent(List.of(missionId), missionType, ChangeType.UPDATED);
+    }
+
+    public static MissionChangedEvent deleted(Long missionId, MissionType missionType) {
+        return new MissionChangedEvent(List.of(missionId), missionType, ChangeType.DELETED);
+    }
+
+    public boolean isOfficial() {
+        return missionType == MissionType.OFFICIAL;
+    }
+}
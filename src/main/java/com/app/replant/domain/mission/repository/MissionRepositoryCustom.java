@@ -5,6 +5,7 @@ import com.app.replant.domain.mission.enums.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -117,41 +118,23 @@ public interface MissionRepositoryCustom {
     // 투두리스트용 쿼리
     // ============================================
 
-    /**
-     * 랜덤 공식 미션 조회 (투두리스트용)
-     * Native query는 EntityManager를 사용하여 구현
-     */
-    List<Mission> findRandomOfficialNonChallengeMissions(int count);
-
-    /**
-     * 랜덤 공식 미션 조회 (투두리스트용, 특정 카테고리만)
-     */
-    List<Mission> findRandomOfficialNonChallengeMissionsByCategory(int count, MissionCategory category);
-
-    /**
-     * 랜덤 공식 미션 1개 조회 (리롤용, 특정 미션 ID 제외)
-     * Native query는 EntityManager를 사용하여 구현
-     */
-    Optional<Mission> findRandomOfficialNonChallengeMissionExcluding(List<Long> excludeMissionIds);
+    // 랜덤 공식 미션 선택은 인메모리 카탈로그 기반 MissionRandomSampler 사용 (ORDER BY RAND() 제거)
 
     /**
-     * 랜덤 공식 미션 1개 조회 (리롤용, 특정 미션 ID 제외, 특정 카테고리만)
+     * 투두리스트에 추가할 수 있는 커스텀 미션 커서 조회 (작성 시각 최신순, id 보조 정렬)
+     * @param mine true면 본인이 만든 미션, false면 다른 사람의 공개 미션 (본인 미션과 겹치지 않음)
+     * @param keyword 제목/설명 부분 일치 검색어 (색인을 쓸 수 없을 때만, null이면 무시)
+     * @param limit 조회 개수 (다음 페이지 판단용으로 size + 1 전달)
      */
-    Optional<Mission> findRandomOfficialNonChallengeMissionExcludingByCategory(List<Long> excludeMissionIds, MissionCategory category);
+    List<Mission> findSelectableCustomMissionSlice(Long userId, boolean mine, String keyword,
+                                                   LocalDateTime cursorCreatedAt, Long cursorId,
+                                                   int limit);
 
-    /**
-     * 랜덤 공식 미션 조회 (투두리스트용, 여러 카테고리 중 하나)
-     */
-    List<Mission> findRandomOfficialNonChallengeMissionsByCategories(int count, List<MissionCategory> categories);
+    List<Mission> findByIdIn(List<Long> missionIds);
 
     /**
-     * 랜덤 공식 미션 1개 조회 (리롤용, 특정 미션 ID 제외, 여러 카테고리 중 하나)
+     * 검색 인덱스 적재용 미션 조회 (ageRanges fetch join)
+     * @param missionIds 조회할 미션 ID (null이면 전체 미션)
      */
-    Optional<Mission> findRandomOfficialNonChallengeMissionExcludingByCategories(List<Long> excludeMissionIds, List<MissionCategory> categories);
-
-    List<Mission> findNonChallengeCustomMissionsByCreator(Long creatorId);
-
-    List<Mission> findAllPublicNonChallengeCustomMissions();
-
-    List<Mission> findByIdIn(List<Long> missionIds);
+    List<Mission> findForSearchIndex(List<Long> missionIds);
 }
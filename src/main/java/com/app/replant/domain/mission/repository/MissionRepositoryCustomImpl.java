@@ -8,13 +8,13 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -414,187 +414,58 @@ public class MissionRepositoryCustomImpl implements MissionRepositoryCustom {
     // ============================================
 
     @Override
-    public List<Mission> findRandomOfficialNonChallengeMissions(int count) {
-        // Native query는 EntityManager 사용
-        String sql = "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' " +
-                    "AND m.is_active = true " +
-                    "ORDER BY RAND() LIMIT :count";
-        Query query = entityManager.createNativeQuery(sql, Mission.class);
-        query.setParameter("count", count);
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results;
-    }
-
-    @Override
-    public List<Mission> findRandomOfficialNonChallengeMissionsByCategory(int count, MissionCategory category) {
-        if (category == null) {
-            return findRandomOfficialNonChallengeMissions(count);
-        }
-        String sql = "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' " +
-                    "AND m.is_active = true AND m.category = :category " +
-                    "ORDER BY RAND() LIMIT :count";
-        Query query = entityManager.createNativeQuery(sql, Mission.class);
-        query.setParameter("category", category.name());
-        query.setParameter("count", count);
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results;
-    }
-
-    @Override
-    public Optional<Mission> findRandomOfficialNonChallengeMissionExcluding(List<Long> excludeMissionIds) {
-        // Native query는 EntityManager 사용
-        StringBuilder sql = new StringBuilder(
-            "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' " +
-            "AND m.is_active = true "
-        );
-        
-        // 제외할 미션 ID가 있으면 조건 추가
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            sql.append("AND m.id NOT IN (");
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                if (i > 0) sql.append(",");
-                sql.append(":excludeId").append(i);
-            }
-            sql.append(") ");
-        }
-        
-        sql.append("ORDER BY RAND() LIMIT 1");
-        
-        Query query = entityManager.createNativeQuery(sql.toString(), Mission.class);
-        
-        // 제외할 미션 ID 파라미터 설정
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                query.setParameter("excludeId" + i, excludeMissionIds.get(i));
-            }
-        }
-        
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
-    }
-
-    @Override
-    public Optional<Mission> findRandomOfficialNonChallengeMissionExcludingByCategory(List<Long> excludeMissionIds, MissionCategory category) {
-        if (category == null) {
-            return findRandomOfficialNonChallengeMissionExcluding(excludeMissionIds);
-        }
-        StringBuilder sql = new StringBuilder(
-            "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' " +
-            "AND m.is_active = true AND m.category = :category "
-        );
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            sql.append("AND m.id NOT IN (");
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                if (i > 0) sql.append(",");
-                sql.append(":excludeId").append(i);
-            }
-            sql.append(") ");
-        }
-        sql.append("ORDER BY RAND() LIMIT 1");
-        Query query = entityManager.createNativeQuery(sql.toString(), Mission.class);
-        query.setParameter("category", category.name());
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                query.setParameter("excludeId" + i, excludeMissionIds.get(i));
-            }
-        }
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
-    }
-
-    @Override
-    public List<Mission> findRandomOfficialNonChallengeMissionsByCategories(int count, List<MissionCategory> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return findRandomOfficialNonChallengeMissions(count);
-        }
-        StringBuilder sql = new StringBuilder(
-            "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' AND m.is_active = true AND m.category IN ("
-        );
-        for (int i = 0; i < categories.size(); i++) {
-            if (i > 0) sql.append(",");
-            sql.append(":cat").append(i);
-        }
-        sql.append(") ORDER BY RAND() LIMIT :count");
-        Query query = entityManager.createNativeQuery(sql.toString(), Mission.class);
-        for (int i = 0; i < categories.size(); i++) {
-            query.setParameter("cat" + i, categories.get(i).name());
-        }
-        query.setParameter("count", count);
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results;
-    }
-
-    @Override
-    public Optional<Mission> findRandomOfficialNonChallengeMissionExcludingByCategories(List<Long> excludeMissionIds, List<MissionCategory> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return findRandomOfficialNonChallengeMissionExcluding(excludeMissionIds);
-        }
-        StringBuilder sql = new StringBuilder(
-            "SELECT * FROM mission m WHERE m.mission_type = 'OFFICIAL' AND m.is_active = true AND m.category IN ("
-        );
-        for (int i = 0; i < categories.size(); i++) {
-            if (i > 0) sql.append(",");
-            sql.append(":cat").append(i);
-        }
-        sql.append(") ");
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            sql.append("AND m.id NOT IN (");
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                if (i > 0) sql.append(",");
-                sql.append(":excludeId").append(i);
+    public List<Mission> findSelectableCustomMissionSlice(Long userId, boolean mine, String keyword,
+                                                          LocalDateTime cursorCreatedAt, Long cursorId,
+                                                          int limit) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(isCustom());
+        builder.and(isActive());
+        if (mine) {
+            builder.and(mission.creator.id.eq(userId));
+        } else {
+            builder.and(mission.isPublic.isTrue());
+            if (userId != null) {
+                builder.and(mission.creator.id.isNull().or(mission.creator.id.ne(userId)));
             }
-            sql.append(") ");
         }
-        sql.append("ORDER BY RAND() LIMIT 1");
-        Query query = entityManager.createNativeQuery(sql.toString(), Mission.class);
-        for (int i = 0; i < categories.size(); i++) {
-            query.setParameter("cat" + i, categories.get(i).name());
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(mission.title.containsIgnoreCase(keyword)
+                    .or(mission.description.containsIgnoreCase(keyword)));
         }
-        if (excludeMissionIds != null && !excludeMissionIds.isEmpty()) {
-            for (int i = 0; i < excludeMissionIds.size(); i++) {
-                query.setParameter("excludeId" + i, excludeMissionIds.get(i));
-            }
+        if (cursorCreatedAt != null && cursorId != null) {
+            builder.and(mission.createdAt.lt(cursorCreatedAt)
+                    .or(mission.createdAt.eq(cursorCreatedAt).and(mission.id.lt(cursorId))));
         }
-        @SuppressWarnings("unchecked")
-        List<Mission> results = query.getResultList();
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
-    }
 
-    @Override
-    public List<Mission> findNonChallengeCustomMissionsByCreator(Long creatorId) {
         return queryFactory
                 .selectFrom(mission)
-                .where(isCustom()
-                        .and(mission.creator.id.eq(creatorId))
-                        .and(isActive()))
-                .orderBy(mission.createdAt.desc())
+                .where(builder)
+                .orderBy(mission.createdAt.desc(), mission.id.desc())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<Mission> findAllPublicNonChallengeCustomMissions() {
+    public List<Mission> findByIdIn(List<Long> missionIds) {
+        if (missionIds == null || missionIds.isEmpty()) {
+            return List.of();
+        }
         return queryFactory
                 .selectFrom(mission)
-                .where(isCustom()
-                        .and(isActive())
-                        .and(mission.isPublic.isTrue()))
-                .orderBy(mission.createdAt.desc())
+                .where(mission.id.in(missionIds))
                 .fetch();
     }
 
     @Override
-    public List<Mission> findByIdIn(List<Long> missionIds) {
-        if (missionIds == null || missionIds.isEmpty()) {
+    public List<Mission> findForSearchIndex(List<Long> missionIds) {
+        if (missionIds != null && missionIds.isEmpty()) {
             return List.of();
         }
         return queryFactory
                 .selectFrom(mission)
-                .where(mission.id.in(missionIds))
+                .leftJoin(mission.ageRanges).fetchJoin()
+                .where(missionIds != null ? mission.id.in(missionIds) : null)
+                .distinct()
                 .fetch();
     }
 
@@ -0,0 +1,121 @@
+package com.app.replant.domain.mission.repository;
+
+import com.app.replant.domain.mission.entity.MissionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 미션 통계 Repository
+ * 카운터는 모두 원자적 SQL 증감으로 갱신 (엔티티 읽기-수정-쓰기 없음)
+ */
+public interface MissionStatsRepository extends JpaRepository<MissionStats, Long> {
+
+    @Query("SELECT s FROM MissionStats s WHERE s.missionId IN :missionIds")
+    List<MissionStats> findByMissionIdIn(@Param("missionIds") Collection<Long> missionIds);
+
+    /**
+     * 미션 참여자 고유 집합에 추가
+     * @return 새로 추가되었으면 1, 이미 참여한 사용자면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mission_participant (mission_id, user_id, created_at) " +
+            "VALUES (:missionId, :userId, NOW())", nativeQuery = true)
+    int insertParticipantIfAbsent(@Param("missionId") Long missionId, @Param("userId") Long userId);
+
+    /**
+     * 사용자가 이미 참여한 미션 ID (다건 할당 시 신규 참여 판단용)
+     */
+    @Query(value = "SELECT mission_id FROM mission_participant " +
+            "WHERE user_id = :userId AND mission_id IN (:missionIds)", nativeQuery = true)
+    List<Long> findParticipatedMissionIds(@Param("userId") Long userId,
+                                          @Param("missionIds") Collection<Long> missionIds);
+
+    /**
+     * 미션에 이미 참여한 사용자 ID (한 미션을 여러 사용자에게 할당할 때 신규 참여 판단용)
+     */
+    @Query(value = "SELECT user_id FROM mission_participant " +
+            "WHERE mission_id = :missionId AND user_id IN (:userIds)", nativeQuery = true)
+    List<Long> findParticipantUserIds(@Param("missionId") Long missionId,
+                                      @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 한 미션의 참여자 집합에 여러 사용자를 한 번에 추가
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mission_participant (mission_id, user_id, created_at) " +
+            "SELECT :missionId, u.id, NOW() FROM `user` u WHERE u.id IN (:userIds)", nativeQuery = true)
+    int insertParticipantUsersIfAbsent(@Param("missionId") Long missionId,
+                                       @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 여러 미션의 참여자 수를 1씩 증가 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mission_stats (mission_id, participant_count, review_count, completion_count, updated_at) " +
+            "SELECT m.id, 1, 0, 0, NOW() FROM mission m WHERE m.id IN (:missionIds) " +
+            "ON DUPLICATE KEY UPDATE participant_count = participant_count + 1, updated_at = NOW()", nativeQuery = true)
+    int incrementParticipantCounts(@Param("missionIds") Collection<Long> missionIds);
+
+    /**
+     * 통계 행 증감 (행이 없으면 생성, 음수로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mission_stats (mission_id, participant_count, review_count, completion_count, updated_at) " +
+            "VALUES (:missionId, GREATEST(:participantDelta, 0), GREATEST(:reviewDelta, 0), GREATEST(:completionDelta, 0), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "participant_count = GREATEST(participant_count + :participantDelta, 0), " +
+            "review_count = GREATEST(review_count + :reviewDelta, 0), " +
+            "completion_count = GREATEST(completion_count + :completionDelta, 0), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int incrementCounts(@Param("missionId") Long missionId,
+                        @Param("participantDelta") long participantDelta,
+                        @Param("reviewDelta") long reviewDelta,
+                        @Param("completionDelta") long completionDelta);
+
+    // ============ 재동기화 (원본 테이블 기준) ============
+
+    @Query(value = "SELECT id FROM mission WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findMissionIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * user_mission에 존재하지만 참여자 집합에 빠진 (미션, 사용자) 추가
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mission_participant (mission_id, user_id, created_at) " +
+            "SELECT DISTINCT um.mission_id, um.user_id, NOW() FROM user_mission um " +
+            "WHERE um.mission_id IN (:missionIds)", nativeQuery = true)
+    int insertMissingParticipants(@Param("missionIds") Collection<Long> missionIds);
+
+    /**
+     * user_mission 삭제 등으로 더 이상 존재하지 않는 참여 기록 제거
+     */
+    @Modifying
+    @Query(value = "DELETE mp FROM mission_participant mp " +
+            "WHERE mp.mission_id IN (:missionIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM user_mission um " +
+            "WHERE um.mission_id = mp.mission_id AND um.user_id = mp.user_id)", nativeQuery = true)
+    int deleteStaleParticipants(@Param("missionIds") Collection<Long> missionIds);
+
+    /**
+     * 참여자/리뷰/완료 수를 원본 테이블 기준으로 다시 계산하여 덮어쓰기
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mission_stats (mission_id, participant_count, review_count, completion_count, updated_at) " +
+            "SELECT m.id, " +
+            "(SELECT COUNT(*) FROM mission_participant mp WHERE mp.mission_id = m.id), " +
+            "(SELECT COUNT(*) FROM mission_review mr WHERE mr.mission_id = m.id), " +
+            "(SELECT COUNT(*) FROM user_mission um WHERE um.mission_id = m.id AND um.status = 'COMPLETED'), " +
+            "NOW() " +
+            "FROM mission m WHERE m.id IN (:missionIds) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "participant_count = VALUES(participant_count), " +
+            "review_count = VALUES(review_count), " +
+            "completion_count = VALUES(completion_count), " +
+            "updated_at = NOW()", nativeQuery = true)
+    int recalculate(@Param("missionIds") Collection<Long> missionIds);
+}
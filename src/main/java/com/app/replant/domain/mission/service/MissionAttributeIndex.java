@@ -0,0 +1,115 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.dto.MissionResponse;
+import com.app.replant.domain.mission.enums.*;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공식 미션 카탈로그 속성 비트맵 색인 (불변)
+ * - 비트 i = 스냅샷 missions 목록의 i번째 미션 (id 내림차순)
+ * - 속성 값마다 비트셋 하나, 성별/지역은 ALL 미션을 각 값의 비트셋에 미리 합쳐 둠
+ * - 필터 조합은 비트셋 AND로 계산되며 cardinality가 곧 전체 개수
+ */
+final class MissionAttributeIndex {
+
+    private final int size;
+    private final Map<MissionCategory, BitSet> byCategory;
+    private final Map<VerificationType, BitSet> byVerificationType;
+    private final Map<WorryType, BitSet> byWorryType;
+    private final Map<AgeRange, BitSet> byAgeRange;
+    private final Map<GenderType, BitSet> byGenderType;
+    private final Map<RegionType, BitSet> byRegionType;
+    private final Map<DifficultyLevel, BitSet> byDifficultyLevel;
+
+    MissionAttributeIndex(List<MissionResponse> missions) {
+        this.size = missions.size();
+        this.byCategory = index(missions, MissionCategory.class, MissionResponse::getCategory);
+        this.byVerificationType = index(missions, VerificationType.class, MissionResponse::getVerificationType);
+        this.byWorryType = index(missions, WorryType.class, MissionResponse::getWorryType);
+        this.byDifficultyLevel = index(missions, DifficultyLevel.class, MissionResponse::getDifficultyLevel);
+        this.byGenderType = foldAll(index(missions, GenderType.class, MissionResponse::getGenderType), GenderType.ALL);
+        this.byRegionType = foldAll(index(missions, RegionType.class, MissionResponse::getRegionType), RegionType.ALL);
+
+        Map<AgeRange, BitSet> ageRanges = new EnumMap<>(AgeRange.class);
+        for (int i = 0; i < missions.size(); i++) {
+            List<AgeRange> values = missions.get(i).getAgeRanges();
+            if (values == null) {
+                continue;
+            }
+            for (AgeRange value : values) {
+                if (value != null) {
+                    ageRanges.computeIfAbsent(value, key -> new BitSet(size)).set(i);
+                }
+            }
+        }
+        this.byAgeRange = ageRanges;
+    }
+
+    /**
+     * 조건에 맞는 미션 비트셋 (null 조건은 무시, 반환값은 호출 측 소유)
+     */
+    BitSet filter(MissionCategory category,
+                  VerificationType verificationType,
+                  WorryType worryType,
+                  AgeRange ageRange,
+                  GenderType genderType,
+                  RegionType regionType,
+                  DifficultyLevel difficultyLevel) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        and(result, byCategory, category);
+        and(result, byVerificationType, verificationType);
+        and(result, byWorryType, worryType);
+        and(result, byAgeRange, ageRange);
+        and(result, byGenderType, genderType);
+        and(result, byRegionType, regionType);
+        and(result, byDifficultyLevel, difficultyLevel);
+        return result;
+    }
+
+    private static <E extends Enum<E>> void and(BitSet result, Map<E, BitSet> index, E value) {
+        if (value == null || result.isEmpty()) {
+            return;
+        }
+        BitSet bits = index.get(value);
+        if (bits == null) {
+            result.clear();
+        } else {
+            result.and(bits);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, BitSet> index(List<MissionResponse> missions, Class<E> type,
+                                                           Function<MissionResponse, E> attribute) {
+        Map<E, BitSet> index = new EnumMap<>(type);
+        for (int i = 0; i < missions.size(); i++) {
+            E value = attribute.apply(missions.get(i));
+            if (value != null) {
+                index.computeIfAbsent(value, key -> new BitSet(missions.size())).set(i);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 각 값의 비트셋에 ALL 미션을 OR (값 = v 조건은 v 또는 ALL 로 등록된 미션과 일치)
+     */
+    private static <E extends Enum<E>> Map<E, BitSet> foldAll(Map<E, BitSet> index, E all) {
+        BitSet allBits = index.get(all);
+        if (allBits == null) {
+            return index;
+        }
+        Map<E, BitSet> folded = new EnumMap<>(all.getDeclaringClass());
+        for (E value : all.getDeclaringClass().getEnumConstants()) {
+            BitSet bits = index.containsKey(value) ? (BitSet) index.get(value).clone() : new BitSet();
+            bits.or(allBits);
+            folded.put(value, bits);
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,111 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.dto.MissionResponse;
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.event.MissionChangedEvent;
+import com.app.replant.domain.mission.repository.MissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 공식 미션 카탈로그
+ * - 활성 공식 미션 전체를 불변 스냅샷으로 보관하고, 변경 시 새 스냅샷으로 원자적으로 교체
+ * - 관리자 미션 변경(MissionChangedEvent) 커밋 이후 재빌드
+ * - 다중 인스턴스 환경을 고려해 주기적으로도 재빌드 (기본 5분)
+ */
+@Slf4j
+@Component
+public class MissionCatalog {
+
+    private final MissionRepository missionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<MissionCatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public MissionCatalog(MissionRepository missionRepository, PlatformTransactionManager transactionManager) {
+        this.missionRepository = missionRepository;
+        // AFTER_COMMIT 시점에도 새 트랜잭션에서 조회하도록 REQUIRES_NEW 사용
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷 조회 (아직 빌드되지 않았으면 즉시 빌드)
+     */
+    public MissionCatalogSnapshot current() {
+        MissionCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return refresh();
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 활성 공식 미션을 다시 읽어 스냅샷 교체
+     * 빌드 실패 시 기존 스냅샷을 유지
+     */
+    public synchronized MissionCatalogSnapshot refresh() {
+        try {
+            List<MissionResponse> missions = readOnlyTransaction.execute(status -> {
+                // ageRanges fetch join 포함 (한 번의 쿼리로 전체 로드)
+                List<Mission> activeOfficialMissions = missionRepository
+                        .findMissions(null, null, Pageable.unpaged())
+                        .getContent();
+                return activeOfficialMissions.stream()
+                        .map(mission -> MissionResponse.from(mission, false, false, null))
+                        .collect(Collectors.toList());
+            });
+
+            MissionCatalogSnapshot rebuilt = new MissionCatalogSnapshot(versionSequence.incrementAndGet(), missions);
+            snapshot.set(rebuilt);
+            log.info("[미션 카탈로그] 스냅샷 재빌드 완료 - version: {}, 미션 수: {}", rebuilt.getVersion(), rebuilt.size());
+            return rebuilt;
+        } catch (Exception e) {
+            log.error("[미션 카탈로그] 스냅샷 재빌드 실패 - 기존 스냅샷 유지", e);
+            MissionCatalogSnapshot current = snapshot.get();
+            return current != null ? current : MissionCatalogSnapshot.empty();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 공식 미션 변경 커밋 이후 재빌드
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMissionChanged(MissionChangedEvent event) {
+        if (!event.isOfficial()) {
+            return;
+        }
+        log.info("[미션 카탈로그] 공식 미션 변경 감지 - type: {}, missionIds: {}", event.changeType(), event.missionIds());
+        refresh();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 내용 반영용 주기 재빌드
+     */
+    @Scheduled(fixedDelayString = "${mission.catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${mission.catalog.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+}
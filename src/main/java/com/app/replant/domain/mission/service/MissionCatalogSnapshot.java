@@ -0,0 +1,123 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.dto.MissionResponse;
+import com.app.replant.domain.mission.enums.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 공식 미션 카탈로그 스냅샷 (불변)
+ * - 미션 도감 목록 조회 시 DB 전체 조회 대신 사용
+ * - 관리자가 미션을 변경하면 새 스냅샷으로 통째로 교체되며, 기존 스냅샷은 수정되지 않음
+ * - missions는 id 내림차순으로 정렬되어 있음 (기존 findMissions 정렬과 동일)
+ * - 랜덤 미션 선택용으로 전체/카테고리별 미션 ID 배열을 함께 보관
+ * - 다중 필터 조회용 속성 비트맵 색인(MissionAttributeIndex)을 함께 보관
+ */
+@Getter
+public final class MissionCatalogSnapshot {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final List<MissionResponse> missions;
+
+    @Getter(AccessLevel.NONE)
+    private final long[] missionIds;
+    @Getter(AccessLevel.NONE)
+    private final Map<MissionCategory, long[]> missionIdsByCategory;
+    @Getter(AccessLevel.NONE)
+    private final MissionAttributeIndex attributeIndex;
+
+    MissionCatalogSnapshot(long version, List<MissionResponse> missions) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+        this.missions = Collections.unmodifiableList(new ArrayList<>(missions));
+
+        this.missionIds = this.missions.stream().mapToLong(MissionResponse::getId).toArray();
+        Map<MissionCategory, List<Long>> grouped = new EnumMap<>(MissionCategory.class);
+        for (MissionResponse mission : this.missions) {
+            if (mission.getCategory() != null) {
+                grouped.computeIfAbsent(mission.getCategory(), key -> new ArrayList<>()).add(mission.getId());
+            }
+        }
+        Map<MissionCategory, long[]> byCategory = new EnumMap<>(MissionCategory.class);
+        grouped.forEach((category, ids) -> byCategory.put(category, ids.stream().mapToLong(Long::longValue).toArray()));
+        this.missionIdsByCategory = Collections.unmodifiableMap(byCategory);
+        this.attributeIndex = new MissionAttributeIndex(this.missions);
+    }
+
+    static MissionCatalogSnapshot empty() {
+        return new MissionCatalogSnapshot(0L, List.of());
+    }
+
+    /**
+     * 카테고리/인증방식 필터 적용 (null이면 해당 조건 무시)
+     */
+    public List<MissionResponse> findMissions(MissionCategory category, VerificationType verificationType) {
+        if (category == null && verificationType == null) {
+            return missions;
+        }
+        BitSet matched = filter(category, verificationType, null, null, null, null, null);
+        return slice(matched, 0, matched.cardinality());
+    }
+
+    /**
+     * 사용자 맞춤 필터 조합에 맞는 미션 비트셋 (null 조건은 무시)
+     * 성별/지역은 ALL로 등록된 미션을 포함하며, cardinality()가 전체 개수
+     */
+    public BitSet filter(MissionCategory category,
+                         VerificationType verificationType,
+                         WorryType worryType,
+                         AgeRange ageRange,
+                         GenderType genderType,
+                         RegionType regionType,
+                         DifficultyLevel difficultyLevel) {
+        return attributeIndex.filter(category, verificationType, worryType, ageRange, genderType, regionType, difficultyLevel);
+    }
+
+    /**
+     * 비트셋에서 offset번째부터 최대 limit개의 미션 (id 내림차순 유지)
+     */
+    public List<MissionResponse> slice(BitSet matched, long offset, int limit) {
+        List<MissionResponse> result = new ArrayList<>(Math.max(0, Math.min(limit, matched.cardinality())));
+        long skipped = 0;
+        for (int i = matched.nextSetBit(0); i >= 0 && result.size() < limit; i = matched.nextSetBit(i + 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(missions.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 랜덤 선택 후보 ID 배열 목록 (카테고리가 없으면 전체, 있으면 카테고리별 배열의 합집합)
+     * 배열은 공유되므로 호출 측에서 수정하면 안 됨
+     */
+    List<long[]> candidateIdArrays(Collection<MissionCategory> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of(missionIds);
+        }
+        List<long[]> arrays = new ArrayList<>();
+        for (MissionCategory category : EnumSet.copyOf(categories)) {
+            long[] ids = missionIdsByCategory.get(category);
+            if (ids != null && ids.length > 0) {
+                arrays.add(ids);
+            }
+        }
+        return arrays;
+    }
+
+    public int size() {
+        return missions.size();
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.enums.MissionCategory;
+import com.app.replant.domain.mission.repository.MissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 공식 미션 선택기 (투두리스트 초기화/리롤용)
+ * - ORDER BY RAND() 대신 MissionCatalog 스냅샷의 활성 공식 미션 ID 배열에서 무작위 인덱스를 뽑음
+ * - 제외 ID/중복은 거절 후 다시 뽑으므로 기대 비용은 O(k) (카탈로그 크기와 무관)
+ * - 제외 비율이 높아 거절이 반복되면 남은 후보만 모아 섞는 방식으로 전환
+ * - 선택된 ID는 findByIdIn 한 번으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionRandomSampler {
+
+    // 뽑을 개수 대비 최대 시도 배수 (초과 시 후보 목록 방식으로 전환)
+    private static final int MAX_ATTEMPTS_PER_PICK = 8;
+
+    private final MissionCatalog missionCatalog;
+    private final MissionRepository missionRepository;
+
+    /**
+     * 랜덤 공식 미션 조회
+     * @param count 조회할 개수
+     * @param categories 후보 카테고리 (null 또는 비어 있으면 전체)
+     * @param excludeMissionIds 제외할 미션 ID (null 가능)
+     */
+    public List<Mission> sample(int count, Collection<MissionCategory> categories, Collection<Long> excludeMissionIds) {
+        List<Long> sampledIds = sampleIds(count, categories, excludeMissionIds);
+        if (sampledIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 선택 순서 유지 + 스냅샷 이후 비활성화된 미션 제외
+        Map<Long, Mission> missionMap = new HashMap<>();
+        for (Mission mission : missionRepository.findByIdIn(sampledIds)) {
+            if (Boolean.TRUE.equals(mission.getIsActive()) && mission.isOfficialMission()) {
+                missionMap.put(mission.getId(), mission);
+            }
+        }
+        List<Mission> result = new ArrayList<>(sampledIds.size());
+        for (Long id : sampledIds) {
+            Mission mission = missionMap.get(id);
+            if (mission != null) {
+                result.add(mission);
+            }
+        }
+        return result;
+    }
+
+    public List<Mission> sample(int count) {
+        return sample(count, null, null);
+    }
+
+    /**
+     * 랜덤 공식 미션 1개 조회 (리롤용)
+     */
+    public Optional<Mission> sampleOne(Collection<Long> excludeMissionIds) {
+        return sample(1, null, excludeMissionIds).stream().findFirst();
+    }
+
+    /**
+     * 스냅샷에서 미션 ID만 무작위 선택
+     */
+    List<Long> sampleIds(int count, Collection<MissionCategory> categories, Collection<Long> excludeMissionIds) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        List<long[]> arrays = missionCatalog.current().candidateIdArrays(categories);
+        int total = 0;
+        for (long[] ids : arrays) {
+            total += ids.length;
+        }
+        if (total == 0) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> excluded = excludeMissionIds == null || excludeMissionIds.isEmpty()
+                ? Collections.emptySet()
+                : new HashSet<>(excludeMissionIds);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Long> picked = new LinkedHashSet<>();
+        int maxAttempts = count * MAX_ATTEMPTS_PER_PICK;
+        for (int attempt = 0; attempt < maxAttempts && picked.size() < count; attempt++) {
+            long id = idAt(arrays, random.nextInt(total));
+            if (!excluded.contains(id)) {
+                picked.add(id);
+            }
+        }
+        if (picked.size() >= count) {
+            return new ArrayList<>(picked);
+        }
+
+        // 후보 대부분이 제외된 경우: 남은 후보를 모아 부분 셔플 (후보가 부족하면 가능한 만큼만 반환)
+        List<Long> remaining = new ArrayList<>();
+        for (long[] ids : arrays) {
+            for (long id : ids) {
+                if (!excluded.contains(id) && !picked.contains(id)) {
+                    remaining.add(id);
+                }
+            }
+        }
+        int needed = Math.min(count - picked.size(), remaining.size());
+        for (int i = 0; i < needed; i++) {
+            int j = i + random.nextInt(remaining.size() - i);
+            Collections.swap(remaining, i, j);
+            picked.add(remaining.get(i));
+        }
+        if (picked.size() < count) {
+            log.debug("[랜덤 미션] 후보 부족 - 요청: {}, 선택: {}", count, picked.size());
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private long idAt(List<long[]> arrays, int index) {
+        for (long[] ids : arrays) {
+            if (index < ids.length) {
+                return ids[index];
+            }
+            index -= ids.length;
+        }
+        throw new IllegalStateException("index out of range");
+    }
+}
@@ -0,0 +1,34 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.enums.*;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 미션 검색 인덱스 조회 조건
+ * null인 필드는 조건에서 제외
+ */
+@Getter
+@Builder
+public class MissionSearchCondition {
+
+    private final String keyword;
+    private final boolean titleOnly;
+
+    private final MissionType missionType;
+    // 커스텀 미션: 공개 미션만 (creatorId가 있으면 본인 미션은 비공개도 포함)
+    private final boolean publicOnly;
+    private final Long creatorId;
+    // true면 creatorId의 미션만
+    private final boolean onlyCreator;
+
+    private final MissionCategory category;
+    private final VerificationType verificationType;
+    private final WorryType worryType;
+    private final AgeRange ageRange;
+    // ALL로 등록된 미션은 항상 포함
+    private final GenderType genderType;
+    // ALL로 등록된 미션은 항상 포함
+    private final RegionType regionType;
+    private final DifficultyLevel difficultyLevel;
+}
@@ -0,0 +1,394 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.enums.*;
+import com.app.replant.domain.mission.event.MissionChangedEvent;
+import com.app.replant.domain.mission.repository.MissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 미션 제목/설명 인메모리 역색인 (공식 + 커스텀, 활성 미션만)
+ * - 한글은 띄어쓰기 단위가 검색어와 맞지 않는 경우가 많아 단어 내 글자 바이그램(+ 유니그램)으로 색인
+ * - 검색어 그램의 포스팅 교집합으로 후보를 구한 뒤 부분 문자열 일치를 확인하므로 기존 LIKE '%kw%' 결과와 동일
+ * - 미션 생성/수정/삭제 커밋 이후(MissionChangedEvent) 해당 미션만 증분 반영, 다중 인스턴스 대비 주기적 전체 재빌드
+ * - 정렬: 제목 일치 > 제목 시작 > 제목 포함 > 설명 포함, 동점은 최신(id 내림차순)
+ */
+@Slf4j
+@Component
+public class MissionSearchIndex {
+
+    private static final int SCORE_TITLE_EXACT = 4;
+    private static final int SCORE_TITLE_PREFIX = 3;
+    private static final int SCORE_TITLE_CONTAINS = 2;
+    private static final int SCORE_DESCRIPTION_CONTAINS = 1;
+
+    private final MissionRepository missionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, IndexedMission> documents = new HashMap<>();
+    private Map<String, Set<Long>> titlePostings = new HashMap<>();
+    private Map<String, Set<Long>> descriptionPostings = new HashMap<>();
+    private volatile boolean ready = false;
+
+    public MissionSearchIndex(MissionRepository missionRepository, PlatformTransactionManager transactionManager) {
+        this.missionRepository = missionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 최초 빌드 완료 여부 (빌드 전에는 호출 측에서 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public record SearchResult(List<Long> missionIds, long totalCount) {
+    }
+
+    /**
+     * 조건에 맞는 미션 ID를 정렬 후 페이지 단위로 반환
+     */
+    public SearchResult search(MissionSearchCondition condition, Pageable pageable) {
+        List<Long> rankedIds = searchIds(condition);
+        if (pageable == null || pageable.isUnpaged()) {
+            return new SearchResult(rankedIds, rankedIds.size());
+        }
+        int start = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), rankedIds.size());
+        return new SearchResult(new ArrayList<>(rankedIds.subList(start, end)), rankedIds.size());
+    }
+
+    /**
+     * 조건에 맞는 전체 미션 ID (정렬됨)
+     */
+    public List<Long> searchIds(MissionSearchCondition condition) {
+        String query = normalize(condition.getKeyword());
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = query.isEmpty()
+                    ? documents.keySet()
+                    : findCandidates(query, condition.isTitleOnly());
+
+            List<long[]> scored = new ArrayList<>();
+            for (Long id : candidates) {
+                IndexedMission doc = documents.get(id);
+                if (doc == null || !matchesFilters(doc, condition)) {
+                    continue;
+                }
+                int score = query.isEmpty() ? 0 : score(doc, query, condition.isTitleOnly());
+                if (!query.isEmpty() && score == 0) {
+                    continue;
+                }
+                scored.add(new long[]{score, id});
+            }
+            scored.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : Long.compare(b[1], a[1]));
+
+            List<Long> result = new ArrayList<>(scored.size());
+            for (long[] entry : scored) {
+                result.add(entry[1]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============ 색인 갱신 ============
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 내용 반영용 주기 재빌드
+     */
+    @Scheduled(fixedDelayString = "${mission.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${mission.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 미션을 읽어 새 색인을 만든 뒤 교체 (실패 시 기존 색인 유지)
+     */
+    public synchronized void rebuild() {
+        try {
+            List<Mission> missions = readOnlyTransaction.execute(status -> missionRepository.findForSearchIndex(null));
+
+            Map<Long, IndexedMission> newDocuments = new HashMap<>();
+            Map<String, Set<Long>> newTitlePostings = new HashMap<>();
+            Map<String, Set<Long>> newDescriptionPostings = new HashMap<>();
+            for (Mission mission : missions) {
+                if (!Boolean.TRUE.equals(mission.getIsActive())) {
+                    continue;
+                }
+                IndexedMission doc = IndexedMission.from(mission);
+                newDocuments.put(doc.id(), doc);
+                addPostings(newTitlePostings, doc.id(), grams(doc.title()));
+                addPostings(newDescriptionPostings, doc.id(), grams(doc.description()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                documents = newDocuments;
+                titlePostings = newTitlePostings;
+                descriptionPostings = newDescriptionPostings;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[미션 검색 색인] 전체 재빌드 완료 - 미션 수: {}, 제목 그램: {}, 설명 그램: {}",
+                    newDocuments.size(), newTitlePostings.size(), newDescriptionPostings.size());
+        } catch (Exception e) {
+            log.error("[미션 검색 색인] 전체 재빌드 실패 - 기존 색인 유지", e);
+        }
+    }
+
+    /**
+     * 미션 변경 커밋 이후 해당 미션만 증분 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMissionChanged(MissionChangedEvent event) {
+        if (event.missionIds() == null || event.missionIds().isEmpty()) {
+            return;
+        }
+        try {
+            List<Mission> missions = event.changeType() == MissionChangedEvent.ChangeType.DELETED
+                    ? List.of()
+                    : readOnlyTransaction.execute(status -> missionRepository.findForSearchIndex(event.missionIds()));
+
+            lock.writeLock().lock();
+            try {
+                for (Long missionId : event.missionIds()) {
+                    remove(missionId);
+                }
+                for (Mission mission : missions) {
+                    if (Boolean.TRUE.equals(mission.getIsActive())) {
+                        IndexedMission doc = IndexedMission.from(mission);
+                        documents.put(doc.id(), doc);
+                        addPostings(titlePostings, doc.id(), grams(doc.title()));
+                        addPostings(descriptionPostings, doc.id(), grams(doc.description()));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("[미션 검색 색인] 증분 반영 - type: {}, missionIds: {}", event.changeType(), event.missionIds());
+        } catch (Exception e) {
+            log.error("[미션 검색 색인] 증분 반영 실패 - missionIds: {} (다음 재빌드 시 반영)", event.missionIds(), e);
+        }
+    }
+
+    private void remove(Long missionId) {
+        IndexedMission old = documents.remove(missionId);
+        if (old == null) {
+            return;
+        }
+        removePostings(titlePostings, missionId, grams(old.title()));
+        removePostings(descriptionPostings, missionId, grams(old.description()));
+    }
+
+    // ============ 검색 내부 ============
+
+    private Collection<Long> findCandidates(String query, boolean titleOnly) {
+        Set<String> queryGrams = queryGrams(query);
+        if (queryGrams.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> titleCandidates = intersect(titlePostings, queryGrams);
+        if (titleOnly) {
+            return titleCandidates;
+        }
+        Set<Long> candidates = new HashSet<>(titleCandidates);
+        candidates.addAll(intersect(descriptionPostings, queryGrams));
+        return candidates;
+    }
+
+    private Set<Long> intersect(Map<String, Set<Long>> postings, Set<String> queryGrams) {
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 포스팅부터 교집합
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private int score(IndexedMission doc, String query, boolean titleOnly) {
+        if (doc.title().equals(query)) {
+            return SCORE_TITLE_EXACT;
+        }
+        if (doc.title().startsWith(query)) {
+            return SCORE_TITLE_PREFIX;
+        }
+        if (doc.title().contains(query)) {
+            return SCORE_TITLE_CONTAINS;
+        }
+        if (!titleOnly && doc.description().contains(query)) {
+            return SCORE_DESCRIPTION_CONTAINS;
+        }
+        return 0;
+    }
+
+    private boolean matchesFilters(IndexedMission doc, MissionSearchCondition condition) {
+        if (condition.getMissionType() != null && doc.missionType() != condition.getMissionType()) {
+            return false;
+        }
+        if (condition.isOnlyCreator()
+                && (condition.getCreatorId() == null || !condition.getCreatorId().equals(doc.creatorId()))) {
+            return false;
+        }
+        if (condition.isPublicOnly() && !doc.isPublic()
+                && (condition.getCreatorId() == null || !condition.getCreatorId().equals(doc.creatorId()))) {
+            return false;
+        }
+        if (condition.getCategory() != null && doc.category() != condition.getCategory()) {
+            return false;
+        }
+        if (condition.getVerificationType() != null && doc.verificationType() != condition.getVerificationType()) {
+            return false;
+        }
+        if (condition.getWorryType() != null && doc.worryType() != condition.getWorryType()) {
+            return false;
+        }
+        if (condition.getAgeRange() != null && !doc.ageRanges().contains(condition.getAgeRange())) {
+            return false;
+        }
+        if (condition.getGenderType() != null
+                && doc.genderType() != condition.getGenderType() && doc.genderType() != GenderType.ALL) {
+            return false;
+        }
+        if (condition.getRegionType() != null
+                && doc.regionType() != condition.getRegionType() && doc.regionType() != RegionType.ALL) {
+            return false;
+        }
+        return condition.getDifficultyLevel() == null || doc.difficultyLevel() == condition.getDifficultyLevel();
+    }
+
+    // ============ 토큰화 ============
+
+    /**
+     * 소문자 변환 + 연속 공백 하나로 축약
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 그램: 단어별 유니그램 + 바이그램 (공백을 걸치는 그램은 만들지 않음)
+     */
+    static Set<String> grams(String normalizedText) {
+        Set<String> grams = new HashSet<>();
+        for (String word : normalizedText.split(" ")) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 그램: 두 글자 이상 단어는 바이그램, 한 글자 단어는 유니그램
+     */
+    static Set<String> queryGrams(String normalizedQuery) {
+        Set<String> grams = new HashSet<>();
+        for (String word : normalizedQuery.split(" ")) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static void addPostings(Map<String, Set<Long>> postings, Long missionId, Set<String> grams) {
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(missionId);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, Long missionId, Set<String> grams) {
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(missionId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인에 보관하는 미션 요약 (필터 + 정렬에 필요한 값만)
+     */
+    private record IndexedMission(
+            Long id,
+            MissionType missionType,
+            Long creatorId,
+            boolean isPublic,
+            String title,
+            String description,
+            MissionCategory category,
+            VerificationType verificationType,
+            WorryType worryType,
+            Set<AgeRange> ageRanges,
+            GenderType genderType,
+            RegionType regionType,
+            DifficultyLevel difficultyLevel) {
+
+        static IndexedMission from(Mission mission) {
+            Set<AgeRange> ageRanges = mission.getAgeRanges() == null || mission.getAgeRanges().isEmpty()
+                    ? Collections.emptySet()
+                    : EnumSet.copyOf(mission.getAgeRanges());
+            return new IndexedMission(
+                    mission.getId(),
+                    mission.getMissionType(),
+                    mission.getCreator() != null ? mission.getCreator().getId() : null,
+                    Boolean.TRUE.equals(mission.getIsPublic()),
+                    normalize(mission.getTitle()),
+                    normalize(mission.getDescription()),
+                    mission.getCategory(),
+                    mission.getVerificationType(),
+                    mission.getWorryType(),
+                    ageRanges,
+                    mission.getGenderType(),
+                    mission.getRegionType(),
+                    mission.getDifficultyLevel());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.app.replant.domain.mission.service;
 import com.app.replant.domain.badge.repository.UserBadgeRepository;
 import com.app.replant.domain.mission.dto.*;
 import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.entity.MissionStats;
+import com.app.replant.domain.mission.event.MissionChangedEvent;
 import com.app.replant.domain.mission.enums.*;
 import com.app.replant.domain.mission.repository.MissionRepository;
 import com.app.replant.domain.review.entity.MissionReview;
@@ -18,6 +20,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +48,10 @@ public class MissionService {
     private final UserRepository userRepository;
     private final UserBadgeRepository userBadgeRepository;
     private final UserMissionRepository userMissionRepository;
+    private final MissionCatalog missionCatalog;
+    private final MissionStatsService missionStatsService;
+    private final MissionSearchIndex missionSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -53,89 +61,66 @@ public class MissionService {
     }
 
     public Page<MissionResponse> getMissions(MissionCategory category, VerificationType verificationType, Pageable pageable, Long userId) {
-        // 전체 미션을 먼저 조회 (페이지네이션 없이)
-        // Pageable.unpaged()를 사용하여 전체 미션을 조회
-        Page<Mission> allMissions = missionRepository.findMissions(category, verificationType, Pageable.unpaged());
-        
-        // 사용자가 수행한 미션 ID 목록 및 완료한 미션 ID 목록 조회 (미션 도감용: 과거 포함 전체 수행 이력)
-        Set<Long> attemptedMissionIds = Collections.emptySet();
-        Set<Long> completedMissionIds = Collections.emptySet();
-        if (userId != null && !allMissions.getContent().isEmpty()) {
-            List<UserMission> userMissions = userMissionRepository.findAllByUserIdAndMissionIds(
-                    userId, 
-                    allMissions.getContent().stream().map(Mission::getId).collect(Collectors.toList())
-            );
-            // 수행한 미션 ID 목록 (UserMission이 존재하면 수행한 것으로 간주, 상태 무관)
-            attemptedMissionIds = userMissions.stream()
-                    .filter(um -> um.getMission() != null)  // null 체크
-                    .map(um -> um.getMission().getId())
-                    .filter(id -> id != null)  // null ID 제외
-                    .collect(Collectors.toSet());
-            // 완료한 미션 ID 목록 (COMPLETED 상태만)
-            completedMissionIds = userMissions.stream()
-                    .filter(um -> um.getStatus() == UserMissionStatus.COMPLETED)
-                    .filter(um -> um.getMission() != null)  // null 체크
-                    .map(um -> um.getMission().getId())
-                    .filter(id -> id != null)  // null ID 제외
-                    .collect(Collectors.toSet());
-        }
-        
-        final Set<Long> finalAttemptedMissionIds = attemptedMissionIds;
-        final Set<Long> finalCompletedMissionIds = completedMissionIds;
-        
-        // 미션별 참여자 수 일괄 조회
-        List<Long> missionIds = allMissions.getContent().stream()
-                .map(Mission::getId)
-                .collect(Collectors.toList());
-        Map<Long, Long> participantCountMap = userMissionRepository.countDistinctUsersByMissionIds(missionIds);
-        
-        // MissionResponse로 변환 (전체 미션)
-        // 트랜잭션 범위 내에서 ageRanges 일괄 초기화 (N+1 문제 방지)
-        initializeAgeRangesBatch(allMissions.getContent());
-        
-        List<MissionResponse> allMissionResponses = allMissions.getContent().stream()
-                .map(mission -> {
-                    boolean isAttempted = userId != null && finalAttemptedMissionIds.contains(mission.getId());
-                    boolean isCompleted = userId != null && finalCompletedMissionIds.contains(mission.getId());
-                    Long participantCount = participantCountMap.getOrDefault(mission.getId(), 0L);
-                    return MissionResponse.from(mission, isAttempted, isCompleted, participantCount);
-                })
-                .collect(Collectors.toList());
-        
+        // 전체 활성 공식 미션은 인메모리 카탈로그 스냅샷에서 조회 (카탈로그 DB 조회 없음)
+        List<MissionResponse> catalogMissions = missionCatalog.current().findMissions(category, verificationType);
+
+        // 사용자가 수행한 미션 ID별 완료 여부 조회 (미션 도감용: 과거 포함 전체 수행 이력)
+        // 키 집합 = 수행한 미션 ID (상태 무관), 값 = COMPLETED 이력 여부
+        Map<Long, Boolean> completionMap = userId != null && !catalogMissions.isEmpty()
+                ? userMissionRepository.findMissionCompletionByUserId(userId)
+                : Collections.emptyMap();
+
         // 전체 미션을 정렬: 수행한 미션을 먼저, 미수행 미션을 나중에 (자물쇠는 항상 마지막)
-        if (userId != null) {
-            // 수행한 미션과 미수행 미션을 명확히 분리
+        // 각 그룹 내에서는 스냅샷 순서(id 내림차순) 유지
+        List<MissionResponse> orderedMissions = catalogMissions;
+        if (userId != null && !completionMap.isEmpty()) {
             List<MissionResponse> attemptedMissions = new ArrayList<>();
             List<MissionResponse> notAttemptedMissions = new ArrayList<>();
-            
-            for (MissionResponse mission : allMissionResponses) {
-                Boolean isAttempted = mission.getIsAttempted();
-                boolean isAttemptedValue = isAttempted != null && isAttempted;
-                
-                if (isAttemptedValue) {
+            for (MissionResponse mission : catalogMissions) {
+                if (completionMap.containsKey(mission.getId())) {
                     attemptedMissions.add(mission);
                 } else {
                     notAttemptedMissions.add(mission);
                 }
             }
-            
-            // 수행한 미션들 + 미수행 미션들 순서로 합치기 (자물쇠는 항상 마지막)
-            allMissionResponses = new ArrayList<>();
-            allMissionResponses.addAll(attemptedMissions);
-            allMissionResponses.addAll(notAttemptedMissions);
+            orderedMissions = new ArrayList<>(attemptedMissions.size() + notAttemptedMissions.size());
+            orderedMissions.addAll(attemptedMissions);
+            orderedMissions.addAll(notAttemptedMissions);
         }
-        
+
         // 정렬된 전체 미션에서 페이지네이션 적용
-        int totalElements = allMissionResponses.size();
-        int page = pageable.getPageNumber();
-        int size = pageable.getPageSize();
-        int start = page * size;
-        int end = Math.min(start + size, totalElements);
-        
-        List<MissionResponse> pagedMissionResponses = start < totalElements 
-                ? allMissionResponses.subList(start, end)
-                : Collections.emptyList();
-        
+        int totalElements = orderedMissions.size();
+        List<MissionResponse> pageSlice;
+        if (pageable.isUnpaged()) {
+            pageSlice = orderedMissions;
+        } else {
+            int start = (int) Math.min(pageable.getOffset(), totalElements);
+            int end = Math.min(start + pageable.getPageSize(), totalElements);
+            pageSlice = orderedMissions.subList(start, end);
+        }
+
+        // 미션별 참여자 수는 현재 페이지 미션에 대해서만 일괄 조회
+        List<Long> pageMissionIds = pageSlice.stream()
+                .map(MissionResponse::getId)
+                .collect(Collectors.toList());
+        Map<Long, Long> participantCountMap = pageMissionIds.isEmpty()
+                ? Collections.emptyMap()
+                : missionStatsService.getParticipantCounts(pageMissionIds);
+
+        // 스냅샷 객체는 공유되므로 사용자별 값은 복사본에만 반영
+        List<MissionResponse> pagedMissionResponses = pageSlice.stream()
+                .map(mission -> {
+                    Boolean completed = completionMap.get(mission.getId());
+                    boolean isAttempted = userId != null && completed != null;
+                    boolean isCompleted = userId != null && Boolean.TRUE.equals(completed);
+                    return mission.toBuilder()
+                            .isAttempted(isAttempted)
+                            .isCompleted(isCompleted)
+                            .participantCount(participantCountMap.getOrDefault(mission.getId(), 0L))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
         return new PageImpl<>(pagedMissionResponses, pageable, totalElements);
     }
 
@@ -164,51 +149,38 @@ public class MissionService {
             DifficultyLevel difficultyLevel,
             Pageable pageable,
             Long userId) {
-        Page<Mission> missions = missionRepository.findFilteredMissions(
-                category, verificationType, worryType, ageRange, genderType, regionType, difficultyLevel, pageable
-        );
-        
-        // 사용자가 수행한 미션 ID 목록 및 완료한 미션 ID 목록 조회 (미션 도감용: 과거 포함 전체 수행 이력)
-        Set<Long> attemptedMissionIds = Collections.emptySet();
-        Set<Long> completedMissionIds = Collections.emptySet();
-        if (userId != null && !missions.getContent().isEmpty()) {
-            List<UserMission> userMissions = userMissionRepository.findAllByUserIdAndMissionIds(
-                    userId, 
-                    missions.getContent().stream().map(Mission::getId).collect(Collectors.toList())
-            );
-            // 수행한 미션 ID 목록 (UserMission이 존재하면 수행한 것으로 간주, 상태 무관)
-            attemptedMissionIds = userMissions.stream()
-                    .filter(um -> um.getMission() != null)  // null 체크
-                    .map(um -> um.getMission().getId())
-                    .filter(id -> id != null)  // null ID 제외
-                    .collect(Collectors.toSet());
-            // 완료한 미션 ID 목록 (COMPLETED 상태만)
-            completedMissionIds = userMissions.stream()
-                    .filter(um -> um.getStatus() == UserMissionStatus.COMPLETED)
-                    .filter(um -> um.getMission() != null)  // null 체크
-                    .map(um -> um.getMission().getId())
-                    .filter(id -> id != null)  // null ID 제외
-                    .collect(Collectors.toSet());
-        }
-        
-        final Set<Long> finalAttemptedMissionIds = attemptedMissionIds;
-        final Set<Long> finalCompletedMissionIds = completedMissionIds;
-        
-        // 미션별 참여자 수 일괄 조회
-        List<Long> missionIds = missions.getContent().stream()
-                .map(Mission::getId)
+        // 활성 공식 미션 카탈로그의 속성 비트맵 색인으로 필터링 (DB 조회 없음, 전체 개수는 cardinality)
+        MissionCatalogSnapshot snapshot = missionCatalog.current();
+        BitSet matched = snapshot.filter(category, verificationType, worryType, ageRange, genderType, regionType, difficultyLevel);
+        int totalElements = matched.cardinality();
+        List<MissionResponse> pageSlice = pageable.isUnpaged()
+                ? snapshot.slice(matched, 0, totalElements)
+                : snapshot.slice(matched, pageable.getOffset(), pageable.getPageSize());
+
+        // 사용자가 수행한 미션 ID별 완료 여부 조회 (미션 도감용: 과거 포함 전체 수행 이력)
+        Map<Long, Boolean> completionMap = userId != null && !pageSlice.isEmpty()
+                ? userMissionRepository.findMissionCompletionByUserId(userId)
+                : Collections.emptyMap();
+
+        // 미션별 참여자 수 일괄 조회 (현재 페이지만)
+        List<Long> missionIds = pageSlice.stream()
+                .map(MissionResponse::getId)
                 .collect(Collectors.toList());
-        Map<Long, Long> participantCountMap = userMissionRepository.countDistinctUsersByMissionIds(missionIds);
-        
-        // 트랜잭션 범위 내에서 ageRanges 일괄 초기화 (N+1 문제 방지)
-        initializeAgeRangesBatch(missions.getContent());
-        
-        return missions.map(mission -> {
-            boolean isAttempted = userId != null && finalAttemptedMissionIds.contains(mission.getId());
-            boolean isCompleted = userId != null && finalCompletedMissionIds.contains(mission.getId());
-            Long participantCount = participantCountMap.getOrDefault(mission.getId(), 0L);
-            return MissionResponse.from(mission, isAttempted, isCompleted, participantCount);
-        });
+        Map<Long, Long> participantCountMap = missionStatsService.getParticipantCounts(missionIds);
+
+        // 스냅샷 객체는 공유되므로 사용자별 값은 복사본에만 반영
+        List<MissionResponse> content = pageSlice.stream()
+                .map(mission -> {
+                    Boolean completed = completionMap.get(mission.getId());
+                    return mission.toBuilder()
+                            .isAttempted(userId != null && completed != null)
+                            .isCompleted(userId != null && Boolean.TRUE.equals(completed))
+                            .participantCount(participantCountMap.getOrDefault(mission.getId(), 0L))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, totalElements);
     }
 
     /**
@@ -238,10 +210,22 @@ public class MissionService {
             DifficultyLevel difficultyLevel,
             Pageable pageable,
             Long userId) {
-        Page<Mission> missions = missionRepository.searchOfficialMissions(
-                keyword, category, verificationType, worryType, ageRange,
-                genderType, regionType, difficultyLevel, pageable
-        );
+        // 키워드가 있으면 인메모리 역색인 사용 (색인 빌드 전에는 DB 검색으로 대체)
+        Page<Mission> missions = hasKeyword(keyword) && missionSearchIndex.isReady()
+                ? searchByIndex(MissionSearchCondition.builder()
+                        .keyword(keyword)
+                        .missionType(MissionType.OFFICIAL)
+                        .category(category)
+                        .verificationType(verificationType)
+                        .worryType(worryType)
+                        .ageRange(ageRange)
+                        .genderType(genderType)
+                        .regionType(regionType)
+                        .difficultyLevel(difficultyLevel)
+                        .build(), pageable)
+                : missionRepository.searchOfficialMissions(
+                        keyword, category, verificationType, worryType, ageRange,
+                        genderType, regionType, difficultyLevel, pageable);
         
         // 사용자가 수행한 미션 ID 목록 및 완료한 미션 ID 목록 조회 (미션 도감용: 과거 포함 전체 수행 이력)
         Set<Long> attemptedMissionIds = Collections.emptySet();
@@ -273,7 +257,7 @@ public class MissionService {
         List<Long> missionIds = missions.getContent().stream()
                 .map(Mission::getId)
                 .collect(Collectors.toList());
-        Map<Long, Long> participantCountMap = userMissionRepository.countDistinctUsersByMissionIds(missionIds);
+        Map<Long, Long> participantCountMap = missionStatsService.getParticipantCounts(missionIds);
         
         // 트랜잭션 범위 내에서 ageRanges 일괄 초기화 (N+1 문제 방지)
         initializeAgeRangesBatch(missions.getContent());
@@ -295,7 +279,10 @@ public class MissionService {
         // 트랜잭션 범위 내에서 ageRanges 초기화
         initializeAgeRanges(mission);
         
-        long reviewCount = reviewRepository.countByMissionId(missionId);
+        // 리뷰 수 / 참여자 수는 미션 통계에서 한 번에 조회
+        MissionStats stats = missionStatsService.getStats(List.of(missionId)).get(missionId);
+        long reviewCount = stats != null ? stats.getReviewCount() : 0L;
+        long participantCount = stats != null ? stats.getParticipantCount() : 0L;
         
         // 사용자가 해당 미션을 수행했는지 및 완료했는지 확인
         boolean isAttempted = false;
@@ -308,9 +295,6 @@ public class MissionService {
                     .anyMatch(um -> um.getStatus() == UserMissionStatus.COMPLETED);
         }
         
-        // 참여자 수 조회
-        long participantCount = userMissionRepository.countDistinctUsersByMissionId(missionId);
-        
         return MissionResponse.from(mission, reviewCount, isAttempted, isCompleted, participantCount);
     }
 
@@ -341,6 +325,7 @@ public class MissionService {
                 .build();
 
         MissionReview saved = reviewRepository.save(review);
+        missionStatsService.recordReviewCreated(missionId);
         return MissionReviewResponse.from(saved);
     }
 
@@ -356,6 +341,7 @@ public class MissionService {
             throw new CustomException(ErrorCode.NOT_REVIEW_AUTHOR);
         }
         reviewRepository.delete(review);
+        missionStatsService.recordReviewDeleted(missionId);
     }
 
     // ============ 관리자 미션 관리 ============
@@ -381,6 +367,7 @@ public class MissionService {
                 .build();
 
         Mission saved = missionRepository.save(mission);
+        eventPublisher.publishEvent(MissionChangedEvent.created(List.of(saved.getId()), saved.getMissionType()));
         // 새로 생성된 미션이므로 참여자 수는 0
         return MissionResponse.from(saved, false, false, 0L);
     }
@@ -411,9 +398,10 @@ public class MissionService {
         if (request.getIsActive() != null) {
             mission.setActive(request.getIsActive());
         }
+        eventPublisher.publishEvent(MissionChangedEvent.updated(missionId, mission.getMissionType()));
 
         // 참여자 수 조회
-        long participantCount = userMissionRepository.countDistinctUsersByMissionId(missionId);
+        long participantCount = missionStatsService.getParticipantCount(missionId);
         return MissionResponse.from(mission, false, false, participantCount);
     }
 
@@ -442,7 +430,11 @@ public class MissionService {
                         .build())
                 .collect(Collectors.toList());
 
+        // 미션 행은 시드 SQL이 ID를 직접 지정하므로 IDENTITY 유지, ageRanges 행은 flush 시 JDBC 배치로 전송
         List<Mission> savedMissions = missionRepository.saveAll(missions);
+        eventPublisher.publishEvent(MissionChangedEvent.created(
+                savedMissions.stream().map(Mission::getId).collect(Collectors.toList()),
+                MissionType.OFFICIAL));
         // 새로 생성된 미션이므로 참여자 수는 모두 0
         return savedMissions.stream()
                 .map(mission -> MissionResponse.from(mission, false, false, 0L))
@@ -453,6 +445,7 @@ public class MissionService {
     public void deleteMission(Long missionId) {
         Mission mission = findMissionById(missionId);
         missionRepository.delete(mission);
+        eventPublisher.publishEvent(MissionChangedEvent.deleted(missionId, mission.getMissionType()));
     }
 
     @Transactional
@@ -462,8 +455,9 @@ public class MissionService {
         initializeAgeRanges(mission);
         
         mission.setActive(isActive);
+        eventPublisher.publishEvent(MissionChangedEvent.updated(missionId, mission.getMissionType()));
         // 참여자 수 조회
-        long participantCount = userMissionRepository.countDistinctUsersByMissionId(missionId);
+        long participantCount = missionStatsService.getParticipantCount(missionId);
         return MissionResponse.from(mission, false, false, participantCount);
     }
 
@@ -509,7 +503,7 @@ public class MissionService {
         List<Long> missionIds = missions.getContent().stream()
                 .map(Mission::getId)
                 .collect(Collectors.toList());
-        Map<Long, Long> participantCountMap = userMissionRepository.countDistinctUsersByMissionIds(missionIds);
+        Map<Long, Long> participantCountMap = missionStatsService.getParticipantCounts(missionIds);
         
         return missions.map(mission -> {
             boolean isAttempted = userId != null && finalAttemptedMissionIds.contains(mission.getId());
@@ -538,8 +532,18 @@ public class MissionService {
             DifficultyLevel difficultyLevel,
             Pageable pageable,
             Long userId) {
-        Page<Mission> missions = missionRepository.searchCustomMissions(
-                keyword, titleOnly, worryType, difficultyLevel, pageable);
+        // 키워드가 있으면 인메모리 역색인 사용 (색인 빌드 전에는 DB 검색으로 대체)
+        Page<Mission> missions = hasKeyword(keyword) && missionSearchIndex.isReady()
+                ? searchByIndex(MissionSearchCondition.builder()
+                        .keyword(keyword)
+                        .titleOnly(Boolean.TRUE.equals(titleOnly))
+                        .missionType(MissionType.CUSTOM)
+                        .publicOnly(true)
+                        .worryType(worryType)
+                        .difficultyLevel(difficultyLevel)
+                        .build(), pageable)
+                : missionRepository.searchCustomMissions(
+                        keyword, titleOnly, worryType, difficultyLevel, pageable);
         
         // 사용자가 수행한 미션 ID 목록 및 완료한 미션 ID 목록 조회 (미션 도감용: 과거 포함 전체 수행 이력)
         Set<Long> attemptedMissionIds = Collections.emptySet();
@@ -571,7 +575,7 @@ public class MissionService {
         List<Long> missionIds = missions.getContent().stream()
                 .map(Mission::getId)
                 .collect(Collectors.toList());
-        Map<Long, Long> participantCountMap = userMissionRepository.countDistinctUsersByMissionIds(missionIds);
+        Map<Long, Long> participantCountMap = missionStatsService.getParticipantCounts(missionIds);
         
         // 트랜잭션 범위 내에서 ageRanges 일괄 초기화 (N+1 문제 방지)
         initializeAgeRangesBatch(missions.getContent());
@@ -614,7 +618,7 @@ public class MissionService {
         }
 
         // 참여자 수 조회
-        long participantCount = userMissionRepository.countDistinctUsersByMissionId(missionId);
+        long participantCount = missionStatsService.getParticipantCount(missionId);
 
         return MissionResponse.from(mission, isAttempted, isCompleted, participantCount);
     }
@@ -654,6 +658,7 @@ public class MissionService {
                 mission.getTitle(), mission.getMissionType(), userId);
 
         Mission saved = missionRepository.save(mission);
+        eventPublisher.publishEvent(MissionChangedEvent.created(List.of(saved.getId()), saved.getMissionType()));
         // 새로 생성된 미션이므로 참여자 수는 0
         return MissionResponse.from(saved, false, false, 0L);
     }
@@ -691,9 +696,10 @@ public class MissionService {
                 null,  // expReward (무시됨, Entity에서 0으로 설정)
                 request.getIsPublic()
         );
+        eventPublisher.publishEvent(MissionChangedEvent.updated(missionId, MissionType.CUSTOM));
 
         // 참여자 수 조회
-        long participantCount = userMissionRepository.countDistinctUsersByMissionId(missionId);
+        long participantCount = missionStatsService.getParticipantCount(missionId);
         return MissionResponse.from(mission, false, false, participantCount);
     }
 
@@ -714,6 +720,25 @@ public class MissionService {
         }
 
         missionRepository.delete(mission);
+        eventPublisher.publishEvent(MissionChangedEvent.deleted(missionId, mission.getMissionType()));
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
+    /**
+     * 검색 색인에서 정렬된 미션 ID 페이지를 구한 뒤 한 번에 조회 (색인 순서 유지)
+     */
+    private Page<Mission> searchByIndex(MissionSearchCondition condition, Pageable pageable) {
+        MissionSearchIndex.SearchResult result = missionSearchIndex.search(condition, pageable);
+        Map<Long, Mission> missionMap = missionRepository.findByIdIn(result.missionIds()).stream()
+                .collect(Collectors.toMap(Mission::getId, mission -> mission));
+        List<Mission> ordered = result.missionIds().stream()
+                .map(missionMap::get)
+                .filter(mission -> mission != null)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, pageable, result.totalCount());
     }
 
     private Mission findMissionById(Long missionId) {
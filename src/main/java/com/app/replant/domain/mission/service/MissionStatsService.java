@@ -0,0 +1,215 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.entity.MissionStats;
+import com.app.replant.domain.mission.repository.MissionStatsRepository;
+import com.app.replant.domain.usermission.entity.UserMission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 미션 통계 서비스
+ * - 쓰기 시점에 mission_stats 카운터를 원자적으로 증감 (호출한 트랜잭션에 참여하므로 원본 변경과 함께 커밋/롤백)
+ * - 목록/상세 조회는 user_mission, mission_review 집계 대신 mission_stats 를 일괄 조회
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MissionStatsService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final MissionStatsRepository missionStatsRepository;
+
+    // ============ 조회 (배치) ============
+
+    /**
+     * 미션별 통계 일괄 조회 (통계 행이 없는 미션은 결과에서 제외)
+     */
+    public Map<Long, MissionStats> getStats(Collection<Long> missionIds) {
+        List<Long> ids = distinctIds(missionIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return missionStatsRepository.findByMissionIdIn(ids).stream()
+                .collect(Collectors.toMap(MissionStats::getMissionId, stats -> stats));
+    }
+
+    /**
+     * 미션별 참여자 수 일괄 조회 (통계가 없으면 0)
+     */
+    public Map<Long, Long> getParticipantCounts(Collection<Long> missionIds) {
+        Map<Long, MissionStats> statsMap = getStats(missionIds);
+        Map<Long, Long> participantCountMap = new HashMap<>();
+        for (Long missionId : distinctIds(missionIds)) {
+            MissionStats stats = statsMap.get(missionId);
+            participantCountMap.put(missionId, stats != null ? stats.getParticipantCount() : 0L);
+        }
+        return participantCountMap;
+    }
+
+    public long getParticipantCount(Long missionId) {
+        return missionStatsRepository.findById(missionId)
+                .map(MissionStats::getParticipantCount)
+                .orElse(0L);
+    }
+
+    public long getReviewCount(Long missionId) {
+        return missionStatsRepository.findById(missionId)
+                .map(MissionStats::getReviewCount)
+                .orElse(0L);
+    }
+
+    // ============ 증분 갱신 ============
+
+    /**
+     * UserMission 생성 시 호출 - 처음 참여하는 사용자일 때만 참여자 수 증가
+     */
+    @Transactional
+    public void recordAssigned(UserMission userMission) {
+        Long missionId = userMission.getMissionId();
+        if (missionId == null || userMission.getUser() == null) {
+            return;
+        }
+        recordAssigned(missionId, userMission.getUser().getId());
+    }
+
+    @Transactional
+    public void recordAssigned(Long missionId, Long userId) {
+        if (missionId == null || userId == null) {
+            return;
+        }
+        if (missionStatsRepository.insertParticipantIfAbsent(missionId, userId) > 0) {
+            missionStatsRepository.incrementCounts(missionId, 1, 0, 0);
+        }
+    }
+
+    /**
+     * 한 사용자에게 여러 미션을 한 번에 할당할 때 호출 (투두리스트 생성 등)
+     * 기존 참여 조회 1회로 걸러낸 미션만 참여자 추가 후, 실제로 추가된 미션의 카운터만 한 번에 증가
+     * (동시 할당으로 사이에 추가된 참여자는 INSERT IGNORE 결과 0이라 중복 증가 없음)
+     */
+    @Transactional
+    public void recordAssigned(Long userId, Collection<Long> missionIds) {
+        List<Long> ids = distinctIds(missionIds);
+        if (userId == null || ids.isEmpty()) {
+            return;
+        }
+        List<Long> newMissionIds = new ArrayList<>(ids);
+        newMissionIds.removeAll(missionStatsRepository.findParticipatedMissionIds(userId, ids));
+        if (newMissionIds.isEmpty()) {
+            return;
+        }
+        List<Long> insertedMissionIds = new ArrayList<>(newMissionIds.size());
+        for (Long missionId : newMissionIds) {
+            if (missionStatsRepository.insertParticipantIfAbsent(missionId, userId) > 0) {
+                insertedMissionIds.add(missionId);
+            }
+        }
+        if (!insertedMissionIds.isEmpty()) {
+            missionStatsRepository.incrementParticipantCounts(insertedMissionIds);
+        }
+    }
+
+    /**
+     * 한 미션을 여러 사용자에게 한 번에 할당할 때 호출 (기상/식사 미션 스케줄러 등)
+     * 사용자 수와 무관하게 기존 참여 조회 1회 + 참여자 추가 1회 + 카운터 증가 1회
+     * (카운터는 INSERT IGNORE로 실제 추가된 행 수만큼만 증가)
+     */
+    @Transactional
+    public void recordAssignedToUsers(Long missionId, Collection<Long> userIds) {
+        if (missionId == null || userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        Set<Long> newUserIds = new HashSet<>(userIds);
+        newUserIds.remove(null);
+        missionStatsRepository.findParticipantUserIds(missionId, newUserIds).forEach(newUserIds::remove);
+        if (newUserIds.isEmpty()) {
+            return;
+        }
+        int inserted = missionStatsRepository.insertParticipantUsersIfAbsent(missionId, newUserIds);
+        if (inserted > 0) {
+            missionStatsRepository.incrementCounts(missionId, inserted, 0, 0);
+        }
+    }
+
+    /**
+     * UserMission이 COMPLETED로 전이될 때 호출
+     */
+    @Transactional
+    public void recordCompleted(UserMission userMission) {
+        Long missionId = userMission.getMissionId();
+        if (missionId != null) {
+            missionStatsRepository.incrementCounts(missionId, 0, 0, 1);
+        }
+    }
+
+    /**
+     * UserMission이 COMPLETED에서 다른 상태로 되돌려질 때 호출 (인증 취소)
+     */
+    @Transactional
+    public void recordCompletionReverted(UserMission userMission) {
+        Long missionId = userMission.getMissionId();
+        if (missionId != null) {
+            missionStatsRepository.incrementCounts(missionId, 0, 0, -1);
+        }
+    }
+
+    @Transactional
+    public void recordReviewCreated(Long missionId) {
+        missionStatsRepository.incrementCounts(missionId, 0, 1, 0);
+    }
+
+    @Transactional
+    public void recordReviewDeleted(Long missionId) {
+        missionStatsRepository.incrementCounts(missionId, 0, -1, 0);
+    }
+
+    // ============ 재동기화 ============
+
+    /**
+     * 재동기화 대상 미션 ID 구간 조회 (id 오름차순, afterId 초과)
+     */
+    public List<Long> findMissionIdChunk(Long afterId) {
+        return missionStatsRepository.findMissionIdsAfter(afterId != null ? afterId : 0L, RECONCILE_CHUNK_SIZE);
+    }
+
+    /**
+     * 미션 ID 묶음의 통계 재계산 (참여자 집합 보정 후 카운터 덮어쓰기)
+     */
+    @Transactional
+    public void reconcile(Collection<Long> missionIds) {
+        if (missionIds == null || missionIds.isEmpty()) {
+            return;
+        }
+        int added = missionStatsRepository.insertMissingParticipants(missionIds);
+        int removed = missionStatsRepository.deleteStaleParticipants(missionIds);
+        missionStatsRepository.recalculate(missionIds);
+        if (added > 0 || removed > 0) {
+            log.info("[미션 통계] 참여자 집합 보정 - 추가: {}, 제거: {}", added, removed);
+        }
+    }
+
+    private List<Long> distinctIds(Collection<Long> missionIds) {
+        if (missionIds == null || missionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return missionIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
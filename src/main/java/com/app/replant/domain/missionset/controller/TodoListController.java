@@ -1,6 +1,7 @@
 package com.app.replant.domain.missionset.controller;
 
 import com.app.replant.global.common.ApiResponse;
+import com.app.replant.global.common.dto.CursorResponse;
 import com.app.replant.domain.missionset.dto.TodoListDto;
 import com.app.replant.domain.missionset.service.TodoListService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,13 +45,18 @@ public class TodoListController {
                 return ApiResponse.success(response);
         }
 
-        @Operation(summary = "선택 가능한 커스텀 미션 조회", description = "투두리스트에 추가할 수 있는 커스텀 미션 목록을 조회합니다. (비챌린지 미션만). onlyMine=true면 내가 만든 미션만 반환. searchQuery로 검색 가능.")
+        @Operation(summary = "선택 가능한 커스텀 미션 조회", description = "투두리스트에 추가할 수 있는 커스텀 미션 목록을 커서 기반으로 조회합니다. (비챌린지 미션만). 내가 만든 미션이 먼저, 이후 다른 사람의 공개 미션이 각각 최신순으로 반환됩니다. onlyMine=true면 내가 만든 미션만 반환. searchQuery로 검색하면 관련도순으로 반환. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
         @GetMapping("/selectable-missions")
-        public ApiResponse<List<TodoListDto.MissionSimpleResponse>> getSelectableMissions(
+        public ApiResponse<CursorResponse<TodoListDto.MissionSimpleResponse>> getSelectableMissions(
                         @AuthenticationPrincipal Long userId,
                         @org.springframework.web.bind.annotation.RequestParam(required = false, defaultValue = "false") Boolean onlyMine,
-                        @org.springframework.web.bind.annotation.RequestParam(required = false) String searchQuery) {
-                List<TodoListDto.MissionSimpleResponse> response = todoListService.getSelectableMissions(userId, onlyMine, searchQuery);
+                        @org.springframework.web.bind.annotation.RequestParam(required = false) String searchQuery,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                        @org.springframework.web.bind.annotation.RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 50)")
+                        @org.springframework.web.bind.annotation.RequestParam(defaultValue = "20") int size) {
+                CursorResponse<TodoListDto.MissionSimpleResponse> response = todoListService.getSelectableMissions(
+                                userId, onlyMine, searchQuery, cursor, size);
                 return ApiResponse.success(response);
         }
 
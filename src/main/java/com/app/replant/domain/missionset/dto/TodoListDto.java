@@ -5,6 +5,9 @@ import com.app.replant.domain.missionset.entity.TodoList;
 import com.app.replant.domain.missionset.entity.TodoListMission;
 import com.app.replant.domain.missionset.enums.MissionSource;
 import com.app.replant.domain.missionset.enums.TodoListStatus;
+import com.app.replant.global.common.dto.TimeIdCursor;
+import com.app.replant.global.exception.CustomException;
+import com.app.replant.global.exception.ErrorCode;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
@@ -79,7 +82,7 @@ public class TodoListDto {
 
     @Getter
     @Setter
-    @Builder
+    @Builder(toBuilder = true)
     public static class SimpleResponse {
         private Long id;
         private String title;
@@ -117,6 +120,11 @@ public class TodoListDto {
                     .isLiked(isLiked)
                     .build();
         }
+
+        /** 사용자와 무관하게 만든 응답(캐시 등)에 현재 사용자 좋아요 여부 적용 */
+        public SimpleResponse withLiked(boolean isLiked) {
+            return toBuilder().isLiked(isLiked).build();
+        }
     }
 
     @Getter
@@ -466,6 +474,71 @@ public class TodoListDto {
         }
     }
 
+    /**
+     * 선택 가능 미션 커서: 본인 미션 그룹 → 다른 사람 공개 미션 그룹 순서로 이어지므로
+     * (작성 시각, id) 위치와 함께 현재 그룹을 담음
+     */
+    public record SelectableMissionCursor(boolean mine, TimeIdCursor position) {
+
+        private static final char MINE = 'M';
+        private static final char OTHERS = 'O';
+
+        public String encode() {
+            return (mine ? MINE : OTHERS) + position.encode();
+        }
+
+        /**
+         * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지로 보고 null 반환)
+         */
+        public static SelectableMissionCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            char group = cursor.charAt(0);
+            if (group != MINE && group != OTHERS) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            TimeIdCursor position = TimeIdCursor.decode(cursor.substring(1));
+            if (position == null) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            return new SelectableMissionCursor(group == MINE, position);
+        }
+    }
+
+    /**
+     * 선택 가능 미션 검색 커서: 관련도 순위 목록(본인 미션 → 다른 사람 공개 미션)에서 다음 항목의 위치
+     */
+    public record SelectableSearchCursor(int offset) {
+
+        private static final char SEARCH = 'S';
+
+        public String encode() {
+            return SEARCH + Integer.toString(offset);
+        }
+
+        /**
+         * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지로 보고 offset 0)
+         */
+        public static SelectableSearchCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new SelectableSearchCursor(0);
+            }
+            try {
+                if (cursor.charAt(0) != SEARCH) {
+                    throw new IllegalArgumentException();
+                }
+                int offset = Integer.parseInt(cursor.substring(1));
+                if (offset < 0) {
+                    throw new IllegalArgumentException();
+                }
+                return new SelectableSearchCursor(offset);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+            }
+        }
+    }
+
     // ============ 공개 투두리스트용 DTOs 제거됨 (공유 기능 제거) ============
     // PublicResponse, PublicDetailResponse, PublicMissionInfo 모두 제거됨
 }
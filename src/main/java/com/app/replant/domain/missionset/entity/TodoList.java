@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,8 +18,11 @@ import java.util.List;
 /**
  * 투두리스트 엔티티
  * (구 MissionSet)
+ * 완료 수/상태 진행은 TodoListRepository의 원자적 UPDATE로만 갱신하므로,
+ * 변경된 컬럼만 UPDATE 하여 영속성 컨텍스트의 오래된 값이 덮어쓰지 않도록 함
  */
 @Entity
+@DynamicUpdate
 @Table(name = "todolist", indexes = {
         @Index(name = "idx_todolist_creator", columnList = "creator_id"),
         @Index(name = "idx_todolist_type", columnList = "set_type")
@@ -62,8 +66,8 @@ public class TodoList {
     @Column(name = "set_type", length = 20)
     private MissionSetType setType;
 
-    // 완료된 미션 수 (투두리스트용)
-    @Column(name = "completed_count")
+    // 완료된 미션 수 (투두리스트용, TodoListRepository.incrementCompletedCount/decrementCompletedCount로만 갱신)
+    @Column(name = "completed_count", updatable = false)
     private Integer completedCount;
 
     // 총 미션 수 (투두리스트용)
@@ -137,20 +141,12 @@ public class TodoList {
 
     // ============ 투두리스트 관련 메서드들 ============
 
-    public void incrementCompletedCount() {
-        if (this.completedCount == null) {
-            this.completedCount = 0;
-        }
-        this.completedCount++;
-        this.updatedAt = LocalDateTime.now();
-        updateTodoListStatusIfNeeded();
-    }
-
-    public void decrementCompletedCount() {
-        if (this.completedCount != null && this.completedCount > 0) {
-            this.completedCount--;
-            this.updatedAt = LocalDateTime.now();
-        }
+    /**
+     * 원자적 UPDATE 이후 DB에서 다시 읽은 진행 상태 반영 (응답 생성용)
+     */
+    public void syncProgress(Integer completedCount, TodoListStatus todolistStatus) {
+        this.completedCount = completedCount;
+        this.todolistStatus = todolistStatus;
     }
 
     public void decrementTotalCount() {
@@ -168,16 +164,11 @@ public class TodoList {
         return (int) Math.round((double) completed / this.totalCount * 100);
     }
 
+    // 완료 전환 기준 (TodoListRepository.incrementCompletedCount의 SQL과 같은 값)
     public boolean canCreateNewTodoList() {
         return getProgressRate() >= 80;
     }
 
-    private void updateTodoListStatusIfNeeded() {
-        if (this.setType == MissionSetType.TODOLIST && canCreateNewTodoList()) {
-            this.todolistStatus = TodoListStatus.COMPLETED;
-        }
-    }
-
     public void archiveTodoList() {
         if (this.setType == MissionSetType.TODOLIST) {
             this.todolistStatus = TodoListStatus.ARCHIVED;
@@ -0,0 +1,9 @@
+package com.app.replant.domain.missionset.event;
+
+/**
+ * 투두리스트 변경 이벤트
+ * 투두리스트가 생성/수정(공개 여부 포함)/보관/삭제될 때 발행되며,
+ * 트랜잭션 커밋 이후 공개 투두리스트 목록 캐시를 무효화하는 데 사용됩니다.
+ */
+public record TodoListChangedEvent(Long todoListId) {
+}
@@ -0,0 +1,129 @@
+package com.app.replant.domain.missionset.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 공개 투두리스트 인기 점수 저장소 (Sorted Set)
+ * Key: todolist:popular (member: todoListId, score: 감쇠 기준 시각 대비 가중 점수)
+ * Key: todolist:popular:epoch (감쇠 기준 시각, epoch seconds)
+ *
+ * 점수 = Σ weight × e^(λ × (사건 시각 − 기준 시각))
+ * 사건이 늦을수록 큰 가중치를 받으므로, 저장된 점수의 순서가 곧 현재 시각 기준 감쇠 점수의 순서
+ * 기준 시각 이동(rebase)과 점수 증가는 Lua 스크립트로 원자적으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisTodoListRankingRepository {
+
+    private static final String KEY = "todolist:popular";
+    private static final String EPOCH_KEY = "todolist:popular:epoch";
+
+    /**
+     * 이미 랭킹에 있는 멤버만 점수 증가 (비공개 투두리스트는 랭킹에 들어오지 않음)
+     * ARGV: weight, lambda, eventEpochSeconds, member
+     */
+    private static final RedisScript<String> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('ZSCORE', KEYS[1], ARGV[4]) then return nil end "
+                    + "local epoch = tonumber(redis.call('GET', KEYS[2]) or ARGV[3]) "
+                    + "local delta = tonumber(ARGV[1]) * math.exp(tonumber(ARGV[2]) * (tonumber(ARGV[3]) - epoch)) "
+                    + "return redis.call('ZINCRBY', KEYS[1], delta, ARGV[4])",
+            String.class);
+
+    /**
+     * 멤버 점수 설정: 호출 측 기준 시각(ARGV[3]) 대비 점수를 저장된 기준 시각 대비 점수로 환산해 ZADD
+     * (저장된 기준 시각이 없으면 ARGV[3]을 기준 시각으로 저장)
+     * ARGV: scoreAtCallerEpoch, lambda, callerEpochSeconds, member
+     */
+    private static final RedisScript<String> SET_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('GET', KEYS[2]) or ARGV[3]) "
+                    + "redis.call('SETNX', KEYS[2], ARGV[3]) "
+                    + "local score = tonumber(ARGV[1]) * math.exp(tonumber(ARGV[2]) * (tonumber(ARGV[3]) - epoch)) "
+                    + "redis.call('ZADD', KEYS[1], score, ARGV[4]) "
+                    + "return tostring(score)",
+            String.class);
+
+    /**
+     * 기준 시각 이동: 모든 점수에 e^(−λ × (새 기준 − 기존 기준))을 곱해 크기를 제한
+     * ARGV: lambda, newEpochSeconds
+     */
+    private static final RedisScript<String> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+                    + "if not epoch then redis.call('SET', KEYS[2], ARGV[2]) return '1' end "
+                    + "local factor = math.exp(-tonumber(ARGV[1]) * (tonumber(ARGV[2]) - epoch)) "
+                    + "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor)) "
+                    + "redis.call('SET', KEYS[2], ARGV[2]) "
+                    + "return tostring(factor)",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사건(좋아요/완료 등) 반영 - 랭킹에 있는 투두리스트만
+     */
+    public void increment(Long todoListId, double weight, double lambda, long eventEpochSeconds) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY, EPOCH_KEY),
+                String.valueOf(weight), String.valueOf(lambda), String.valueOf(eventEpochSeconds), todoListId.toString());
+    }
+
+    /**
+     * 점수 설정 (전체 재구성/공개 전환 시)
+     * @param scoreAtEpoch callerEpochSeconds 기준 점수
+     */
+    public void put(Long todoListId, double scoreAtEpoch, double lambda, long callerEpochSeconds) {
+        redisTemplate.execute(SET_SCRIPT, List.of(KEY, EPOCH_KEY),
+                String.valueOf(scoreAtEpoch), String.valueOf(lambda), String.valueOf(callerEpochSeconds), todoListId.toString());
+    }
+
+    public void remove(Long todoListId) {
+        redisTemplate.opsForZSet().remove(KEY, todoListId.toString());
+    }
+
+    public void rebase(double lambda, long newEpochSeconds) {
+        redisTemplate.execute(REBASE_SCRIPT, List.of(KEY, EPOCH_KEY),
+                String.valueOf(lambda), String.valueOf(newEpochSeconds));
+    }
+
+    /**
+     * 점수 내림차순 ID 페이지 (ZREVRANGE)
+     */
+    public List<Long> findTopIds(long offset, int count) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(KEY, offset, offset + count - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    public long count() {
+        Long size = redisTemplate.opsForZSet().zCard(KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 전체 교체 (재구성용): 기존 키를 지우고 기준 시각과 점수를 새로 저장
+     * @param scores todoListId → epochSeconds 기준 점수
+     */
+    public void replaceAll(Map<Long, Double> scores, long epochSeconds) {
+        redisTemplate.delete(KEY);
+        redisTemplate.opsForValue().set(EPOCH_KEY, String.valueOf(epochSeconds));
+        if (scores.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scores.forEach((id, score) -> tuples.add(ZSetOperations.TypedTuple.of(id.toString(), score)));
+        redisTemplate.opsForZSet().add(KEY, tuples);
+        log.info("[Redis] 인기 투두리스트 랭킹 재구성 - {}건", scores.size());
+    }
+}
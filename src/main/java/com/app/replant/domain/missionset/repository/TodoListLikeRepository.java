@@ -24,6 +24,11 @@ public interface TodoListLikeRepository extends JpaRepository<TodoListLike, Long
 
     void deleteByTodoList(TodoList todoList);
 
+    /** 상세용: 좋아요 수와 사용자 좋아요 여부를 한 번에 조회 (결과 1행: [count, likedByUser 0/1], userId가 null이면 0) */
+    @Query("SELECT COUNT(t), COALESCE(SUM(CASE WHEN t.user.id = :userId THEN 1 ELSE 0 END), 0) "
+            + "FROM TodoListLike t WHERE t.todoList.id = :todoListId")
+    List<Object[]> countAndLikedByUser(@Param("todoListId") Long todoListId, @Param("userId") Long userId);
+
     /** 목록용: 여러 투두리스트 ID에 대한 좋아요 수 (todoListId, count) */
     @Query("SELECT t.todoList.id, COUNT(t) FROM TodoListLike t WHERE t.todoList.id IN :ids GROUP BY t.todoList.id")
     List<Object[]> countGroupByTodoListId(@Param("ids") List<Long> ids);
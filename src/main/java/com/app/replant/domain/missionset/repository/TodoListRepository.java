@@ -2,12 +2,71 @@ package com.app.replant.domain.missionset.repository;
 
 import com.app.replant.domain.missionset.entity.TodoList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * TodoList Repository
  * QueryDSL을 사용한 복잡한 쿼리는 TodoListRepositoryCustom을 통해 구현
  */
 @Repository
 public interface TodoListRepository extends JpaRepository<TodoList, Long>, TodoListRepositoryCustom {
+
+    /**
+     * 완료 미션 수 +1 (원자적 증가, 동시 완료에도 갱신 유실 없음)
+     * 같은 UPDATE에서 진행률이 80% 이상이 되면 ACTIVE → COMPLETED 전환 (TodoList.canCreateNewTodoList 기준)
+     * MySQL은 SET 절을 왼쪽부터 적용하므로 상태를 먼저 계산 (증가 후 값 = completed_count + 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE todolist SET " +
+            "todolist_status = CASE WHEN todolist_status = 'ACTIVE' AND set_type = 'TODOLIST' AND total_count > 0 " +
+            "AND ROUND((COALESCE(completed_count, 0) + 1) * 100 / total_count) >= 80 " +
+            "THEN 'COMPLETED' ELSE todolist_status END, " +
+            "completed_count = COALESCE(completed_count, 0) + 1, " +
+            "updated_at = NOW() " +
+            "WHERE id = :todoListId", nativeQuery = true)
+    int incrementCompletedCount(@Param("todoListId") Long todoListId);
+
+    /**
+     * 완료 미션 수 -1 (원자적 감소, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE todolist SET " +
+            "completed_count = GREATEST(COALESCE(completed_count, 0) - 1, 0), " +
+            "updated_at = NOW() " +
+            "WHERE id = :todoListId", nativeQuery = true)
+    int decrementCompletedCount(@Param("todoListId") Long todoListId);
+
+    /**
+     * 현재 진행 상태 [completedCount, todolistStatus] (원자적 UPDATE 이후 응답 생성용)
+     */
+    @Query("SELECT t.completedCount, t.todolistStatus FROM TodoList t WHERE t.id = :todoListId")
+    List<Object[]> findProgressById(@Param("todoListId") Long todoListId);
+
+    /**
+     * 공개 투두리스트 인기 점수 계산 (기준 시각 epoch 대비 감쇠 가중 합)
+     * 점수 = 작성 가중치 × e^(λ·Δ작성) + 좋아요 가중치 × Σ e^(λ·Δ좋아요) + 완료 가중치 × Σ e^(λ·Δ완료)
+     * @param todoListId null이면 전체 공개 투두리스트, 아니면 해당 투두리스트만 (비공개면 결과 없음)
+     * @return [todolist_id, score]
+     */
+    @Query(value = "SELECT t.id, " +
+            ":creationWeight * EXP(:lambda * TIMESTAMPDIFF(SECOND, :epoch, t.created_at)) " +
+            "+ :likeWeight * COALESCE((SELECT SUM(EXP(:lambda * TIMESTAMPDIFF(SECOND, :epoch, l.created_at))) " +
+            "    FROM todolist_like l WHERE l.todolist_id = t.id), 0) " +
+            "+ :completionWeight * COALESCE((SELECT SUM(EXP(:lambda * TIMESTAMPDIFF(SECOND, :epoch, m.completed_at))) " +
+            "    FROM todolist_mission m WHERE m.todolist_id = t.id AND m.is_completed = TRUE AND m.completed_at IS NOT NULL), 0) " +
+            "FROM todolist t " +
+            "WHERE t.set_type = 'TODOLIST' AND t.is_public = TRUE " +
+            "AND (:todoListId IS NULL OR t.id = :todoListId)", nativeQuery = true)
+    List<Object[]> computePopularityScores(@Param("todoListId") Long todoListId,
+                                           @Param("epoch") LocalDateTime epoch,
+                                           @Param("lambda") double lambda,
+                                           @Param("creationWeight") double creationWeight,
+                                           @Param("likeWeight") double likeWeight,
+                                           @Param("completionWeight") double completionWeight);
 }
@@ -27,15 +27,17 @@ public interface TodoListRepositoryCustom {
 
     long countActiveTodoListsByCreator(User creator);
 
-    long countAllTodoListsByCreator(User creator);
-
     boolean existsByCreatorAndCreatedDate(User creator, LocalDateTime startOfDay, LocalDateTime endOfDay);
 
     Optional<TodoList> findTodoListByIdWithMissions(Long id);
 
-    List<TodoList> findAllActiveTodoLists();
-
     Page<TodoList> findPublicTodoLists(Pageable pageable, String sortBy);
 
+    /**
+     * 공개 투두리스트 ID 목록 조회 (creator fetch join, 순서는 호출 측에서 맞춤)
+     * 인기 랭킹 페이지의 hydration용
+     */
+    List<TodoList> findPublicByIdsWithCreator(List<Long> todoListIds);
+
     Page<TodoList> searchPublicTodoLists(String keyword, Pageable pageable, String sortBy);
 }
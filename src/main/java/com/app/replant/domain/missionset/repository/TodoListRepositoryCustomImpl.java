@@ -106,19 +106,6 @@ public class TodoListRepositoryCustomImpl implements TodoListRepositoryCustom {
         return count != null ? count : 0L;
     }
 
-    @Override
-    public long countAllTodoListsByCreator(User creator) {
-        Long count = queryFactory
-                .select(todoList.count())
-                .from(todoList)
-                .where(todoList.creator.eq(creator)
-                        .and(todoList.setType.eq(MissionSetType.TODOLIST))
-                        .and(isActive()))
-                .fetchOne();
-
-        return count != null ? count : 0L;
-    }
-
     @Override
     public boolean existsByCreatorAndCreatedDate(User creator, LocalDateTime startOfDay, LocalDateTime endOfDay) {
         Long count = queryFactory
@@ -138,6 +125,7 @@ public class TodoListRepositoryCustomImpl implements TodoListRepositoryCustom {
     public Optional<TodoList> findTodoListByIdWithMissions(Long id) {
         TodoList result = queryFactory
                 .selectFrom(todoList)
+                .leftJoin(todoList.creator, user).fetchJoin()
                 .leftJoin(todoList.missions, todoListMission).fetchJoin()
                 .leftJoin(todoListMission.mission, mission).fetchJoin()
                 .where(todoList.id.eq(id)
@@ -150,15 +138,16 @@ public class TodoListRepositoryCustomImpl implements TodoListRepositoryCustom {
     }
 
     @Override
-    public List<TodoList> findAllActiveTodoLists() {
+    public List<TodoList> findPublicByIdsWithCreator(List<Long> todoListIds) {
+        if (todoListIds.isEmpty()) {
+            return List.of();
+        }
         return queryFactory
                 .selectFrom(todoList)
-                .leftJoin(todoList.missions, todoListMission).fetchJoin()
-                .leftJoin(todoListMission.mission, mission).fetchJoin()
-                .where(todoList.setType.eq(MissionSetType.TODOLIST)
-                        .and(todoList.todolistStatus.eq(TodoListStatus.ACTIVE))
-                        .and(isActive()))
-                .distinct()
+                .leftJoin(todoList.creator, user).fetchJoin()
+                .where(todoList.id.in(todoListIds)
+                        .and(todoList.setType.eq(MissionSetType.TODOLIST))
+                        .and(todoList.isPublic.isTrue()))
                 .fetch();
     }
 
@@ -0,0 +1,194 @@
+package com.app.replant.domain.missionset.service;
+
+import com.app.replant.domain.missionset.entity.TodoList;
+import com.app.replant.domain.missionset.event.TodoListChangedEvent;
+import com.app.replant.domain.missionset.repository.RedisTodoListRankingRepository;
+import com.app.replant.domain.missionset.repository.TodoListRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 투두리스트 인기 점수 (Redis Sorted Set)
+ * - 점수 = 작성·좋아요·완료 사건의 가중치를 사건 시각 기준으로 지수 감쇠(반감기 3일)시킨 합
+ * - 좋아요/좋아요 취소/미션 완료/완료 취소는 커밋 이후 증분 반영, 공개 여부 변경은 해당 투두리스트만 재계산
+ * - 인기순 목록은 ZREVRANGE 페이지 + hydration 쿼리 1회로 조회
+ * - Redis 장애 시 호출 측은 DB 정렬로 폴백하고, 어긋난 점수는 야간 재구성으로 보정
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TodoListPopularityService {
+
+    // 공개 투두리스트 기본 점수 (작성 시각 기준으로 감쇠 → 새 투두리스트가 상위에 노출될 기회)
+    static final double CREATION_WEIGHT = 5.0;
+    static final double LIKE_WEIGHT = 3.0;
+    static final double COMPLETION_WEIGHT = 1.0;
+    // 반감기 3일
+    static final double LAMBDA = Math.log(2) / Duration.ofDays(3).toSeconds();
+
+    private final RedisTodoListRankingRepository rankingRepository;
+    private final TodoListRepository todoListRepository;
+
+    // ========================================
+    // 증분 반영 (커밋 이후)
+    // ========================================
+
+    public void recordLike(Long todoListId) {
+        incrementAfterCommit(todoListId, LIKE_WEIGHT, LocalDateTime.now());
+    }
+
+    /**
+     * @param likedAt 취소된 좋아요의 작성 시각 (추가 때와 같은 가중치를 빼기 위해 사용)
+     */
+    public void recordUnlike(Long todoListId, LocalDateTime likedAt) {
+        incrementAfterCommit(todoListId, -LIKE_WEIGHT, likedAt);
+    }
+
+    public void recordCompletion(Long todoListId, LocalDateTime completedAt) {
+        incrementAfterCommit(todoListId, COMPLETION_WEIGHT, completedAt);
+    }
+
+    /**
+     * @param completedAt 취소된 완료의 완료 시각 (완료 취소 전에 읽어 둔 값)
+     */
+    public void recordUncompletion(Long todoListId, LocalDateTime completedAt) {
+        incrementAfterCommit(todoListId, -COMPLETION_WEIGHT, completedAt);
+    }
+
+    /**
+     * 투두리스트 생성/수정(공개 여부)/삭제 커밋 이후 해당 투두리스트 점수 재계산 (비공개·삭제면 랭킹에서 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTodoListChanged(TodoListChangedEvent event) {
+        try {
+            LocalDateTime epoch = LocalDateTime.now();
+            List<Object[]> rows = computeScores(event.todoListId(), epoch);
+            if (rows.isEmpty()) {
+                rankingRepository.remove(event.todoListId());
+            } else {
+                rankingRepository.put(event.todoListId(), ((Number) rows.get(0)[1]).doubleValue(), LAMBDA,
+                        toEpochSeconds(epoch));
+            }
+        } catch (Exception e) {
+            log.warn("[인기 투두리스트] 점수 재계산 실패 - todoListId: {}", event.todoListId(), e);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 인기순 공개 투두리스트 페이지 (ZREVRANGE + hydration 쿼리 1회)
+     * @return 랭킹을 쓸 수 없으면(Redis 장애, 재구성 전) empty → 호출 측에서 DB 정렬로 폴백
+     */
+    public Optional<Page<TodoList>> findPopularPage(Pageable pageable) {
+        List<Long> ids;
+        long total;
+        try {
+            total = rankingRepository.count();
+            if (total == 0) {
+                return Optional.empty();
+            }
+            ids = rankingRepository.findTopIds(pageable.getOffset(), pageable.getPageSize());
+        } catch (Exception e) {
+            log.warn("[인기 투두리스트] 랭킹 조회 실패, DB 정렬로 폴백", e);
+            return Optional.empty();
+        }
+
+        Map<Long, TodoList> byId = todoListRepository.findPublicByIdsWithCreator(ids).stream()
+                .collect(Collectors.toMap(TodoList::getId, Function.identity()));
+        List<TodoList> content = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return Optional.of(new PageImpl<>(content, pageable, total));
+    }
+
+    // ========================================
+    // 유지보수 (스케줄러)
+    // ========================================
+
+    /**
+     * 감쇠 기준 시각을 현재로 이동 (저장 점수 크기 제한)
+     */
+    public void rebase() {
+        rankingRepository.rebase(LAMBDA, toEpochSeconds(LocalDateTime.now()));
+    }
+
+    /**
+     * DB 원본(작성/좋아요/완료 시각)으로 전체 랭킹 재구성
+     */
+    public int rebuild() {
+        LocalDateTime epoch = LocalDateTime.now();
+        Map<Long, Double> scores = new HashMap<>();
+        for (Object[] row : computeScores(null, epoch)) {
+            scores.put(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue());
+        }
+        rankingRepository.replaceAll(scores, toEpochSeconds(epoch));
+        return scores.size();
+    }
+
+    public boolean isEmpty() {
+        return rankingRepository.count() == 0;
+    }
+
+    private List<Object[]> computeScores(Long todoListId, LocalDateTime epoch) {
+        return todoListRepository.computePopularityScores(todoListId, epoch, LAMBDA,
+                CREATION_WEIGHT, LIKE_WEIGHT, COMPLETION_WEIGHT);
+    }
+
+    private void incrementAfterCommit(Long todoListId, double weight, LocalDateTime eventAt) {
+        if (todoListId == null || eventAt == null) {
+            return;
+        }
+        Runnable increment = () -> {
+            try {
+                rankingRepository.increment(todoListId, weight, LAMBDA, toEpochSeconds(eventAt));
+            } catch (Exception e) {
+                log.warn("[인기 투두리스트] 점수 반영 실패 - todoListId: {}, weight: {}", todoListId, weight, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+        } else {
+            increment.run();
+        }
+    }
+
+    /**
+     * 엔티티 시각(LocalDateTime.now(), 시스템 시간대)과 같은 기준으로 epoch seconds 변환
+     * DB의 TIMESTAMPDIFF와 같은 시간대 차이를 쓰므로 재구성 점수와 증분 점수가 일치함
+     */
+    private static long toEpochSeconds(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
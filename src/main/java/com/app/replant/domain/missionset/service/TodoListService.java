@@ -1,11 +1,17 @@
 package com.app.replant.domain.missionset.service;
 
 import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.enums.MissionType;
 import com.app.replant.domain.mission.repository.MissionRepository;
+import com.app.replant.domain.mission.service.MissionRandomSampler;
+import com.app.replant.domain.mission.service.MissionSearchCondition;
+import com.app.replant.domain.mission.service.MissionSearchIndex;
+import com.app.replant.domain.mission.service.MissionStatsService;
 import com.app.replant.domain.missionset.dto.TodoListDto;
 import com.app.replant.domain.missionset.entity.TodoList;
 import com.app.replant.domain.missionset.entity.TodoListLike;
 import com.app.replant.domain.missionset.entity.TodoListMission;
+import com.app.replant.domain.missionset.event.TodoListChangedEvent;
 import com.app.replant.domain.missionset.enums.MissionSource;
 import com.app.replant.domain.missionset.enums.TodoListStatus;
 import com.app.replant.domain.missionset.repository.TodoListLikeRepository;
@@ -18,12 +24,16 @@ import com.app.replant.domain.usermission.enums.UserMissionStatus;
 import com.app.replant.domain.usermission.repository.UserMissionRepository;
 import com.app.replant.domain.badge.repository.UserBadgeRepository;
 import com.app.replant.domain.post.repository.PostRepository;
+import com.app.replant.domain.post.service.EngagementLoader;
+import com.app.replant.domain.post.service.PublicFeedCache;
+import com.app.replant.global.common.dto.CursorResponse;
+import com.app.replant.global.common.dto.TimeIdCursor;
 import com.app.replant.global.exception.CustomException;
 import com.app.replant.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,11 +41,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -52,16 +65,23 @@ public class TodoListService {
         private final UserMissionRepository userMissionRepository;
         private final UserBadgeRepository userBadgeRepository;
         private final PostRepository postRepository;
+        private final MissionStatsService missionStatsService;
+        private final MissionRandomSampler missionRandomSampler;
+        private final MissionSearchIndex missionSearchIndex;
+        private final EngagementLoader engagementLoader;
+        private final PublicFeedCache publicFeedCache;
+        private final TodoListPopularityService todoListPopularityService;
+        private final ApplicationEventPublisher eventPublisher;
 
         private static final int RANDOM_OFFICIAL_COUNT = 3; // 필수 공식 미션 개수
+        private static final int MAX_SELECTABLE_PAGE_SIZE = 50;
 
         /**
          * 투두리스트 초기화 - 랜덤 공식 미션 3개 조회
          */
         public TodoListDto.InitResponse initTodoList(Long userId) {
                 // 랜덤 공식 미션 3개 조회
-                List<Mission> randomMissions = missionRepository
-                                .findRandomOfficialNonChallengeMissions(RANDOM_OFFICIAL_COUNT);
+                List<Mission> randomMissions = missionRandomSampler.sample(RANDOM_OFFICIAL_COUNT);
 
                 if (randomMissions.size() < RANDOM_OFFICIAL_COUNT) {
                         log.warn("공식 미션이 {}개 미만입니다. 현재: {}개", RANDOM_OFFICIAL_COUNT, randomMissions.size());
@@ -78,8 +98,8 @@ public class TodoListService {
          * 랜덤 미션 리롤 - 기존 미션을 제외하고 새로운 랜덤 미션 1개 조회
          */
         public TodoListDto.MissionSimpleResponse rerollRandomMission(Long userId, List<Long> excludeMissionIds) {
-                Mission newMission = missionRepository
-                                .findRandomOfficialNonChallengeMissionExcluding(excludeMissionIds)
+                Mission newMission = missionRandomSampler
+                                .sampleOne(excludeMissionIds)
                                 .orElseThrow(() -> new CustomException(ErrorCode.MISSION_NOT_FOUND, 
                                                 "교체할 수 있는 공식 미션이 없습니다."));
                 
@@ -87,44 +107,94 @@ public class TodoListService {
         }
 
         /**
-         * 커스텀 미션 도감 조회 (투두리스트 선택용)
-         * 본인 것 + 다른 사람의 공개 커스텀 미션
+         * 커스텀 미션 도감 조회 (투두리스트 선택용, 커서 기반)
+         * 본인 미션을 먼저, 이어서 다른 사람의 공개 커스텀 미션을 각각 작성 시각 최신순으로 반환
+         * - 검색어가 있으면 검색 색인의 관련도 순서로 반환 (색인 빌드 전에는 DB 부분 일치, 최신순)
          */
-        public List<TodoListDto.MissionSimpleResponse> getSelectableMissions(Long userId, Boolean onlyMine, String searchQuery) {
-                List<Mission> missions;
-                
-                if (Boolean.TRUE.equals(onlyMine)) {
-                        // 본인 것만 조회
-                        missions = missionRepository.findNonChallengeCustomMissionsByCreator(userId);
-                } else {
-                        // 본인이 만든 커스텀 미션
-                        List<Mission> myMissions = missionRepository.findNonChallengeCustomMissionsByCreator(userId);
-                        // 다른 사람들의 공개 커스텀 미션
-                        List<Mission> publicMissions = missionRepository.findAllPublicNonChallengeCustomMissions();
-
-                        // 중복 제거 (본인 것이 공개일 경우)
-                        java.util.Set<Long> myMissionIds = myMissions.stream()
-                                        .map(Mission::getId)
-                                        .collect(java.util.stream.Collectors.toSet());
-
-                        missions = new java.util.ArrayList<>(myMissions);
-                        publicMissions.stream()
-                                        .filter(m -> !myMissionIds.contains(m.getId()))
-                                        .forEach(missions::add);
-                }
-                
-                // 검색어 필터링
-                if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-                        String query = searchQuery.trim().toLowerCase();
-                        missions = missions.stream()
-                                        .filter(m -> m.getTitle().toLowerCase().contains(query) || 
-                                                   (m.getDescription() != null && m.getDescription().toLowerCase().contains(query)))
-                                        .collect(Collectors.toList());
+        public CursorResponse<TodoListDto.MissionSimpleResponse> getSelectableMissions(Long userId, Boolean onlyMine,
+                        String searchQuery, String cursor, int size) {
+                boolean mineOnly = Boolean.TRUE.equals(onlyMine);
+                int pageSize = Math.max(1, Math.min(size, MAX_SELECTABLE_PAGE_SIZE));
+
+                String keyword = searchQuery != null && !searchQuery.isBlank() ? searchQuery.trim() : null;
+                if (keyword != null && missionSearchIndex.isReady()) {
+                        return searchSelectableMissions(userId, mineOnly, keyword, cursor, pageSize);
+                }
+
+                TodoListDto.SelectableMissionCursor after = TodoListDto.SelectableMissionCursor.decode(cursor);
+
+                // size + 1개로 다음 페이지 여부 판단 (본인 미션 그룹이 모자라면 공개 미션 그룹으로 이어서 채움)
+                List<Mission> fetched = new ArrayList<>(pageSize + 1);
+                if (userId != null && (after == null || after.mine())) {
+                        TimeIdCursor position = after != null ? after.position() : null;
+                        fetched.addAll(missionRepository.findSelectableCustomMissionSlice(userId, true, keyword,
+                                        position != null ? position.time() : null,
+                                        position != null ? position.id() : null,
+                                        pageSize + 1));
+                }
+                if (!mineOnly && fetched.size() <= pageSize) {
+                        TimeIdCursor position = after != null && !after.mine() ? after.position() : null;
+                        fetched.addAll(missionRepository.findSelectableCustomMissionSlice(userId, false, keyword,
+                                        position != null ? position.time() : null,
+                                        position != null ? position.id() : null,
+                                        pageSize + 1 - fetched.size()));
+                }
+
+                return CursorResponse.of(fetched, pageSize,
+                                mission -> new TodoListDto.SelectableMissionCursor(mission.isCreator(userId),
+                                                new TimeIdCursor(mission.getCreatedAt(), mission.getId())).encode())
+                                .map(TodoListDto.MissionSimpleResponse::from);
+        }
+
+        /**
+         * 검색어가 있는 선택용 미션 조회 - 색인의 관련도 순위를 그대로 페이지로 나눔 (커서 = 순위 목록의 오프셋)
+         * 순위 목록은 본인 미션(관련도순) 뒤에 다른 사람의 공개 미션(관련도순)을 이어 붙여 구성
+         */
+        private CursorResponse<TodoListDto.MissionSimpleResponse> searchSelectableMissions(Long userId, boolean mineOnly,
+                        String keyword, String cursor, int pageSize) {
+                int offset = TodoListDto.SelectableSearchCursor.decode(cursor).offset();
+
+                List<Long> rankedIds = new ArrayList<>();
+                if (userId != null) {
+                        rankedIds.addAll(missionSearchIndex.searchIds(MissionSearchCondition.builder()
+                                        .keyword(keyword)
+                                        .missionType(MissionType.CUSTOM)
+                                        .creatorId(userId)
+                                        .onlyCreator(true)
+                                        .build()));
+                }
+                if (!mineOnly) {
+                        Set<Long> mineIds = new HashSet<>(rankedIds);
+                        for (Long missionId : missionSearchIndex.searchIds(MissionSearchCondition.builder()
+                                        .keyword(keyword)
+                                        .missionType(MissionType.CUSTOM)
+                                        .creatorId(userId)
+                                        .publicOnly(true)
+                                        .build())) {
+                                if (!mineIds.contains(missionId)) {
+                                        rankedIds.add(missionId);
+                                }
+                        }
                 }
 
-                return missions.stream()
-                                .map(TodoListDto.MissionSimpleResponse::from)
-                                .collect(Collectors.toList());
+                int from = Math.min(offset, rankedIds.size());
+                int to = Math.min(from + pageSize, rankedIds.size());
+                List<Long> pageIds = rankedIds.subList(from, to);
+                Map<Long, Mission> missionsById = missionRepository.findByIdIn(pageIds).stream()
+                                .collect(Collectors.toMap(Mission::getId, Function.identity()));
+                boolean hasNext = to < rankedIds.size();
+
+                // 색인 갱신 직후 삭제된 미션은 건너뜀 (순위 위치는 그대로 유지)
+                return CursorResponse.<TodoListDto.MissionSimpleResponse>builder()
+                                .content(pageIds.stream()
+                                                .map(missionsById::get)
+                                                .filter(Objects::nonNull)
+                                                .map(TodoListDto.MissionSimpleResponse::from)
+                                                .toList())
+                                .nextCursor(hasNext ? new TodoListDto.SelectableSearchCursor(to).encode() : null)
+                                .hasNext(hasNext)
+                                .size(pageSize)
+                                .build();
         }
         
         /**
@@ -132,8 +202,34 @@ public class TodoListService {
          * userId가 있으면 isLiked를 채우고, 목록에 likeCount를 채운다.
          */
         public Page<TodoListDto.SimpleResponse> getPublicTodoLists(Pageable pageable, String sortBy, Long userId) {
-                Page<TodoList> page = todoListRepository.findPublicTodoLists(pageable, sortBy != null ? sortBy : "latest");
-                return enrichSimpleResponsesWithLikes(page, userId);
+                String sort = "popular".equalsIgnoreCase(sortBy) ? "popular" : "latest";
+                if (!publicFeedCache.isCacheable(pageable)) {
+                        Page<TodoList> page = findPublicTodoListPage(pageable, sort);
+                        return enrichSimpleResponsesWithLikes(page, userId);
+                }
+
+                // 앞쪽 페이지는 캐시 사용, 사용자 전용 필드(isLiked)만 요청마다 덧씌움
+                Page<TodoListDto.SimpleResponse> cached = publicFeedCache.getTodoListPage(sort, pageable,
+                                () -> enrichSimpleResponsesWithLikes(findPublicTodoListPage(pageable, sort), null));
+                if (userId == null) {
+                        return cached;
+                }
+                Set<Long> likedIds = engagementLoader.likedTodoListIds(
+                                cached.getContent().stream().map(TodoListDto.SimpleResponse::getId).toList(), userId);
+                return cached.map(response -> response.withLiked(likedIds.contains(response.getId())));
+        }
+
+        /**
+         * 인기순은 Redis 인기 점수 랭킹, 최신순(또는 랭킹 사용 불가 시)은 DB 정렬
+         */
+        private Page<TodoList> findPublicTodoListPage(Pageable pageable, String sort) {
+                if ("popular".equals(sort)) {
+                        Optional<Page<TodoList>> ranked = todoListPopularityService.findPopularPage(pageable);
+                        if (ranked.isPresent()) {
+                                return ranked.get();
+                        }
+                }
+                return todoListRepository.findPublicTodoLists(pageable, sort);
         }
 
         /**
@@ -146,25 +242,11 @@ public class TodoListService {
 
         /** 목록/검색 결과에 likeCount, isLiked 채우기 (배치 쿼리로 N+1 방지) */
         private Page<TodoListDto.SimpleResponse> enrichSimpleResponsesWithLikes(Page<TodoList> page, Long userId) {
-                List<TodoList> content = page.getContent();
-                if (content.isEmpty()) {
-                        return page.map(TodoListDto.SimpleResponse::from);
-                }
-                List<Long> ids = content.stream().map(TodoList::getId).collect(Collectors.toList());
-                Map<Long, Long> countMap = new HashMap<>();
-                for (Object[] row : todoListLikeRepository.countGroupByTodoListId(ids)) {
-                        countMap.put((Long) row[0], (Long) row[1]);
-                }
-                Set<Long> likedIds = new HashSet<>();
-                if (userId != null) {
-                        likedIds.addAll(todoListLikeRepository.findTodoListIdsLikedByUserAndTodoListIdIn(userId, ids));
-                }
-                List<TodoListDto.SimpleResponse> enriched = content.stream()
-                                .map(tl -> TodoListDto.SimpleResponse.from(tl,
-                                                countMap.getOrDefault(tl.getId(), 0L).intValue(),
-                                                likedIds.contains(tl.getId())))
-                                .collect(Collectors.toList());
-                return new PageImpl<>(enriched, page.getPageable(), page.getTotalElements());
+                List<Long> ids = page.getContent().stream().map(TodoList::getId).collect(Collectors.toList());
+                EngagementLoader.Engagement engagement = engagementLoader.loadForTodoLists(ids, userId);
+                return page.map(tl -> TodoListDto.SimpleResponse.from(tl,
+                                (int) engagement.likeCount(tl.getId()),
+                                engagement.isLiked(tl.getId())));
         }
 
         /**
@@ -178,22 +260,25 @@ public class TodoListService {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
                 Long creatorId = todoList.getCreator() != null ? todoList.getCreator().getId() : null;
-                List<TodoListDto.TodoMissionInfo> missionInfos = new java.util.ArrayList<>();
-                if (todoList.getMissions() != null) {
-                        for (TodoListMission msm : todoList.getMissions()) {
-                                Long verificationPostId = null;
-                                if (creatorId != null && msm.getMission() != null) {
-                                        verificationPostId = postRepository.findVerificationPostByUserIdAndMissionId(creatorId, msm.getMission().getId())
-                                                .map(p -> p.getId())
-                                                .orElse(null);
-                                }
-                                missionInfos.add(TodoListDto.TodoMissionInfo.fromPublic(msm, verificationPostId));
-                        }
-                }
-                int likeCount = (int) todoListLikeRepository.countByTodoList(todoList);
-                boolean isLiked = userId != null && userRepository.findById(userId)
-                        .map(user -> todoListLikeRepository.existsByTodoListAndUser(todoList, user))
-                        .orElse(false);
+                List<TodoListMission> missions = todoList.getMissions() != null ? todoList.getMissions() : List.of();
+
+                // 작성자의 미션별 인증 게시글 ID를 한 번에 조회 (미션 수와 무관하게 쿼리 1개)
+                List<Long> missionIds = missions.stream()
+                                .filter(msm -> msm.getMission() != null)
+                                .map(msm -> msm.getMission().getId())
+                                .distinct()
+                                .toList();
+                Map<Long, Long> verificationPostIds = postRepository
+                                .findLatestVerificationPostIdsByUserIdAndMissionIds(creatorId, missionIds);
+                List<TodoListDto.TodoMissionInfo> missionInfos = missions.stream()
+                                .map(msm -> TodoListDto.TodoMissionInfo.fromPublic(msm,
+                                                msm.getMission() != null ? verificationPostIds.get(msm.getMission().getId()) : null))
+                                .collect(Collectors.toList());
+
+                // 좋아요 수와 좋아요 여부를 한 번에 조회
+                Object[] likeRow = todoListLikeRepository.countAndLikedByUser(todoListId, userId).get(0);
+                int likeCount = ((Number) likeRow[0]).intValue();
+                boolean isLiked = ((Number) likeRow[1]).intValue() > 0;
                 return TodoListDto.DetailResponse.fromPublicDetail(todoList, missionInfos, likeCount, isLiked);
         }
 
@@ -217,6 +302,7 @@ public class TodoListService {
                                 .user(user)
                                 .build();
                 todoListLikeRepository.save(like);
+                todoListPopularityService.recordLike(todoListId);
         }
 
         /**
@@ -228,7 +314,10 @@ public class TodoListService {
                                 .orElseThrow(() -> new CustomException(ErrorCode.MISSION_SET_NOT_FOUND));
                 User user = userRepository.findById(userId)
                                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-                todoListLikeRepository.deleteByTodoListAndUser(todoList, user);
+                todoListLikeRepository.findByTodoListAndUser(todoList, user).ifPresent(like -> {
+                        todoListLikeRepository.delete(like);
+                        todoListPopularityService.recordUnlike(todoListId, like.getCreatedAt());
+                });
         }
 
         /**
@@ -279,6 +368,7 @@ public class TodoListService {
                                 .build();
 
                 // 랜덤 공식 미션 추가
+                List<UserMission> userMissions = new ArrayList<>(totalMissionCount);
                 int order = 0;
                 LocalDateTime defaultDueDate = now.plusDays(7); // 기본 마감일 7일
 
@@ -318,7 +408,7 @@ public class TodoListService {
                                         .dueDate(dueDate)
                                         .status(UserMissionStatus.ASSIGNED)
                                         .build();
-                        userMissionRepository.save(userMission);
+                        userMissions.add(userMission);
                 }
 
                 // 커스텀 미션 추가
@@ -359,10 +449,15 @@ public class TodoListService {
                                         .dueDate(dueDate)
                                         .status(UserMissionStatus.ASSIGNED)
                                         .build();
-                        userMissionRepository.save(userMission);
+                        userMissions.add(userMission);
                 }
 
+                // TodoListMission/UserMission INSERT는 flush 시점에 각각 JDBC 배치 한 번으로 전송 (pooled ID)
                 todoListRepository.save(todoList);
+                userMissionRepository.saveAll(userMissions);
+                missionStatsService.recordAssigned(userId, userMissions.stream()
+                                .map(UserMission::getMissionId)
+                                .toList());
 
                 log.info("투두리스트 생성 완료: id={}, userId={}, 필수 미션 {}개, 커스텀 미션 {}개, 총 {}개",
                                 todoList.getId(), userId, RANDOM_OFFICIAL_COUNT, customMissions.size(), totalMissionCount);
@@ -376,8 +471,7 @@ public class TodoListService {
                 User user = userRepository.findById(userId)
                                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-                return todoListRepository.findTodoListsByCreator(user, pageable)
-                                .map(TodoListDto.SimpleResponse::from);
+                return enrichSimpleResponsesWithLikes(todoListRepository.findTodoListsByCreator(user, pageable), userId);
         }
 
         /**
@@ -459,11 +553,15 @@ public class TodoListService {
                         List<UserMission> userMissions = userMissionRepository.findByUserIdAndMissionIdAndStatusAssigned(userId, missionId);
                         if (!userMissions.isEmpty()) {
                                 userMissions.get(0).complete();
+                                missionStatsService.recordCompleted(userMissions.get(0));
                         }
                 }
 
-                // 투두리스트 완료 카운트 증가
-                todoList.incrementCompletedCount();
+                // 투두리스트 완료 카운트 증가 (원자적 UPDATE, 기준 도달 시 같은 UPDATE에서 COMPLETED 전환)
+                todoListRepository.incrementCompletedCount(todoListId);
+                todoListRepository.findProgressById(todoListId).stream().findFirst()
+                                .ifPresent(row -> todoList.syncProgress((Integer) row[0], (TodoListStatus) row[1]));
+                todoListPopularityService.recordCompletion(todoListId, targetMission.getCompletedAt());
 
                 log.info("투두리스트 미션 완료: todoListId={}, missionId={}, completedCount={}",
                                 todoListId, missionId, todoList.getCompletedCount());
@@ -504,6 +602,7 @@ public class TodoListService {
                 }
 
                 todoList.archiveTodoList();
+                eventPublisher.publishEvent(new TodoListChangedEvent(todoListId));
                 log.info("투두리스트 보관 완료: todoListId={}, userId={}", todoListId, userId);
         }
 
@@ -531,6 +630,7 @@ public class TodoListService {
                 if (request.getIsPublic() != null) {
                         todoList.setPublic(request.getIsPublic());
                 }
+                eventPublisher.publishEvent(new TodoListChangedEvent(todoListId));
 
                 log.info("투두리스트 수정 완료: id={}, userId={}", todoListId, userId);
                 return TodoListDto.DetailResponse.from(todoList, userId, userMissionRepository);
@@ -577,6 +677,7 @@ public class TodoListService {
 
                 todoListLikeRepository.deleteByTodoList(todoList);
                 todoListRepository.delete(todoList);
+                eventPublisher.publishEvent(new TodoListChangedEvent(todoListId));
                 log.info("투두리스트 삭제 완료 (Hard Delete): todoListId={}, userId={}", todoListId, userId);
         }
 
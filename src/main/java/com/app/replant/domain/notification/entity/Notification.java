@@ -16,8 +16,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
 
+    // 배치 INSERT를 위해 IDENTITY 대신 테이블 기반 pooled 할당 (IdSequenceInitializer가 EntityManagerFactory 생성 전 기존 최대 ID 이후로 시작값 설정)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "notification", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,10 @@
+package com.app.replant.domain.notification.event;
+
+import java.util.List;
+
+/**
+ * 알림 다건 생성 이벤트
+ * 트랜잭션 커밋 이후 NotificationPushHandler가 비동기로 SSE/FCM 전송을 수행합니다.
+ */
+public record NotificationsCreatedEvent(List<Long> notificationIds) {
+}
@@ -6,6 +6,9 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Redis 기반 사용자 온라인 상태 저장소
@@ -68,6 +71,32 @@ public class RedisUserOnlineRepository {
         }
     }
 
+    /**
+     * 여러 사용자의 온라인 상태 일괄 확인 (MGET 1회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 온라인인 사용자 ID (조회 실패 시 빈 집합 → 호출 측은 FCM으로 전송)
+     */
+    public Set<Long> findOnlineUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    userIds.stream().map(this::getKey).toList());
+            Set<Long> online = new HashSet<>();
+            for (int i = 0; values != null && i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    online.add(userIds.get(i));
+                }
+            }
+            return online;
+        } catch (Exception e) {
+            log.error("[Redis] 사용자 온라인 상태 일괄 확인 실패 - count: {}", userIds.size(), e);
+            return Set.of();
+        }
+    }
+
     /**
      * 사용자 오프라인 상태로 변경 (키 삭제)
      *
@@ -0,0 +1,84 @@
+package com.app.replant.domain.notification.service;
+
+import com.app.replant.domain.notification.entity.Notification;
+import com.app.replant.domain.notification.event.NotificationsCreatedEvent;
+import com.app.replant.domain.notification.repository.NotificationRepository;
+import com.app.replant.domain.notification.repository.RedisUserOnlineRepository;
+import com.app.replant.domain.user.repository.UserRepository;
+import com.app.replant.global.infrastructure.service.fcm.FcmService;
+import com.app.replant.global.infrastructure.service.sse.SseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다건 알림 비동기 전송
+ * 알림 저장 트랜잭션이 커밋된 뒤 별도 스레드에서 SSE/FCM 전송 (스케줄러 트랜잭션과 전송 지연 분리)
+ * - 온라인 여부는 Redis MGET 1회, FCM 토큰은 IN 조회 1회로 확인
+ * - 온라인 사용자는 SSE (실패 시 FCM), 나머지는 FCM 배치 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushHandler {
+
+    private final NotificationRepository notificationRepository;
+    private final RedisUserOnlineRepository redisUserOnlineRepository;
+    private final UserRepository userRepository;
+    private final SseService sseService;
+    private final FcmService fcmService;
+
+    @Async("notificationPushExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        try {
+            List<Notification> notifications = notificationRepository.findAllById(event.notificationIds());
+            if (notifications.isEmpty()) {
+                return;
+            }
+
+            // user는 LAZY 프록시이므로 getId()는 추가 조회 없음
+            List<Long> userIds = notifications.stream()
+                    .map(notification -> notification.getUser().getId())
+                    .distinct()
+                    .toList();
+            Set<Long> onlineUserIds = redisUserOnlineRepository.findOnlineUserIds(userIds);
+
+            int sentViaSse = 0;
+            List<Notification> fcmTargets = new ArrayList<>();
+            for (Notification notification : notifications) {
+                Long userId = notification.getUser().getId();
+                if (onlineUserIds.contains(userId) && sseService.sendNotification(userId, notification)) {
+                    sentViaSse++;
+                } else {
+                    fcmTargets.add(notification);
+                }
+            }
+
+            int sentViaFcm = 0;
+            if (!fcmTargets.isEmpty()) {
+                Map<Long, String> tokensByUserId = new HashMap<>();
+                for (Object[] row : userRepository.findFcmTokensByIds(
+                        fcmTargets.stream().map(notification -> notification.getUser().getId()).distinct().toList())) {
+                    tokensByUserId.put((Long) row[0], (String) row[1]);
+                }
+                sentViaFcm = fcmService.sendNotifications(fcmTargets, tokensByUserId);
+            }
+
+            log.info("[알림] 비동기 전송 완료 - count: {}, SSE: {}, FCM: {}, 미전송(DB에만 저장): {}",
+                    notifications.size(), sentViaSse, sentViaFcm,
+                    notifications.size() - sentViaSse - sentViaFcm);
+        } catch (Exception e) {
+            log.warn("[알림] 비동기 전송 실패 - count: {}", event.notificationIds().size(), e);
+        }
+    }
+}
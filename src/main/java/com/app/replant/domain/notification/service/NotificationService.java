@@ -2,6 +2,7 @@ package com.app.replant.domain.notification.service;
 
 import com.app.replant.domain.notification.dto.NotificationResponse;
 import com.app.replant.domain.notification.entity.Notification;
+import com.app.replant.domain.notification.event.NotificationsCreatedEvent;
 import com.app.replant.domain.notification.enums.NotificationType;
 import com.app.replant.domain.notification.repository.NotificationRepository;
 import com.app.replant.domain.notification.repository.RedisUserOnlineRepository;
@@ -13,12 +14,16 @@ import com.app.replant.global.infrastructure.service.fcm.FcmService;
 import com.app.replant.global.infrastructure.service.sse.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -30,6 +35,7 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final SseService sseService;
     private final FcmService fcmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<NotificationResponse> getNotifications(Long userId, Boolean isRead, Pageable pageable) {
         return notificationRepository.findByUserIdAndIsRead(userId, isRead, pageable)
@@ -99,7 +105,49 @@ public class NotificationService {
         Notification saved = notificationRepository.save(notification);
         log.info("[알림] 저장 완료 - userId: {}, type: {}, title: {}", user.getId(), type, title);
 
-        Long userId = user.getId();
+        push(user.getId(), saved);
+        return saved;
+    }
+
+    /**
+     * 알림 다건 생성 (INSERT는 JDBC 배치로 전송) + 커밋 이후 비동기 SSE/FCM 전송
+     * 스케줄러처럼 한 번에 여러 사용자에게 알림을 보낼 때 사용 (전송 지연이 호출 트랜잭션에 영향 없음)
+     * @param notifications 저장할 알림 (user는 getReferenceById 프록시로 충분)
+     * @return 저장된 알림
+     */
+    @Transactional
+    public List<Notification> createNotificationsAndPushAsync(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(
+                saved.stream().map(Notification::getId).toList()));
+        log.info("[알림] 다건 저장 완료 - count: {}", saved.size());
+        return saved;
+    }
+
+    /**
+     * 같은 내용의 알림을 여러 사용자에게 생성 (참조 없음) + 커밋 이후 비동기 전송
+     * 사용자 엔티티를 조회하지 않고 ID 참조로 저장
+     */
+    @Transactional
+    public List<Notification> createNotificationsAndPushAsync(Collection<Long> userIds, NotificationType type,
+                                                              String title, String content) {
+        return createNotificationsAndPushAsync(userIds.stream()
+                .map(userId -> Notification.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .type(type.name())
+                        .title(title)
+                        .content(content)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 저장된 알림 전송: 온라인이면 SSE (실패 시 FCM), 오프라인이면 FCM
+     */
+    public void push(Long userId, Notification saved) {
         boolean isOnline = redisUserOnlineRepository.isOnline(userId);
         log.info("[알림] 온라인 여부 - userId: {}, isOnline: {} (true=SSE 시도, false=FCM만)", userId, isOnline);
 
@@ -136,8 +184,6 @@ public class NotificationService {
                 log.warn("[알림] FCM 전송 실패. DB에만 저장됨 - userId: {}", userId);
             }
         }
-
-        return saved;
     }
 
     /**
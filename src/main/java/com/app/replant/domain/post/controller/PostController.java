@@ -1,6 +1,7 @@
 package com.app.replant.domain.post.controller;
 
 import com.app.replant.global.common.ApiResponse;
+import com.app.replant.global.common.dto.CursorResponse;
 import com.app.replant.domain.post.dto.CommentRequest;
 import com.app.replant.domain.post.dto.CommentResponse;
 import com.app.replant.domain.post.dto.PostRequest;
@@ -75,6 +76,23 @@ public class PostController {
         return ApiResponse.success(posts);
     }
 
+    @Operation(summary = "게시글 피드 조회 (커서)",
+            description = "게시글 목록을 작성 시각 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다. (무한 스크롤용, 전체 개수 없음)")
+    @GetMapping("/feed")
+    public ApiResponse<CursorResponse<PostResponse>> getPostFeed(
+            @Parameter(description = "시스템 미션 ID로 필터링")
+            @RequestParam(required = false) Long missionId,
+            @Parameter(description = "배지 소유자 게시글만 조회")
+            @RequestParam(required = false) Boolean badgeOnly,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
+        CursorResponse<PostResponse> feed = postService.getPostFeed(missionId, badgeOnly, cursor, size, userId);
+        return ApiResponse.success(feed);
+    }
+
     @Operation(summary = "게시글 상세 조회")
     @GetMapping("/{postId}")
     public ApiResponse<PostResponse> getPost(
@@ -134,17 +152,39 @@ public class PostController {
     }
 
     // Comment endpoints
-    @Operation(summary = "댓글 목록 조회")
+    @Operation(summary = "댓글 목록 조회",
+            description = "최상위 댓글을 작성순으로 커서 기반 조회합니다. 각 댓글에는 답글 미리보기(replies)와 스레드 전체 답글 수(replyCount)가 포함되며, "
+                    + "nextRepliesCursor가 있으면 답글 더보기 API로 나머지 답글을 조회합니다.")
     @GetMapping("/{postId}/comments")
-    public ApiResponse<Page<CommentResponse>> getComments(
+    public ApiResponse<CursorResponse<CommentResponse>> getComments(
             @Parameter(description = "게시글 ID", example = "1")
             @PathVariable Long postId,
-            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<CommentResponse> comments = postService.getComments(postId, pageable, userId);
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
+        CursorResponse<CommentResponse> comments = postService.getComments(postId, cursor, size, userId);
         return ApiResponse.success(comments);
     }
 
+    @Operation(summary = "답글 더보기",
+            description = "최상위 댓글의 답글을 작성순으로 커서 기반 조회합니다. 답글의 답글도 평탄하게 포함되며 parentId로 위치를 구분합니다.")
+    @GetMapping("/{postId}/comments/{commentId}/replies")
+    public ApiResponse<CursorResponse<CommentResponse>> getReplies(
+            @Parameter(description = "게시글 ID", example = "1")
+            @PathVariable Long postId,
+            @Parameter(description = "최상위 댓글 ID", example = "1")
+            @PathVariable Long commentId,
+            @Parameter(description = "댓글의 nextRepliesCursor 또는 이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId) {
+        CursorResponse<CommentResponse> replies = postService.getReplies(postId, commentId, cursor, size, userId);
+        return ApiResponse.success(replies);
+    }
+
     @Operation(summary = "댓글 작성")
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             content = @Content(examples = @ExampleObject(value = """
@@ -5,9 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -22,6 +20,7 @@ public class CommentResponse {
     private Long parentId;
     private List<CommentResponse> replies;
     private int replyCount;
+    private String nextRepliesCursor;  // 답글 더보기 커서 (최상위 댓글만, 없으면 null)
     private Boolean isAuthor;  // 본인 댓글 여부 (프론트엔드에서 수정/삭제 버튼 표시용)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -92,17 +91,17 @@ public class CommentResponse {
     }
 
     /**
-     * 평탄 댓글 목록 + 부모별 자식 맵으로 답글의 답글까지 재귀 변환
+     * 답글 목록을 호출 측에서 미리 구성한 댓글 응답 (스레드 조회용, 재귀 없음)
+     * @param replies 표시할 답글 (없으면 null 또는 빈 목록)
+     * @param replyCount 답글 수 (최상위 댓글은 스레드 전체 답글 수)
+     * @param nextRepliesCursor 답글 더보기 커서 (미리보기에 모두 포함되면 null)
      */
-    public static CommentResponse fromWithRepliesRecursive(
+    public static CommentResponse of(
             Comment comment,
-            Map<Long, List<Comment>> repliesByParentId,
+            List<CommentResponse> replies,
+            int replyCount,
+            String nextRepliesCursor,
             Long currentUserId) {
-        List<Comment> childList = repliesByParentId.getOrDefault(comment.getId(), Collections.emptyList());
-        List<CommentResponse> replyResponses = childList.stream()
-                .map(reply -> fromWithRepliesRecursive(reply, repliesByParentId, currentUserId))
-                .collect(Collectors.toList());
-
         Long userId = comment.getUser() != null ? comment.getUser().getId() : null;
         String userNickname = comment.getUser() != null ? comment.getUser().getNickname() : "알 수 없음";
         String userProfileImg = comment.getUser() != null ? comment.getUser().getProfileImg() : null;
@@ -115,8 +114,9 @@ public class CommentResponse {
                 .userProfileImg(userProfileImg)
                 .content(comment.getContent())
                 .parentId(comment.getParentId())
-                .replies(replyResponses.isEmpty() ? null : replyResponses)
-                .replyCount(replyResponses.size())
+                .replies(replies == null || replies.isEmpty() ? null : replies)
+                .replyCount(replyCount)
+                .nextRepliesCursor(nextRepliesCursor)
                 .isAuthor(isAuthor)
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
@@ -15,7 +15,7 @@ import java.util.List;
  * 게시글 응답 DTO (단순화)
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
 
     private Long id;
@@ -155,6 +155,16 @@ public class PostResponse {
         return builder.build();
     }
 
+    /**
+     * 사용자와 무관하게 만든 응답(캐시 등)에 현재 사용자 전용 필드(isLiked, isAuthor) 적용
+     */
+    public PostResponse withViewer(boolean isLiked, Long currentUserId) {
+        return toBuilder()
+                .isLiked(isLiked)
+                .isAuthor(currentUserId != null && currentUserId.equals(userId))
+                .build();
+    }
+
     private static List<String> parseImageUrls(String imageUrlsJson) {
         if (imageUrlsJson == null || imageUrlsJson.isEmpty()) {
             return new ArrayList<>();
@@ -17,7 +17,9 @@ import java.util.List;
 @Table(name = "comment", indexes = {
     @Index(name = "idx_comment_post_id", columnList = "post_id"),
     @Index(name = "idx_comment_parent_id", columnList = "parent_id"),
-    @Index(name = "idx_comment_target", columnList = "target_type, target_id")
+    @Index(name = "idx_comment_target", columnList = "target_type, target_id"),
+    @Index(name = "idx_comment_post_parent_created", columnList = "post_id, parent_id, created_at, id"),
+    @Index(name = "idx_comment_root_created", columnList = "root_id, created_at, id")
 })
 @SQLRestriction("deleted_at IS NULL")
 @Getter
@@ -52,6 +54,10 @@ public class Comment extends SoftDeletableEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 스레드 최상위 댓글 ID (null이면 최상위 댓글, 답글의 답글도 같은 최상위 댓글을 가리킴)
+    @Column(name = "root_id")
+    private Long rootId;
+
     // 자식 댓글들 (대댓글)
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> replies = new ArrayList<>();
@@ -63,6 +69,7 @@ public class Comment extends SoftDeletableEntity {
         this.user = user;
         this.content = content;
         this.parent = parent;
+        this.rootId = parent == null ? null : (parent.getRootId() != null ? parent.getRootId() : parent.getId());
         this.targetType = targetType;
         this.targetId = targetId;
     }
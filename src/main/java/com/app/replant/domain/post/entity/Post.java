@@ -26,7 +26,8 @@ import java.util.List;
 @Table(name = "post", indexes = {
         @Index(name = "idx_post_type", columnList = "post_type"),
         @Index(name = "idx_post_user_id", columnList = "user_id"),
-        @Index(name = "idx_post_status", columnList = "status")
+        @Index(name = "idx_post_status", columnList = "status"),
+        @Index(name = "idx_post_public_feed", columnList = "del_flag, is_public, created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -91,6 +92,16 @@ public class Post extends BaseEntity {
     @Column(name = "is_public", nullable = true)
     private Boolean isPublic = true;
 
+    // 좋아요 수 (비정규화, PostRepository의 원자적 UPDATE로만 변경 - 엔티티에서는 쓰지 않음)
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer likeCount = 0;
+
+    // 댓글 수 (비정규화, PostRepository의 원자적 UPDATE로만 변경 - 엔티티에서는 쓰지 않음)
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer commentCount = 0;
+
     // 댓글 관계
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
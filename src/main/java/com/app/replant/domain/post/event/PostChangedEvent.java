@@ -0,0 +1,9 @@
+package com.app.replant.domain.post.event;
+
+/**
+ * 게시글 변경 이벤트
+ * 게시글이 생성/수정/삭제될 때 발행되며,
+ * 트랜잭션 커밋 이후 공개 피드 캐시를 무효화하는 데 사용됩니다.
+ */
+public record PostChangedEvent(Long postId) {
+}
@@ -2,10 +2,30 @@ package com.app.replant.domain.post.repository;
 
 import com.app.replant.domain.post.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Comment Repository
  * QueryDSL을 사용한 복잡한 쿼리는 CommentRepositoryCustom을 통해 구현
  */
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    /**
+     * 최상위 댓글별 답글 미리보기 ID와 스레드 전체 답글 수 (최상위 댓글마다 작성순 limit개)
+     * @return [reply_id, root_id, reply_count] (작성순)
+     */
+    @Query(value = "SELECT ranked.id, ranked.root_id, ranked.reply_count FROM (" +
+            "  SELECT c.id, c.root_id, c.created_at, " +
+            "         ROW_NUMBER() OVER (PARTITION BY c.root_id ORDER BY c.created_at, c.id) AS rn, " +
+            "         COUNT(*) OVER (PARTITION BY c.root_id) AS reply_count " +
+            "  FROM comment c " +
+            "  WHERE c.root_id IN (:rootIds) AND c.deleted_at IS NULL" +
+            ") ranked " +
+            "WHERE ranked.rn <= :limit " +
+            "ORDER BY ranked.created_at, ranked.id", nativeQuery = true)
+    List<Object[]> findReplyPreviewIds(@Param("rootIds") Collection<Long> rootIds, @Param("limit") int limit);
 }
@@ -5,6 +5,8 @@ import com.app.replant.domain.post.enums.CommentTargetType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,8 +20,19 @@ public interface CommentRepositoryCustom {
 
     List<Comment> findParentCommentsByPostIdWithUser(Long postId);
 
-    /** 게시글의 댓글 전체 조회 (답글의 답글 포함, user fetch join) */
-    List<Comment> findAllByPostIdWithUser(Long postId);
+    /**
+     * 게시글의 최상위 댓글 커서 조회 (created_at, id 오름차순, User fetch join)
+     * cursorCreatedAt/cursorId가 있으면 해당 댓글 다음부터 limit개까지
+     */
+    List<Comment> findRootSliceByPostId(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 스레드(최상위 댓글) 답글 커서 조회 (created_at, id 오름차순, User fetch join)
+     */
+    List<Comment> findReplySliceByRootId(Long rootId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /** ID 목록으로 조회 (User fetch join, 작성순) */
+    List<Comment> findAllByIdInWithUser(Collection<Long> commentIds);
 
     Optional<Comment> findByIdAndUserId(Long commentId, Long userId);
 
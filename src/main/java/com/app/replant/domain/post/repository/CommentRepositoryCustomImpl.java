@@ -2,6 +2,7 @@ package com.app.replant.domain.post.repository;
 
 import com.app.replant.domain.post.entity.Comment;
 import com.app.replant.domain.post.enums.CommentTargetType;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,15 +53,54 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     }
 
     @Override
-    public List<Comment> findAllByPostIdWithUser(Long postId) {
+    public List<Comment> findRootSliceByPostId(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
         return queryFactory
                 .selectFrom(comment)
                 .leftJoin(comment.user, user).fetchJoin()
-                .where(comment.post.id.eq(postId))
-                .orderBy(comment.createdAt.asc())
+                .where(comment.post.id.eq(postId)
+                        .and(comment.parent.isNull())
+                        .and(isAfter(cursorCreatedAt, cursorId)))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    @Override
+    public List<Comment> findReplySliceByRootId(Long rootId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.user, user).fetchJoin()
+                .where(comment.rootId.eq(rootId)
+                        .and(isAfter(cursorCreatedAt, cursorId)))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findAllByIdInWithUser(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.user, user).fetchJoin()
+                .where(comment.id.in(commentIds))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * (created_at, id) 키셋 조건: 커서 댓글 이후에 작성된 댓글만 (커서가 없으면 조건 없음)
+     */
+    private BooleanExpression isAfter(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursorCreatedAt)
+                .or(comment.createdAt.eq(cursorCreatedAt).and(comment.id.gt(cursorId)));
+    }
+
     @Override
     public Optional<Comment> findByIdAndUserId(Long commentId, Long userId) {
         Comment result = queryFactory
@@ -4,9 +4,12 @@ import com.app.replant.domain.post.entity.Post;
 import com.app.replant.domain.post.entity.PostLike;
 import com.app.replant.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -19,4 +22,27 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     long countByPostId(@Param("postId") Long postId);
 
     void deleteByPostAndUser(Post post, User user);
+
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
+    /**
+     * 좋아요 추가 (uk(post_id, user_id)로 이미 있으면 무시)
+     * @return 실제 추가된 행 수 (0이면 이미 좋아요 상태)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, user_id, created_at, updated_at) " +
+            "VALUES (:postId, :userId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소
+     * @return 실제 삭제된 행 수 (0이면 이미 취소 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /** 목록용: 사용자가 좋아요한 게시글 ID 목록 (주어진 id 목록 내에서만) */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :ids")
+    List<Long> findPostIdsLikedByUserAndPostIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
@@ -4,7 +4,11 @@ import com.app.replant.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,6 +36,11 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
       @Deprecated
       Page<Post> findByUserIdAndDelFlagFalse(Long userId, Pageable pageable);
 
+      /**
+       * 사용자의 삭제되지 않은 비공개 게시글 존재 여부 (공개 피드 캐시 사용 가능 여부 판단)
+       */
+      boolean existsByUserIdAndIsPublicFalseAndDelFlagFalse(Long userId);
+
       // ========================================
       // 게시글 목록 조회 (통합)
       // ========================================
@@ -56,4 +65,53 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
       // 통계
       // ========================================
       // QueryDSL로 구현됨 (PostRepositoryCustom 참조)
+
+      // ========================================
+      // 좋아요/댓글 수 (비정규화 카운터)
+      // ========================================
+
+      /**
+       * 좋아요 수 원자적 증감 (0 미만으로 내려가지 않음)
+       */
+      @Modifying
+      @Query(value = "UPDATE post SET like_count = GREATEST(0, like_count + :delta) WHERE id = :postId", nativeQuery = true)
+      int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+      /**
+       * 댓글 수 원자적 증감 (0 미만으로 내려가지 않음)
+       */
+      @Modifying
+      @Query(value = "UPDATE post SET comment_count = GREATEST(0, comment_count + :delta) WHERE id = :postId", nativeQuery = true)
+      int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+      /**
+       * 현재 좋아요 수 (카운터 갱신 직후 같은 트랜잭션에서 조회)
+       */
+      @Query(value = "SELECT like_count FROM post WHERE id = :postId", nativeQuery = true)
+      Integer findLikeCountById(@Param("postId") Long postId);
+
+      /**
+       * 게시글 하나의 댓글 수를 실제 댓글 수로 재계산 (대댓글까지 함께 삭제되는 댓글 삭제 시 사용)
+       */
+      @Modifying
+      @Query(value = "UPDATE post p SET p.comment_count = " +
+              "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted_at IS NULL) " +
+              "WHERE p.id = :postId", nativeQuery = true)
+      int recalculateCommentCount(@Param("postId") Long postId);
+
+      /**
+       * 재동기화 대상 게시글 ID 구간 조회 (id 오름차순)
+       */
+      @Query(value = "SELECT id FROM post WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+      List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+      /**
+       * 구간 내 게시글의 좋아요/댓글 수를 실제 값으로 재계산 (야간 재동기화)
+       */
+      @Modifying
+      @Query(value = "UPDATE post p SET " +
+              "p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id), " +
+              "p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted_at IS NULL) " +
+              "WHERE p.id BETWEEN :fromId AND :toId", nativeQuery = true)
+      int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
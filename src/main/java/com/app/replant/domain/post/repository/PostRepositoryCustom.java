@@ -5,6 +5,10 @@ import com.app.replant.domain.post.enums.PostType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +35,18 @@ public interface PostRepositoryCustom {
             Pageable pageable,
             Long currentUserId);
 
+    /**
+     * 게시글 피드 커서 조회 (created_at, id 내림차순, count 쿼리 없음)
+     * cursorCreatedAt/cursorId가 있으면 해당 게시글 다음부터 조회. 조건은 findWithFilters와 동일.
+     */
+    List<Post> findFeedSlice(
+            Long missionId,
+            boolean badgeOnly,
+            Long currentUserId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit);
+
     /**
      * 커뮤니티 게시글 조회 (하위 호환성)
      */
@@ -63,6 +79,12 @@ public interface PostRepositoryCustom {
      */
     Optional<Post> findVerificationPostByUserIdAndMissionId(Long userId, Long missionId);
 
+    /**
+     * 작성자의 미션별 최신 인증 게시글 ID (missionId → postId, 인증글이 없는 미션은 포함되지 않음).
+     * 투두리스트 상세에서 미션 수와 무관하게 한 번에 조회할 때 사용.
+     */
+    Map<Long, Long> findLatestVerificationPostIdsByUserIdAndMissionIds(Long userId, Collection<Long> missionIds);
+
     // ========================================
     // 단건 조회
     // ========================================
@@ -3,6 +3,7 @@ package com.app.replant.domain.post.repository;
 import com.app.replant.domain.post.entity.Post;
 import com.app.replant.domain.post.enums.PostType;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -11,8 +12,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.app.replant.domain.post.entity.QPost.post;
@@ -28,6 +34,9 @@ import static com.app.replant.domain.mission.entity.QMission.mission;
 @RequiredArgsConstructor
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
+    private static final Comparator<Post> LATEST_FIRST =
+            Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed();
+
     private final JPAQueryFactory queryFactory;
 
     // ========================================
@@ -35,7 +44,8 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
     // ========================================
 
     private BooleanExpression isNotDeleted() {
-        return post.delFlag.isFalse().or(post.delFlag.isNull());
+        // del_flag는 NOT NULL (V44) - OR IS NULL 없이 인덱스 조건으로 사용
+        return post.delFlag.isFalse();
     }
 
     private BooleanExpression isPostType(PostType postType) {
@@ -46,10 +56,6 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return post.postType.eq(PostType.VERIFICATION);
     }
 
-    private BooleanExpression isGeneralOrVerification() {
-        return post.postType.eq(PostType.GENERAL).or(post.postType.eq(PostType.VERIFICATION));
-    }
-
     // ========================================
     // 게시글 목록 조회 (통합)
     // ========================================
@@ -62,7 +68,7 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                 .leftJoin(user.reant, reant).fetchJoin()  // N+1 문제 방지
                 .leftJoin(post.userMission, userMission).fetchJoin()
                 .leftJoin(userMission.mission, mission).fetchJoin()
-                .where(isGeneralOrVerification().and(isNotDeleted()))
+                .where(isNotDeleted())
                 .orderBy(post.createdAt.desc());
 
         return getPage(query, pageable);
@@ -74,38 +80,126 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
             boolean badgeOnly,
             Pageable pageable,
             Long currentUserId) {
-        
+        if (currentUserId == null) {
+            return getPage(feedQuery(publicFeedCondition(missionId, badgeOnly)), pageable);
+        }
+
+        // 공개글과 내 비공개글을 각각 인덱스 순서로 (offset + size)개까지 읽어 병합 ((created_at, id) 내림차순 고정)
+        int offset = (int) pageable.getOffset();
+        int window = offset + pageable.getPageSize();
+        List<Post> merged = mergeLatest(
+                feedQuery(publicFeedCondition(missionId, badgeOnly)).limit(window).fetch(),
+                feedQuery(ownPrivateCondition(missionId, badgeOnly, currentUserId)).limit(window).fetch(),
+                window);
+        List<Post> content = merged.subList(Math.min(offset, merged.size()), merged.size());
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> count(publicFeedCondition(missionId, badgeOnly))
+                        + count(ownPrivateCondition(missionId, badgeOnly, currentUserId)));
+    }
+
+    @Override
+    public List<Post> findFeedSlice(
+            Long missionId,
+            boolean badgeOnly,
+            Long currentUserId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit) {
+        List<Post> publicPosts = feedQuery(
+                afterCursor(publicFeedCondition(missionId, badgeOnly), cursorCreatedAt, cursorId))
+                .limit(limit)
+                .fetch();
+        if (currentUserId == null) {
+            return publicPosts;
+        }
+        List<Post> ownPrivatePosts = feedQuery(
+                afterCursor(ownPrivateCondition(missionId, badgeOnly, currentUserId), cursorCreatedAt, cursorId))
+                .limit(limit)
+                .fetch();
+        return mergeLatest(publicPosts, ownPrivatePosts, limit);
+    }
+
+    /**
+     * 게시글 목록/피드 조회 (작성자/리앤트/미션 fetch join, (created_at, id) 내림차순)
+     */
+    private JPAQuery<Post> feedQuery(BooleanBuilder condition) {
+        return queryFactory
+                .selectFrom(post)
+                .join(post.user, user).fetchJoin()
+                .leftJoin(user.reant, reant).fetchJoin()  // N+1 문제 방지
+                .leftJoin(post.userMission, userMission).fetchJoin()
+                .leftJoin(userMission.mission, mission).fetchJoin()
+                .where(condition)
+                .orderBy(post.createdAt.desc(), post.id.desc());
+    }
+
+    /**
+     * 공개 게시글 조건 (idx_post_public_feed: del_flag, is_public, created_at, id 순서로 읽어 정렬/키셋 커버)
+     */
+    private BooleanBuilder publicFeedCondition(Long missionId, boolean badgeOnly) {
         BooleanBuilder builder = new BooleanBuilder();
-        builder.and(isGeneralOrVerification());
         builder.and(isNotDeleted());
+        builder.and(post.isPublic.isTrue());
+        return withFilters(builder, missionId, badgeOnly);
+    }
 
+    /**
+     * 내 비공개 게시글 조건 (idx_post_user_id로 본인 게시글 범위만 읽음)
+     */
+    private BooleanBuilder ownPrivateCondition(Long missionId, boolean badgeOnly, Long currentUserId) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(post.user.id.eq(currentUserId));
+        builder.and(isNotDeleted());
+        builder.and(post.isPublic.isFalse());
+        return withFilters(builder, missionId, badgeOnly);
+    }
+
+    private BooleanBuilder withFilters(BooleanBuilder builder, Long missionId, boolean badgeOnly) {
         // missionId 필터
         if (missionId != null) {
             builder.and(post.userMission.mission.id.eq(missionId));
         }
-        
+
         // badgeOnly 필터
         if (badgeOnly) {
             builder.and(post.hasValidBadge.isTrue());
         }
-        
-        // currentUserId가 있으면 공개글 + 내 비공개글, 없으면 공개글만
-        if (currentUserId != null) {
-            builder.and(post.isPublic.isTrue().or(post.user.id.eq(currentUserId)));
-        } else {
-            builder.and(post.isPublic.isTrue());
+        return builder;
+    }
+
+    /**
+     * (created_at, id) 키셋 조건: 커서 게시글보다 오래된 게시글만
+     */
+    private BooleanBuilder afterCursor(BooleanBuilder builder, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt != null && cursorId != null) {
+            builder.and(post.createdAt.lt(cursorCreatedAt)
+                    .or(post.createdAt.eq(cursorCreatedAt).and(post.id.lt(cursorId))));
         }
+        return builder;
+    }
 
-        JPAQuery<Post> query = queryFactory
-                .selectFrom(post)
-                .join(post.user, user).fetchJoin()
-                .leftJoin(user.reant, reant).fetchJoin()  // N+1 문제 방지
-                .leftJoin(post.userMission, userMission).fetchJoin()
-                .leftJoin(userMission.mission, mission).fetchJoin()
-                .where(builder)
-                .orderBy(post.createdAt.desc());
+    /**
+     * (created_at, id) 내림차순으로 정렬된 두 목록을 병합해 앞에서 limit개
+     */
+    private List<Post> mergeLatest(List<Post> first, List<Post> second, int limit) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        List<Post> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(LATEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
 
-        return getPage(query, pageable);
+    private long count(BooleanBuilder condition) {
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(condition)
+                .fetchOne();
+        return count != null ? count : 0L;
     }
 
     @Override
@@ -219,6 +313,30 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public Map<Long, Long> findLatestVerificationPostIdsByUserIdAndMissionIds(Long userId, Collection<Long> missionIds) {
+        if (userId == null || missionIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory
+                .select(userMission.mission.id, post.id)
+                .from(post)
+                .join(post.userMission, userMission)
+                .where(post.user.id.eq(userId)
+                        .and(userMission.mission.id.in(missionIds))
+                        .and(isVerificationType())
+                        .and(isNotDeleted()))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .fetch();
+
+        // 최신순으로 정렬되어 있으므로 미션별 첫 행만 사용
+        Map<Long, Long> postIdByMissionId = new HashMap<>();
+        for (Tuple row : rows) {
+            postIdByMissionId.putIfAbsent(row.get(userMission.mission.id), row.get(post.id));
+        }
+        return postIdByMissionId;
+    }
+
     // ========================================
     // 단건 조회
     // ========================================
@@ -0,0 +1,89 @@
+package com.app.replant.domain.post.service;
+
+import com.app.replant.domain.missionset.repository.TodoListLikeRepository;
+import com.app.replant.domain.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 응답용 좋아요 수/좋아요 여부 일괄 조회
+ * 페이지의 ID 목록으로 항목 수와 무관하게 GROUP BY 쿼리 + 좋아요 여부 IN 쿼리만 실행 (N+1 방지)
+ * 게시글 목록과 투두리스트 목록에서 공통으로 사용
+ */
+@Component
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EngagementLoader {
+
+    private final PostLikeRepository postLikeRepository;
+    private final TodoListLikeRepository todoListLikeRepository;
+
+    /**
+     * 게시글 목록의 현재 사용자 좋아요 여부
+     * 댓글 수/좋아요 수는 Post의 비정규화 카운터(comment_count, like_count)를 사용하므로 조회하지 않음
+     * @param userId 현재 사용자 ID (비로그인이면 null → 좋아요 여부 모두 false)
+     */
+    public Engagement loadForPosts(Collection<Long> postIds, Long userId) {
+        if (postIds.isEmpty() || userId == null) {
+            return Engagement.EMPTY;
+        }
+        Set<Long> likedIds = new HashSet<>(postLikeRepository.findPostIdsLikedByUserAndPostIdIn(userId, postIds));
+        return new Engagement(Map.of(), likedIds);
+    }
+
+    /**
+     * 투두리스트 목록의 좋아요 수, 현재 사용자 좋아요 여부 (투두리스트에는 댓글이 없음)
+     */
+    public Engagement loadForTodoLists(List<Long> todoListIds, Long userId) {
+        if (todoListIds.isEmpty()) {
+            return Engagement.EMPTY;
+        }
+        Map<Long, Long> likeCounts = toCountMap(todoListLikeRepository.countGroupByTodoListId(todoListIds));
+        Set<Long> likedIds = userId != null
+                ? new HashSet<>(todoListLikeRepository.findTodoListIdsLikedByUserAndTodoListIdIn(userId, todoListIds))
+                : Set.of();
+        return new Engagement(likeCounts, likedIds);
+    }
+
+    /**
+     * 투두리스트 목록의 현재 사용자 좋아요 여부만 조회 (좋아요 수가 이미 채워진 캐시 응답용)
+     */
+    public Set<Long> likedTodoListIds(List<Long> todoListIds, Long userId) {
+        if (todoListIds.isEmpty() || userId == null) {
+            return Set.of();
+        }
+        return new HashSet<>(todoListLikeRepository.findTodoListIdsLikedByUserAndTodoListIdIn(userId, todoListIds));
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * 일괄 조회 결과 (조회 결과가 없는 ID는 0 / false)
+     */
+    public record Engagement(Map<Long, Long> likeCounts, Set<Long> likedIds) {
+
+        static final Engagement EMPTY = new Engagement(Map.of(), Set.of());
+
+        public long likeCount(Long id) {
+            return likeCounts.getOrDefault(id, 0L);
+        }
+
+        public boolean isLiked(Long id) {
+            return likedIds.contains(id);
+        }
+    }
+}
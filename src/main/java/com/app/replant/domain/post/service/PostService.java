@@ -12,7 +12,7 @@ import com.app.replant.domain.post.enums.PostType;
 import com.app.replant.domain.usermission.repository.UserMissionRepository;
 import com.app.replant.domain.post.entity.Comment;
 import com.app.replant.domain.post.entity.Post;
-import com.app.replant.domain.post.entity.PostLike;
+import com.app.replant.domain.post.event.PostChangedEvent;
 import com.app.replant.domain.post.repository.CommentRepository;
 import com.app.replant.domain.post.repository.PostLikeRepository;
 import com.app.replant.domain.post.repository.PostRepository;
@@ -23,6 +23,10 @@ import com.app.replant.domain.usermission.enums.UserMissionStatus;
 import com.app.replant.domain.missionset.entity.TodoListMission;
 import com.app.replant.domain.missionset.repository.TodoListMissionRepository;
 import com.app.replant.domain.missionset.repository.TodoListRepository;
+import com.app.replant.domain.missionset.service.TodoListPopularityService;
+import com.app.replant.domain.mission.service.MissionStatsService;
+import com.app.replant.global.common.dto.CursorResponse;
+import com.app.replant.global.common.dto.TimeIdCursor;
 import com.app.replant.global.exception.CustomException;
 import com.app.replant.global.exception.ErrorCode;
 import com.app.replant.global.filter.BadWordFilterService;
@@ -30,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
@@ -37,11 +43,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Optional;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -57,6 +62,9 @@ public class PostService {
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
             "id", "createdAt", "updatedAt", "status", "verifiedAt"
     );
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+    private static final int COUNTER_RECONCILE_CHUNK_SIZE = 500;
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
@@ -67,8 +75,17 @@ public class PostService {
     private final com.app.replant.domain.usermission.service.UserMissionService userMissionService;
     private final TodoListMissionRepository todoListMissionRepository;
     private final TodoListRepository todoListRepository;
+    private final MissionStatsService missionStatsService;
+    private final TodoListPopularityService todoListPopularityService;
     private final ObjectMapper objectMapper;
     private final BadWordFilterService badWordFilterService;
+    private final EngagementLoader engagementLoader;
+    private final PublicFeedCache publicFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 댓글 목록에서 최상위 댓글마다 함께 내려주는 답글 수
+    @Value("${community.comment.reply-preview-limit:3}")
+    private int replyPreviewLimit;
 
     // ========================================
     // 게시글 CRUD
@@ -81,16 +98,63 @@ public class PostService {
     public Page<PostResponse> getPosts(Long missionId, Boolean badgeOnly, Pageable pageable,
             Long currentUserId) {
         boolean badgeFilter = badgeOnly != null && badgeOnly;
-        // N+1 문제 방지를 위해 reant를 함께 로드
-        User currentUser = currentUserId != null ? userRepository.findByIdWithReant(currentUserId).orElse(null) : null;
 
-        return postRepository.findWithFilters(missionId, badgeFilter, pageable, currentUserId)
-                .map(post -> {
-                    long commentCount = commentRepository.countByPostId(post.getId());
-                    long likeCount = postLikeRepository.countByPostId(post.getId());
-                    boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
-                    return PostResponse.from(post, commentCount, likeCount, isLiked, currentUserId);
-                });
+        // 앞쪽 페이지는 공개글 기준 캐시 사용 (내 비공개글이 섞이는 사용자는 캐시를 거치지 않음)
+        if (publicFeedCache.isCacheable(pageable)
+                && (currentUserId == null || !postRepository.existsByUserIdAndIsPublicFalseAndDelFlagFalse(currentUserId))) {
+            Page<PostResponse> cached = publicFeedCache.getPostPage(missionId, badgeFilter, pageable,
+                    () -> toPostResponses(postRepository.findWithFilters(missionId, badgeFilter, pageable, null), null));
+            if (currentUserId == null) {
+                return cached;
+            }
+            // 사용자 전용 필드(isLiked, isAuthor)만 요청마다 덧씌움
+            EngagementLoader.Engagement engagement = engagementLoader.loadForPosts(
+                    cached.getContent().stream().map(PostResponse::getId).toList(), currentUserId);
+            return cached.map(response -> response.withViewer(engagement.isLiked(response.getId()), currentUserId));
+        }
+
+        Page<Post> page = postRepository.findWithFilters(missionId, badgeFilter, pageable, currentUserId);
+        return toPostResponses(page, currentUserId);
+    }
+
+    private Page<PostResponse> toPostResponses(Page<Post> page, Long currentUserId) {
+        // 좋아요 여부는 페이지 단위로 일괄 조회 (N+1 방지), 댓글 수/좋아요 수는 비정규화 카운터 사용
+        EngagementLoader.Engagement engagement = engagementLoader.loadForPosts(postIds(page), currentUserId);
+        return page.map(post -> PostResponse.from(post,
+                post.getCommentCount(),
+                post.getLikeCount(),
+                engagement.isLiked(post.getId()),
+                currentUserId));
+    }
+
+    /**
+     * 게시글 피드 커서 조회 (무한 스크롤용, 페이지 깊이와 무관하게 일정한 비용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public CursorResponse<PostResponse> getPostFeed(Long missionId, Boolean badgeOnly, String cursor, int size,
+            Long currentUserId) {
+        boolean badgeFilter = badgeOnly != null && badgeOnly;
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        // size + 1개로 다음 페이지 여부 판단 (count 쿼리 없음)
+        List<Post> posts = postRepository.findFeedSlice(
+                missionId,
+                badgeFilter,
+                currentUserId,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        CursorResponse<Post> slice = CursorResponse.of(posts, pageSize,
+                post -> new TimeIdCursor(post.getCreatedAt(), post.getId()).encode());
+        EngagementLoader.Engagement engagement = engagementLoader.loadForPosts(
+                slice.getContent().stream().map(Post::getId).toList(), currentUserId);
+        return slice.map(post -> PostResponse.from(post,
+                post.getCommentCount(),
+                post.getLikeCount(),
+                engagement.isLiked(post.getId()),
+                currentUserId));
     }
 
     public PostResponse getPost(Long postId) {
@@ -102,8 +166,8 @@ public class PostService {
         // N+1 문제 방지를 위해 reant를 함께 로드
         User currentUser = currentUserId != null ? userRepository.findByIdWithReant(currentUserId).orElse(null) : null;
 
-        long commentCount = commentRepository.countByPostId(postId);
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long commentCount = post.getCommentCount();
+        long likeCount = post.getLikeCount();
         boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
 
         return PostResponse.from(post, commentCount, likeCount, isLiked, currentUserId);
@@ -143,6 +207,7 @@ public class PostService {
         Post saved = postRepository.save(post);
         log.info("일반 게시글 생성 완료 - postId={}, postType={}, userId={}, title={}", 
                 saved.getId(), saved.getPostType(), userId, saved.getTitle());
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
         return PostResponse.from(saved, 0L, 0L, false, userId);
     }
 
@@ -187,14 +252,15 @@ public class PostService {
             Post saved = postRepository.save(post);
             log.info("인증 게시글 생성 완료 - postId={}, postType={}, userMissionId={}, userId={}, status={}", 
                     saved.getId(), saved.getPostType(), userMission.getId(), userId, saved.getStatus());
+            eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
             
             // QueryDSL로 fetch join하여 user, userMission, mission 정보를 모두 로드
             Post verifiedPost = postRepository.getPostByIdExcludingDeleted(saved.getId())
                     .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
             
             // 좋아요 수와 댓글 수 조회
-            long likeCount = postLikeRepository.countByPostId(verifiedPost.getId());
-            long commentCount = commentRepository.countByPostId(verifiedPost.getId());
+            long likeCount = verifiedPost.getLikeCount();
+            long commentCount = verifiedPost.getCommentCount();
             
             return PostResponse.from(verifiedPost, commentCount, likeCount, false, userId);
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
@@ -205,8 +271,8 @@ public class PostService {
                     .orElseThrow(() -> new CustomException(ErrorCode.VERIFICATION_ALREADY_EXISTS));
             
             // 좋아요 수와 댓글 수 조회
-            long likeCount = postLikeRepository.countByPostId(existingPost.getId());
-            long commentCount = commentRepository.countByPostId(existingPost.getId());
+            long likeCount = existingPost.getLikeCount();
+            long commentCount = existingPost.getCommentCount();
             
             return PostResponse.from(existingPost, commentCount, likeCount, false, userId);
         }
@@ -216,18 +282,19 @@ public class PostService {
      * 인증 게시글 목록 조회 (VERIFICATION 타입만)
      */
     public Page<PostResponse> getVerificationPosts(String status, Pageable pageable, Long currentUserId) {
-        // N+1 문제 방지를 위해 reant를 함께 로드
-        User currentUser = currentUserId != null ? userRepository.findByIdWithReant(currentUserId).orElse(null) : null;
-        
         // 정렬 필드 검증
         Pageable validatedPageable = validateAndSanitizePageable(pageable);
 
-        return postRepository.findVerificationPostsWithFilters(status, validatedPageable)
+        Page<Post> page = postRepository.findVerificationPostsWithFilters(status, validatedPageable);
+        // 댓글 수/좋아요 수/좋아요 여부는 페이지 단위로 일괄 조회 (N+1 방지)
+        EngagementLoader.Engagement engagement = engagementLoader.loadForPosts(postIds(page), currentUserId);
+        return page
                 .map(post -> {
-                    long commentCount = commentRepository.countByPostId(post.getId());
-                    long likeCount = postLikeRepository.countByPostId(post.getId());
-                    boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
-                    PostResponse response = PostResponse.from(post, commentCount, likeCount, isLiked, currentUserId);
+                    PostResponse response = PostResponse.from(post,
+                            post.getCommentCount(),
+                            post.getLikeCount(),
+                            engagement.isLiked(post.getId()),
+                            currentUserId);
                     // 디버깅: title이 비어있는 경우 로그
                     if (post.isVerificationPost() && (response.getTitle() == null || response.getTitle().isEmpty())) {
                         log.warn("인증글 title 누락 - postId={}, dbTitle={}, missionTitle={}", 
@@ -249,8 +316,8 @@ public class PostService {
         // N+1 문제 방지를 위해 reant를 함께 로드
         User currentUser = currentUserId != null ? userRepository.findByIdWithReant(currentUserId).orElse(null) : null;
 
-        long commentCount = commentRepository.countByPostId(postId);
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long commentCount = post.getCommentCount();
+        long likeCount = post.getLikeCount();
         boolean isLiked = currentUser != null && postLikeRepository.existsByPostAndUser(post, currentUser);
 
         return PostResponse.from(post, commentCount, likeCount, isLiked, currentUserId);
@@ -290,9 +357,10 @@ public class PostService {
         }
 
         post.updateVerificationContent(request.getContent(), imageUrlsJson, request.getCompletionRate());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
-        long commentCount = commentRepository.countByPostId(postId);
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long commentCount = post.getCommentCount();
+        long likeCount = post.getLikeCount();
         // N+1 문제 방지를 위해 reant를 함께 로드
         boolean isLiked = postLikeRepository.existsByPostAndUser(post, userRepository.findByIdWithReant(userId).orElse(null));
 
@@ -321,8 +389,9 @@ public class PostService {
         }
 
         post.update(request.getTitle(), request.getContent(), imageUrlsJson);
-        long commentCount = commentRepository.countByPostId(postId);
-        long likeCount = postLikeRepository.countByPostId(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        long commentCount = post.getCommentCount();
+        long likeCount = post.getLikeCount();
         return PostResponse.from(post, commentCount, likeCount, false, userId);
     }
 
@@ -347,6 +416,7 @@ public class PostService {
             // COMPLETED 상태이고 커스텀 미션이면 ASSIGNED로 되돌림
             else if (userMission.getStatus() == UserMissionStatus.COMPLETED && userMission.isCustomMission()) {
                 userMission.updateStatus(UserMissionStatus.ASSIGNED);
+                missionStatsService.recordCompletionReverted(userMission);
                 log.info("커스텀 미션 인증 취소로 인해 UserMission 상태 복원: userMissionId={}, status={}", 
                         userMission.getId(), userMission.getStatus());
                 
@@ -361,15 +431,14 @@ public class PostService {
                     
                     for (TodoListMission todoListMission : completedTodoListMissions) {
                         if (todoListMission.isCompletedMission()) {
+                            LocalDateTime completedAt = todoListMission.getCompletedAt();
                             todoListMission.uncomplete();
                             
-                            // TodoList의 completedCount 감소
+                            // 변경사항 저장 + TodoList의 completedCount 원자적 감소
                             var todoList = todoListMission.getTodoList();
-                            todoList.decrementCompletedCount();
-                            
-                            // 변경사항 저장
                             todoListMissionRepository.save(todoListMission);
-                            todoListRepository.save(todoList);
+                            todoListRepository.decrementCompletedCount(todoList.getId());
+                            todoListPopularityService.recordUncompletion(todoList.getId(), completedAt);
                             
                             log.info("커스텀 미션 인증 취소로 TodoListMission 완료 취소: todoListId={}, missionId={}, userId={}", 
                                     todoList.getId(), missionId, missionUserId);
@@ -380,41 +449,108 @@ public class PostService {
         }
 
         post.softDelete();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     // ========================================
     // 댓글 CRUD
     // ========================================
 
-    public Page<CommentResponse> getComments(Long postId, Pageable pageable) {
-        return getComments(postId, pageable, null);
-    }
-
-    public Page<CommentResponse> getComments(Long postId, Pageable pageable, Long currentUserId) {
+    /**
+     * 댓글 목록 커서 조회
+     * - 최상위 댓글은 작성순으로 DB에서 커서 페이지네이션
+     * - 페이지의 최상위 댓글들의 답글 미리보기(스레드별 replyPreviewLimit개)와 답글 수는 한 번에 조회
+     * - 미리보기에 다 담기지 않은 스레드는 nextRepliesCursor로 getReplies 조회
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public CursorResponse<CommentResponse> getComments(Long postId, String cursor, int size, Long currentUserId) {
         findPostById(postId);
-        // 전체 댓글 조회 후 부모별 자식 맵으로 트리 구성 (대댓글의 대댓글까지 포함)
-        List<Comment> allComments = commentRepository.findAllByPostIdWithUser(postId);
-        Map<Long, List<Comment>> repliesByParentId = allComments.stream()
-                .filter(c -> c.getParent() != null)
-                .collect(Collectors.groupingBy(c -> c.getParent().getId()));
-        repliesByParentId.replaceAll((k, list) -> {
-            list.sort(Comparator.comparing(Comment::getCreatedAt));
-            return list;
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+
+        List<Comment> fetched = commentRepository.findRootSliceByPostId(
+                postId,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+        CursorResponse<Comment> roots = CursorResponse.of(fetched, pageSize, PostService::commentCursor);
+
+        // 스레드별 답글 미리보기 ID + 전체 답글 수 (최상위 댓글 수와 무관하게 쿼리 1개)
+        List<Long> rootIds = roots.getContent().stream().map(Comment::getId).toList();
+        List<Long> previewIds = new ArrayList<>();
+        Map<Long, Integer> replyCountByRootId = new HashMap<>();
+        if (!rootIds.isEmpty()) {
+            for (Object[] row : commentRepository.findReplyPreviewIds(rootIds, replyPreviewLimit)) {
+                previewIds.add(((Number) row[0]).longValue());
+                replyCountByRootId.put(((Number) row[1]).longValue(), ((Number) row[2]).intValue());
+            }
+        }
+        List<Comment> previews = commentRepository.findAllByIdInWithUser(previewIds);
+
+        Map<Long, Comment> lastPreviewByRootId = new HashMap<>();
+        previews.forEach(reply -> lastPreviewByRootId.put(reply.getRootId(), reply));
+        Map<Long, List<CommentResponse>> repliesByParentId = buildReplyTree(previews, currentUserId);
+
+        return roots.map(root -> {
+            int replyCount = replyCountByRootId.getOrDefault(root.getId(), 0);
+            Comment lastPreview = lastPreviewByRootId.get(root.getId());
+            String nextRepliesCursor = replyCount > replyPreviewLimit && lastPreview != null
+                    ? commentCursor(lastPreview)
+                    : null;
+            return CommentResponse.of(root, repliesByParentId.get(root.getId()), replyCount,
+                    nextRepliesCursor, currentUserId);
         });
-        List<Comment> roots = allComments.stream()
-                .filter(c -> c.getParent() == null)
-                .sorted(Comparator.comparing(Comment::getCreatedAt))
-                .collect(Collectors.toList());
-        List<CommentResponse> responseList = roots.stream()
-                .map(root -> CommentResponse.fromWithRepliesRecursive(root, repliesByParentId, currentUserId))
-                .collect(Collectors.toList());
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), responseList.size());
-        List<CommentResponse> pagedList = start < responseList.size() ? responseList.subList(start, end)
-                : Collections.emptyList();
+    /**
+     * 답글 더보기 (스레드 내 작성순 커서 조회)
+     * 답글의 답글도 같은 스레드에 평탄하게 포함되며, parentId로 위치를 구분
+     * @param commentId 최상위 댓글 ID
+     * @param cursor 최상위 댓글의 nextRepliesCursor 또는 이전 응답의 nextCursor
+     */
+    public CursorResponse<CommentResponse> getReplies(Long postId, Long commentId, String cursor, int size,
+            Long currentUserId) {
+        Comment root = findCommentById(commentId);
+        if (root.getPost() == null || !root.getPost().getId().equals(postId) || root.isReply()) {
+            throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+
+        List<Comment> fetched = commentRepository.findReplySliceByRootId(
+                commentId,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+        return CursorResponse.of(fetched, pageSize, PostService::commentCursor)
+                .map(reply -> CommentResponse.of(reply, null, 0, null, currentUserId));
+    }
+
+    /**
+     * 작성순 답글 목록으로 부모별 답글 응답 구성 (재귀 없이 뒤에서부터 한 번 순회)
+     * 답글은 항상 부모보다 늦게 작성되므로, 역순으로 처리하면 자식 응답이 부모보다 먼저 만들어짐.
+     * 부모가 목록에 없는 답글(삭제된 부모 등)은 최상위 댓글 아래에 붙임.
+     */
+    static Map<Long, List<CommentResponse>> buildReplyTree(List<Comment> replies, Long currentUserId) {
+        Set<Long> replyIds = replies.stream().map(Comment::getId).collect(Collectors.toSet());
+        Map<Long, List<CommentResponse>> childrenByParentId = new HashMap<>();
+        for (int i = replies.size() - 1; i >= 0; i--) {
+            Comment reply = replies.get(i);
+            List<CommentResponse> children = childrenByParentId.remove(reply.getId());
+            if (children != null) {
+                Collections.reverse(children);
+            }
+            CommentResponse response = CommentResponse.of(reply, children,
+                    children != null ? children.size() : 0, null, currentUserId);
+            Long parentId = replyIds.contains(reply.getParentId()) ? reply.getParentId() : reply.getRootId();
+            childrenByParentId.computeIfAbsent(parentId, key -> new ArrayList<>()).add(response);
+        }
+        childrenByParentId.values().forEach(Collections::reverse);
+        return childrenByParentId;
+    }
 
-        return new org.springframework.data.domain.PageImpl<>(pagedList, pageable, responseList.size());
+    private static String commentCursor(Comment comment) {
+        return new TimeIdCursor(comment.getCreatedAt(), comment.getId()).encode();
     }
 
     @Transactional
@@ -442,6 +578,7 @@ public class PostService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1);
 
         // 댓글 알림
         if (!post.getUser().getId().equals(userId)) {
@@ -492,7 +629,14 @@ public class PostService {
             throw new CustomException(ErrorCode.NOT_COMMENT_AUTHOR);
         }
 
+        Long postId = comment.getPost() != null ? comment.getPost().getId() : null;
         commentRepository.delete(comment);
+
+        if (postId != null) {
+            // 대댓글까지 함께 삭제되므로 증감 대신 재계산
+            commentRepository.flush();
+            postRepository.recalculateCommentCount(postId);
+        }
     }
 
     // ========================================
@@ -518,20 +662,19 @@ public class PostService {
         boolean isLiked;
         boolean newlyVerified = false;
 
-        Optional<PostLike> existingLike = postLikeRepository.findByPostAndUser(post, user);
-
-        if (existingLike.isPresent()) {
+        // 좋아요 행 추가/삭제가 실제로 일어난 경우에만 카운터를 원자적으로 증감 (동시 토글에도 중복 반영 없음)
+        if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
             // 좋아요 취소
-            postLikeRepository.delete(existingLike.get());
+            if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+                postRepository.addLikeCount(postId, -1);
+            }
             isLiked = false;
             log.info("좋아요 취소 - postId={}, userId={}", postId, userId);
         } else {
             // 좋아요 추가
-            PostLike newLike = PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            postLikeRepository.saveAndFlush(newLike); // 즉시 DB에 반영
+            if (postLikeRepository.insertIgnore(postId, userId) > 0) {
+                postRepository.addLikeCount(postId, 1);
+            }
             isLiked = true;
             log.info("좋아요 추가 - postId={}, userId={}", postId, userId);
 
@@ -539,29 +682,19 @@ public class PostService {
             // sendLikeNotification(post.getUser(), user, post);
         }
 
+        long likeCount = postRepository.findLikeCountById(postId);
+
         // VERIFICATION 타입: 좋아요 추가/취소 후 인증 체크 (좋아요 수가 변경되었으므로 재확인)
         if (post.isVerificationPost()) {
-            // flush 후 다시 조회하여 최신 좋아요 수 확인
-            long likeCount = postLikeRepository.countByPostId(postId);
             newlyVerified = post.checkAndApproveByLikes(likeCount);
 
             if (newlyVerified) {
-                // Post 엔티티의 status 변경사항을 DB에 저장
-                postRepository.saveAndFlush(post);
-                // 저장 후 최신 상태로 다시 조회 (1차 캐시 문제 방지)
-                post = postRepository.findByIdAndDelFlagFalse(postId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
                 log.info("인증 완료! postId={}, likeCount={}, status={}", postId, likeCount, post.getStatus());
-                // 인증 완료 처리 (뱃지, 경험치 등)
-                userMissionService.completeMissionVerification(post.getUserMission());
-
-                // 알림 전송
-                sendVerificationSuccessNotification(post.getUser(), post);
+                // 인증 완료 처리 (뱃지, 경험치, 알림은 커밋 후 MissionCompletionHandler에서 처리)
+                userMissionService.completeMissionVerification(post.getUserMission(), post.getId());
             }
         }
 
-        long likeCount = postLikeRepository.countByPostId(postId);
-
         result.put("isLiked", isLiked);
         result.put("likeCount", likeCount);
         result.put("verified", newlyVerified);
@@ -569,6 +702,28 @@ public class PostService {
         return result;
     }
 
+    // ========================================
+    // 좋아요/댓글 수 재동기화
+    // ========================================
+
+    /**
+     * 재동기화 대상 게시글 ID 구간 (afterId 이후 최대 500개)
+     */
+    public List<Long> findPostIdChunk(Long afterId) {
+        return postRepository.findIdsAfter(afterId, COUNTER_RECONCILE_CHUNK_SIZE);
+    }
+
+    /**
+     * 구간 내 게시글의 like_count / comment_count를 post_like / comment 원본 기준으로 재계산
+     */
+    @Transactional
+    public int reconcileCounters(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        return postRepository.reconcileCounts(postIds.get(0), postIds.get(postIds.size() - 1));
+    }
+
     // ========================================
     // 알림 메서드
     // ========================================
@@ -618,20 +773,6 @@ public class PostService {
                 post.getId());
     }
 
-    private void sendVerificationSuccessNotification(User postAuthor, Post post) {
-        String title = "미션 인증이 완료되었습니다!";
-        String content = String.format("'%s' 미션 인증이 완료되어 뱃지를 획득했습니다.",
-                post.getMissionTitle() != null ? post.getMissionTitle() : "미션");
-
-        notificationService.createAndPushNotification(
-                postAuthor,
-                NotificationType.VERIFICATION_APPROVED,
-                title,
-                content,
-                "POST",
-                post.getId());
-    }
-
     private String truncateTitle(String title, int maxLength) {
         if (title == null)
             return "게시글";
@@ -644,6 +785,10 @@ public class PostService {
     // 헬퍼 메서드
     // ========================================
 
+    private List<Long> postIds(Page<Post> page) {
+        return page.getContent().stream().map(Post::getId).toList();
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findByIdAndDelFlagFalse(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
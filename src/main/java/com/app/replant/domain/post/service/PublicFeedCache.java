@@ -0,0 +1,105 @@
+package com.app.replant.domain.post.service;
+
+import com.app.replant.domain.missionset.dto.TodoListDto;
+import com.app.replant.domain.missionset.event.TodoListChangedEvent;
+import com.app.replant.domain.post.dto.PostResponse;
+import com.app.replant.domain.post.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공개 피드 앞쪽 페이지 캐시
+ * - 커뮤니티 게시글 목록 / 공개 투두리스트 목록의 앞쪽 페이지를 필터·정렬·페이지 키로 캐싱 (Caffeine, 짧은 TTL)
+ * - 캐시 값은 사용자와 무관한 응답(isLiked=false, isAuthor=false)이며, 사용자 전용 필드는 조회 시 덧씌움
+ * - 게시글/투두리스트 변경 이벤트 커밋 이후 해당 피드 전체 무효화
+ *   좋아요 수·진행률처럼 이벤트를 거치지 않는 변경은 TTL만큼 늦게 반영됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicFeedCache {
+
+    public static final String POST_FEED_CACHE = "postFeed";
+    public static final String TODO_LIST_FEED_CACHE = "todoListFeed";
+
+    // 캐싱하는 앞쪽 페이지 수 (0 ~ 2페이지)
+    private static final int CACHED_PAGES = 3;
+    private static final int MAX_CACHED_PAGE_SIZE = 50;
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시 대상 페이지 여부 (앞쪽 페이지 + 일반적인 페이지 크기만)
+     */
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() < CACHED_PAGES && pageable.getPageSize() <= MAX_CACHED_PAGE_SIZE;
+    }
+
+    /**
+     * 공개 게시글 목록 페이지 (캐시에 없으면 loader로 조회 후 저장)
+     */
+    public Page<PostResponse> getPostPage(Long missionId, boolean badgeOnly, Pageable pageable,
+                                          Supplier<Page<PostResponse>> loader) {
+        String key = missionId + ":" + badgeOnly + ":" + pageable.getSort() + ":"
+                + pageable.getPageNumber() + ":" + pageable.getPageSize();
+        return get(POST_FEED_CACHE, key, pageable, loader);
+    }
+
+    /**
+     * 공개 투두리스트 목록 페이지 (캐시에 없으면 loader로 조회 후 저장)
+     */
+    public Page<TodoListDto.SimpleResponse> getTodoListPage(String sortBy, Pageable pageable,
+                                                            Supplier<Page<TodoListDto.SimpleResponse>> loader) {
+        String key = sortBy + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+        return get(TODO_LIST_FEED_CACHE, key, pageable, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        log.debug("[피드 캐시] 게시글 변경으로 무효화 - postId: {}", event.postId());
+        clear(POST_FEED_CACHE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoListChanged(TodoListChangedEvent event) {
+        log.debug("[피드 캐시] 투두리스트 변경으로 무효화 - todoListId: {}", event.todoListId());
+        clear(TODO_LIST_FEED_CACHE);
+    }
+
+    private <T> Page<T> get(String cacheName, String key, Pageable pageable, Supplier<Page<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        CachedPage<T> cached = cache.get(key, () -> CachedPage.of(loader.get()));
+        return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 캐시 값: 페이지 내용 + 전체 개수 (Page 자체는 Pageable을 포함하므로 저장하지 않음)
+     */
+    record CachedPage<T>(List<T> content, long totalElements) {
+
+        static <T> CachedPage<T> of(Page<T> page) {
+            return new CachedPage<>(List.copyOf(page.getContent()), page.getTotalElements());
+        }
+    }
+}
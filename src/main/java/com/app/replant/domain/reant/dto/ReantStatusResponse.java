@@ -1,10 +1,19 @@
 package com.app.replant.domain.reant.dto;
 
 import com.app.replant.domain.reant.entity.Reant;
+import com.app.replant.domain.reant.entity.ReantVitals;
 import com.app.replant.domain.reant.enums.ReantStage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
+/**
+ * 리앤트 상태 응답
+ * 기분/건강/배고픔은 저장된 입력값(ReantVitals)으로 조회 시각마다 계산
+ * (reantStatus 캐시에 들어가도 시간 경과에 따른 변화가 멈추지 않음)
+ */
 @Getter
 @Builder
 public class ReantStatusResponse {
@@ -13,13 +22,25 @@ public class ReantStatusResponse {
     private Integer level;
     private Integer exp;
     private ReantStage stage;
-    private Integer mood;
-    private Integer health;
-    private Integer hunger;
     private Integer maxLevel;
     private Integer nextLevelExp;
     private String appearance;
 
+    @JsonIgnore
+    private ReantVitals vitals;
+
+    public Integer getMood() {
+        return vitals.moodAt(LocalDateTime.now());
+    }
+
+    public Integer getHealth() {
+        return vitals.healthAt(LocalDateTime.now());
+    }
+
+    public Integer getHunger() {
+        return vitals.hungerAt(LocalDateTime.now());
+    }
+
     public static ReantStatusResponse from(Reant reant) {
         return ReantStatusResponse.builder()
                 .id(reant.getId())
@@ -27,9 +48,7 @@ public class ReantStatusResponse {
                 .level(reant.getLevel())
                 .exp(reant.getExp())
                 .stage(reant.getStage())
-                .mood(reant.getMood())
-                .health(reant.getHealth())
-                .hunger(reant.getHunger())
+                .vitals(reant.toVitals())
                 .maxLevel(reant.getMaxLevel())
                 .nextLevelExp(reant.getNextLevelExp())
                 .appearance(reant.getAppearance())
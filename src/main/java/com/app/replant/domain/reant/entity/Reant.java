@@ -13,11 +13,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 @Entity
-@Table(name = "reant")
+@Table(name = "reant", indexes = {
+        // 선제 메시지 대상(배고픔/기분 저하) 키셋 조회용 (정렬 키 + user_id)
+        @Index(name = "idx_reant_fed_at_user", columnList = "fed_at, user_id"),
+        @Index(name = "idx_reant_mood_user", columnList = "mood, user_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})  // Hibernate 프록시 직렬화 방지
@@ -55,7 +60,20 @@ public class Reant extends BaseEntity {
     private Integer health = 100; // 건강도 (0-100)
 
     @Column(name = "hunger", nullable = false)
-    private Integer hunger = 0; // 배고픔 (0-100, 높을수록 배고픔)
+    private Integer hunger = 0; // 배고픔 (0-100, 높을수록 배고픔) - 마지막 반영 시점의 값
+
+    /**
+     * 배고픔 0 기준 시각 (가상의 마지막 식사 시각)
+     * 현재 배고픔 = (now - fedAt) 시간 * HUNGER_PER_HOUR, 반영 시 hunger 값에 맞춰 다시 계산해 저장
+     */
+    @Column(name = "fed_at")
+    private LocalDateTime fedAt;
+
+    /**
+     * 기분/건강 값을 마지막으로 반영한 시각 (이후 감소분은 조회 시 계산)
+     */
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
 
     @Column(columnDefinition = "json")
     private String appearance;
@@ -68,6 +86,9 @@ public class Reant extends BaseEntity {
         this.exp = exp != null ? exp : 0;
         this.stage = stage != null ? stage : ReantStage.EGG;
         this.appearance = appearance;
+        LocalDateTime now = LocalDateTime.now();
+        this.fedAt = now;
+        this.statusUpdatedAt = now;
     }
 
     public void updateProfile(String name, String appearance) {
@@ -91,13 +112,24 @@ public class Reant extends BaseEntity {
         }
     }
 
-    public void addExp(int expAmount) {
-        this.exp += expAmount;
-
-        // Mood 상승 (경험치 획득 시 기분 좋아짐)
-        this.mood = Math.min(100, this.mood + 5);
+    /**
+     * 경험치/기분 증가 (ReantService.grantExp에서 행 잠금 + 경과 시간 반영 후 호출)
+     * 기분은 0~100으로 보정하며 레벨업은 applyLevelUps로 반영
+     */
+    public void gainExp(int expAmount, int moodGain) {
+        this.exp = Math.max(0, this.exp + expAmount);
+        this.mood = Math.min(100, Math.max(0, this.mood + moodGain));
+    }
 
+    /**
+     * 누적된 경험치로 레벨업 반영
+     * 같은 (level, exp)에서는 항상 같은 결과가 나오도록 현재 값만으로 계산
+     * @return 레벨업 여부
+     */
+    public boolean applyLevelUps() {
+        int previousLevel = this.level;
         checkLevelUp();
+        return this.level > previousLevel;
     }
 
     /**
@@ -161,12 +193,57 @@ public class Reant extends BaseEntity {
     }
 
 
-    public void decreaseHunger() {
-        this.hunger = Math.min(100, this.hunger + 10);
-        if (this.hunger > 80) {
-            this.mood = Math.max(0, this.mood - 10);
-            this.health = Math.max(0, this.health - 5);
-        }
+    // ============================================
+    // 배고픔/기분 시간 경과 계산 (주기적 일괄 갱신 없이 조회 시 계산)
+    // ============================================
+
+    /** 시간당 배고픔 증가량 (0 → 70: 14시간, 0 → 100: 20시간) */
+    public static final int HUNGER_PER_HOUR = 5;
+    /** 이 값을 넘으면 기분/건강이 줄어듦 */
+    public static final int STARVING_HUNGER = 80;
+    /** 배고픔 0에서 굶주림 상태가 되기까지 걸리는 시간 (분) */
+    public static final int STARVING_MINUTES = STARVING_HUNGER * 60 / HUNGER_PER_HOUR;
+    /** 굶주림 상태에서 시간당 기분 감소량 */
+    public static final int MOOD_DECAY_PER_HOUR = 5;
+    /** 굶주림 상태에서 시간당 건강 감소량 */
+    public static final int HEALTH_DECAY_PER_HOUR = 2;
+
+    /**
+     * 배고픔이 주어진 값을 넘게 되는 fedAt 기준 시각 (fedAt이 이 시각보다 이전이면 배고픔 > hunger)
+     */
+    public static LocalDateTime fedBeforeForHunger(LocalDateTime now, int hunger) {
+        return now.minusMinutes(hunger * 60L / HUNGER_PER_HOUR);
+    }
+
+    public int getCurrentHunger() {
+        return toVitals().hungerAt(LocalDateTime.now());
+    }
+
+    public int getCurrentMood() {
+        return toVitals().moodAt(LocalDateTime.now());
+    }
+
+    public int getCurrentHealth() {
+        return toVitals().healthAt(LocalDateTime.now());
+    }
+
+    /**
+     * 배고픔/기분/건강 계산 입력값 (캐시에는 계산 결과 대신 이 값을 저장)
+     */
+    public ReantVitals toVitals() {
+        return new ReantVitals(mood, health, hunger != null ? hunger : 0, fedAt, statusUpdatedAt);
+    }
+
+    /**
+     * 경과 시간에 따른 값을 컬럼에 반영 (리앤트를 변경할 때만 호출)
+     */
+    public void materializeStatus(LocalDateTime now) {
+        ReantVitals vitals = toVitals();
+        this.mood = vitals.moodAt(now);
+        this.health = vitals.healthAt(now);
+        this.hunger = vitals.hungerAt(now);
+        this.fedAt = fedBeforeForHunger(now, this.hunger);
+        this.statusUpdatedAt = now;
     }
 
     private void checkLevelUp() {
@@ -182,15 +259,21 @@ public class Reant extends BaseEntity {
     }
 
     private void updateStage() {
-        if (this.level >= 30) {
-            this.stage = ReantStage.ADULT;
-        } else if (this.level >= 15) {
-            this.stage = ReantStage.TEEN;
-        } else if (this.level >= 5) {
-            this.stage = ReantStage.BABY;
-        } else {
-            this.stage = ReantStage.EGG;
+        this.stage = stageOf(this.level);
+    }
+
+    /**
+     * 레벨에 해당하는 성장 단계
+     */
+    public static ReantStage stageOf(int level) {
+        if (level >= 30) {
+            return ReantStage.ADULT;
+        } else if (level >= 15) {
+            return ReantStage.TEEN;
+        } else if (level >= 5) {
+            return ReantStage.BABY;
         }
+        return ReantStage.EGG;
     }
 
     private int calculateNextLevelExp() {
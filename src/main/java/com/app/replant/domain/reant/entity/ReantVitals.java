@@ -0,0 +1,48 @@
+package com.app.replant.domain.reant.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 리앤트 배고픔/기분/건강 계산 입력값 (마지막 반영 시점의 값 + 기준 시각)
+ * 현재 값은 조회 시각(now)마다 계산하므로, 이 값을 캐시해도 시간 경과에 따른 변화가 그대로 반영됨
+ *
+ * @param mood            마지막 반영 시점의 기분
+ * @param health          마지막 반영 시점의 건강도
+ * @param hunger          마지막 반영 시점의 배고픔 (fedAt이 없는 이전 데이터의 역산용)
+ * @param fedAt           배고픔 0 기준 시각
+ * @param statusUpdatedAt 기분/건강 값을 마지막으로 반영한 시각
+ */
+public record ReantVitals(int mood, int health, int hunger, LocalDateTime fedAt, LocalDateTime statusUpdatedAt) {
+
+    public int hungerAt(LocalDateTime now) {
+        long minutes = Math.max(0, Duration.between(effectiveFedAt(now), now).toMinutes());
+        return (int) Math.min(100, minutes * Reant.HUNGER_PER_HOUR / 60);
+    }
+
+    public int moodAt(LocalDateTime now) {
+        return Math.max(0, mood - (int) (starvingMinutes(now) * Reant.MOOD_DECAY_PER_HOUR / 60));
+    }
+
+    public int healthAt(LocalDateTime now) {
+        return Math.max(0, health - (int) (starvingMinutes(now) * Reant.HEALTH_DECAY_PER_HOUR / 60));
+    }
+
+    /**
+     * 마지막 반영 이후 굶주림(hunger > STARVING_HUNGER) 상태였던 시간 (분)
+     */
+    long starvingMinutes(LocalDateTime now) {
+        LocalDateTime starvingSince = effectiveFedAt(now).plusMinutes(Reant.STARVING_MINUTES);
+        LocalDateTime from = statusUpdatedAt != null && statusUpdatedAt.isAfter(starvingSince) ? statusUpdatedAt : starvingSince;
+        return Math.max(0, Duration.between(from, now).toMinutes());
+    }
+
+    private LocalDateTime effectiveFedAt(LocalDateTime now) {
+        if (fedAt != null) {
+            return fedAt;
+        }
+        // 마이그레이션 이전 데이터: 저장된 hunger 값 기준으로 역산
+        LocalDateTime base = statusUpdatedAt != null ? statusUpdatedAt : now;
+        return Reant.fedBeforeForHunger(base, hunger);
+    }
+}
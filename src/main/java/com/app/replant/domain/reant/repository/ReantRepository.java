@@ -2,8 +2,35 @@ package com.app.replant.domain.reant.repository;
 
 import com.app.replant.domain.reant.entity.Reant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface ReantRepository extends JpaRepository<Reant, Long>, ReantRepositoryCustom {
     // JPA 자동 생성 메서드 제거 - 순환 참조 방지
     // findByUser, findByUserId는 ReantRepositoryCustom의 findByUserIdWithUser를 사용하세요
+
+    /**
+     * 밥 주기 원자적 반영 (읽기-수정-쓰기 없이 반영, 동시 경험치 지급과는 행 잠금으로 순서가 정해져 유실 없음)
+     * 굶주림 구간의 기분/건강 감소분을 반영한 뒤 배고픔 0, 기준 시각을 지금으로 설정 (Reant.materializeStatus와 동일 계산)
+     * MySQL은 SET 절을 왼쪽부터 적용하므로 기분/건강 계산은 fed_at/status_updated_at 갱신 전 값을 사용
+     * @return 갱신된 행 수 (리앤트가 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE reant SET " +
+            "mood = GREATEST(0, mood - COALESCE(GREATEST(0, TIMESTAMPDIFF(MINUTE, " +
+            "GREATEST(COALESCE(status_updated_at, fed_at + INTERVAL :starvingMinutes MINUTE), fed_at + INTERVAL :starvingMinutes MINUTE), " +
+            ":now)), 0) * :moodDecayPerHour DIV 60), " +
+            "health = GREATEST(0, health - COALESCE(GREATEST(0, TIMESTAMPDIFF(MINUTE, " +
+            "GREATEST(COALESCE(status_updated_at, fed_at + INTERVAL :starvingMinutes MINUTE), fed_at + INTERVAL :starvingMinutes MINUTE), " +
+            ":now)), 0) * :healthDecayPerHour DIV 60), " +
+            "hunger = 0, fed_at = :now, status_updated_at = :now, updated_at = NOW() " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int feed(@Param("userId") Long userId,
+             @Param("now") LocalDateTime now,
+             @Param("starvingMinutes") int starvingMinutes,
+             @Param("moodDecayPerHour") int moodDecayPerHour,
+             @Param("healthDecayPerHour") int healthDecayPerHour);
 }
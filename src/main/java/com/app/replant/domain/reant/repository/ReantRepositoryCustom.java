@@ -2,8 +2,25 @@ package com.app.replant.domain.reant.repository;
 
 import com.app.replant.domain.reant.entity.Reant;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReantRepositoryCustom {
     Optional<Reant> findByUserIdWithUser(Long userId);
+
+    /**
+     * DB의 최신 값으로 다시 읽은 Reant 조회 (네이티브 UPDATE 직후 영속성 컨텍스트의 오래된 값 방지)
+     */
+    Optional<Reant> findFreshByUserIdWithUser(Long userId);
+
+    /**
+     * 행 잠금(SELECT ... FOR UPDATE)을 잡고 DB의 최신 값으로 다시 읽은 Reant 조회 (읽기-수정-쓰기용)
+     */
+    Optional<Reant> findByUserIdForUpdate(Long userId);
+
+    /**
+     * 여러 사용자의 Reant 일괄 조회 (스케줄러 묶음 처리용, 사용자당 1건)
+     */
+    List<Reant> findAllByUserIds(Collection<Long> userIds);
 }
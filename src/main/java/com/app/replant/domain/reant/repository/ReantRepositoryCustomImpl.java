@@ -2,9 +2,12 @@ package com.app.replant.domain.reant.repository;
 
 import com.app.replant.domain.reant.entity.Reant;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,4 +38,30 @@ public class ReantRepositoryCustomImpl implements ReantRepositoryCustom {
             return Optional.empty();
         }
     }
+
+    @Override
+    public Optional<Reant> findFreshByUserIdWithUser(Long userId) {
+        Optional<Reant> reant = findByUserIdWithUser(userId);
+        reant.ifPresent(entityManager::refresh);
+        return reant;
+    }
+
+    @Override
+    public Optional<Reant> findByUserIdForUpdate(Long userId) {
+        Optional<Reant> reant = findByUserIdWithUser(userId);
+        reant.ifPresent(r -> entityManager.refresh(r, LockModeType.PESSIMISTIC_WRITE));
+        return reant;
+    }
+
+    @Override
+    public List<Reant> findAllByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        // user는 LAZY 프록시로 두고 ID만 사용 (사용자 행 추가 조회 없음)
+        String jpql = "SELECT r FROM Reant r WHERE r.user.id IN :userIds";
+        return entityManager.createQuery(jpql, Reant.class)
+                .setParameter("userIds", userIds)
+                .getResultList();
+    }
 }
@@ -8,17 +8,29 @@ import com.app.replant.domain.reant.repository.ReantRepository;
 import com.app.replant.global.exception.CustomException;
 import com.app.replant.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReantService {
 
+    /** 경험치 획득 시 기분 상승량 */
+    public static final int MOOD_GAIN_ON_EXP = 5;
+
     private final ReantRepository reantRepository;
+    private final CacheManager cacheManager;
 
     @Cacheable(value = "reant", key = "#userId", unless = "#result == null")
     public ReantResponse getMyReant(Long userId) {
@@ -46,6 +58,7 @@ public class ReantService {
 
     /**
      * 리앤트 상태 조회
+     * 캐시에는 저장된 값과 기준 시각만 두고, 기분/건강/배고픔은 응답 직렬화 시점에 계산
      */
     @Cacheable(value = "reantStatus", key = "#userId", unless = "#result == null")
     public ReantStatusResponse getReantStatus(Long userId) {
@@ -55,6 +68,74 @@ public class ReantService {
         return ReantStatusResponse.from(reant);
     }
 
+    /**
+     * 경험치 지급
+     * 1. 행 잠금을 잡고 최신 값을 읽은 뒤, 지난 반영 이후의 배고픔/기분/건강 변화를 먼저 반영
+     * 2. 반영된 기분에 상승량을 더해 0~100으로 보정 (보정 전에 감소분을 적용해야 순서에 따른 오차가 없음)
+     * 3. 레벨/단계를 결정적으로 재계산하고, 커밋 후 새 상태를 reant/reantStatus 캐시에 바로 기록 (write-through)
+     */
+    @Transactional
+    public void grantExp(Long userId, int expAmount) {
+        if (expAmount <= 0) {
+            return;
+        }
+        Reant reant = reantRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (reant == null) {
+            log.warn("경험치 지급 대상 리앤트 없음: userId={}", userId);
+            return;
+        }
+        reant.materializeStatus(LocalDateTime.now());
+        reant.gainExp(expAmount, MOOD_GAIN_ON_EXP);
+        if (reant.applyLevelUps()) {
+            log.info("리앤트 레벨업: userId={}, level={}, stage={}", userId, reant.getLevel(), reant.getStage());
+        }
+        writeThroughCache(userId, reant);
+    }
+
+    /**
+     * 밥 주기 (식사 인증 시) - 배고픔을 0으로, 기준 시각을 지금으로 반영
+     * 원자적 UPDATE로 반영하므로 경험치 지급(grantExp)과 같은 행을 갱신해도 서로 덮어쓰지 않음
+     */
+    @Transactional
+    public void feed(Long userId) {
+        int updated = reantRepository.feed(userId, LocalDateTime.now(),
+                Reant.STARVING_MINUTES, Reant.MOOD_DECAY_PER_HOUR, Reant.HEALTH_DECAY_PER_HOUR);
+        if (updated == 0) {
+            return;
+        }
+        reantRepository.findFreshByUserIdWithUser(userId)
+                .ifPresent(reant -> writeThroughCache(userId, reant));
+    }
+
+    /**
+     * 변경된 Reant 상태를 캐시에 기록 (트랜잭션 안이면 커밋 후 기록)
+     */
+    private void writeThroughCache(Long userId, Reant reant) {
+        ReantResponse reantResponse = ReantResponse.from(reant);
+        ReantStatusResponse statusResponse = ReantStatusResponse.from(reant);
+        Runnable put = () -> {
+            putCache("reant", userId, reantResponse);
+            putCache("reantStatus", userId, statusResponse);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put.run();
+                }
+            });
+        } else {
+            put.run();
+        }
+    }
+
+    private void putCache(String cacheName, Long userId, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(userId, value);
+        }
+    }
+
     /**
      * Reant 캐시 무효화 헬퍼 메서드
      * 다른 서비스에서 Reant를 변경한 후 호출하여 캐시를 무효화할 수 있음
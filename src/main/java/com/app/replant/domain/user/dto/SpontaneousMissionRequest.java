@@ -14,4 +14,14 @@ public class SpontaneousMissionRequest {
     @NotBlank(message = "기상 시간을 입력해주세요")
     @Pattern(regexp = "^([0-1][0-9]|2[0-3]):[0-5][0-9]$", message = "기상 시간은 HH:mm 형식이어야 합니다 (예: 07:00)")
     private String wakeTime;
+
+    // 식사 시간 (선택, 미입력 시 해당 식사 미션을 받지 않음)
+    @Pattern(regexp = "^([0-1][0-9]|2[0-3]):[0-5][0-9]$", message = "아침 식사 시간은 HH:mm 형식이어야 합니다 (예: 08:00)")
+    private String breakfastTime;
+
+    @Pattern(regexp = "^([0-1][0-9]|2[0-3]):[0-5][0-9]$", message = "점심 식사 시간은 HH:mm 형식이어야 합니다 (예: 12:00)")
+    private String lunchTime;
+
+    @Pattern(regexp = "^([0-1][0-9]|2[0-3]):[0-5][0-9]$", message = "저녁 식사 시간은 HH:mm 형식이어야 합니다 (예: 18:00)")
+    private String dinnerTime;
 }
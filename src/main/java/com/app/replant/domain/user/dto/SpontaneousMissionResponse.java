@@ -1,5 +1,6 @@
 package com.app.replant.domain.user.dto;
 
+import com.app.replant.domain.user.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,4 +13,17 @@ import lombok.NoArgsConstructor;
 public class SpontaneousMissionResponse {
     private Boolean isSpontaneousMissionSetupCompleted;
     private String wakeTime;
+    private String breakfastTime;
+    private String lunchTime;
+    private String dinnerTime;
+
+    public static SpontaneousMissionResponse from(User user) {
+        return SpontaneousMissionResponse.builder()
+                .isSpontaneousMissionSetupCompleted(user.isSpontaneousMissionSetupCompleted())
+                .wakeTime(user.getWakeTime())
+                .breakfastTime(user.getBreakfastTime())
+                .lunchTime(user.getLunchTime())
+                .dinnerTime(user.getDinnerTime())
+                .build();
+    }
 }
@@ -27,7 +27,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = {
+        // 기상 미션 스케줄러의 분 단위 버킷 조회
+        @Index(name = "idx_user_wake_minute", columnList = "wake_minute"),
+        // 식사 미션 스케줄러의 분 단위 버킷 조회 (식사별 OR 조건 → index merge)
+        @Index(name = "idx_user_breakfast_minute", columnList = "breakfast_minute"),
+        @Index(name = "idx_user_lunch_minute", columnList = "lunch_minute"),
+        @Index(name = "idx_user_dinner_minute", columnList = "dinner_minute")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})  // Hibernate 프록시 직렬화 방지
@@ -139,6 +146,10 @@ public class User extends BaseEntity {
     // 기상 시간 (HH:mm 형식, 예: "07:00")
     @Column(name = "wake_time", length = 5)
     private String wakeTime;
+
+    // 기상 시간의 자정 기준 분 (0~1439, wakeTime과 함께 갱신, 스케줄러 조회용)
+    @Column(name = "wake_minute")
+    private Integer wakeMinute;
     
     // 식사 시간 (HH:mm 형식, null 가능 - 해당 식사를 안 먹는 경우)
     @Column(name = "breakfast_time", length = 5)
@@ -149,6 +160,16 @@ public class User extends BaseEntity {
     
     @Column(name = "dinner_time", length = 5)
     private String dinnerTime;
+
+    // 식사 시간의 자정 기준 분 (식사 시간과 함께 갱신, 스케줄러 조회용)
+    @Column(name = "breakfast_minute")
+    private Integer breakfastMinute;
+
+    @Column(name = "lunch_minute")
+    private Integer lunchMinute;
+
+    @Column(name = "dinner_minute")
+    private Integer dinnerMinute;
     
     // 돌발 미션 설정 시점 (악용 방지용 - 설정 당일에는 미션 할당 안 함)
     @Column(name = "spontaneous_mission_setup_at")
@@ -285,18 +306,55 @@ public class User extends BaseEntity {
     }
 
     /**
-     * 돌발 미션 설정 완료 처리 (기상 시간만 사용)
+     * 돌발 미션 설정 완료 처리 (기상 시간 + 선택 식사 시간)
+     * 식사 시간이 null이면 해당 식사 미션을 받지 않음
      */
-    public void setupSpontaneousMission(String wakeTime) {
+    public void setupSpontaneousMission(String wakeTime, String breakfastTime, String lunchTime, String dinnerTime) {
         this.isSpontaneousMissionSetupCompleted = true;
-        this.wakeTime = wakeTime;
+        this.wakeMinute = toMinuteOfDay(wakeTime);
+        this.wakeTime = normalizeTime(wakeTime, this.wakeMinute);
         this.sleepTime = null;
-        this.breakfastTime = null;
-        this.lunchTime = null;
-        this.dinnerTime = null;
+        this.breakfastMinute = toMinuteOfDay(breakfastTime);
+        this.breakfastTime = normalizeTime(breakfastTime, this.breakfastMinute);
+        this.lunchMinute = toMinuteOfDay(lunchTime);
+        this.lunchTime = normalizeTime(lunchTime, this.lunchMinute);
+        this.dinnerMinute = toMinuteOfDay(dinnerTime);
+        this.dinnerTime = normalizeTime(dinnerTime, this.dinnerMinute);
         this.spontaneousMissionSetupAt = LocalDateTime.now(); // 설정 시점 기록
     }
+
+    /**
+     * 분 단위 값이 있으면 "HH:mm" 형식으로 정규화, 없으면 원래 값 유지
+     */
+    private static String normalizeTime(String time, Integer minuteOfDay) {
+        return minuteOfDay != null
+                ? String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60)
+                : time;
+    }
     
+    /**
+     * "HH:mm" 또는 "H:mm" 시각 문자열을 자정 기준 분(0~1439)으로 변환 (형식이 아니면 null)
+     */
+    public static Integer toMinuteOfDay(String time) {
+        if (time == null) {
+            return null;
+        }
+        String[] parts = time.trim().split(":");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            int hour = Integer.parseInt(parts[0]);
+            int minute = Integer.parseInt(parts[1]);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                return null;
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * 돌발 미션 설정 시점 조회
      */
@@ -338,9 +396,13 @@ public class User extends BaseEntity {
         this.isSpontaneousMissionSetupCompleted = false;
         this.sleepTime = null;
         this.wakeTime = null;
+        this.wakeMinute = null;
         this.breakfastTime = null;
+        this.breakfastMinute = null;
         this.lunchTime = null;
+        this.lunchMinute = null;
         this.dinnerTime = null;
+        this.dinnerMinute = null;
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.app.replant.domain.user.repository;
 
 import com.app.replant.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,15 +35,53 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
     List<User> findAllActiveUsers();
 
     /**
-     * 특정 시간에 기상 미션을 받을 사용자 조회
+     * 투두리스트 작성 알림 대상 ID 묶음 조회 (활성 투두리스트가 1개 이상인 활성 사용자)
+     * 사용자 PK 순서의 키셋 페이지, 투두리스트 존재 여부는 idx_todolist_creator로 EXISTS 판정
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId " +
+           "AND u.status = 'ACTIVE' " +
+           "AND (u.delFlag = false OR u.delFlag IS NULL) " +
+           "AND EXISTS (SELECT 1 FROM TodoList t WHERE t.creator = u " +
+           "AND t.setType = 'TODOLIST' AND t.isActive = true) " +
+           "ORDER BY u.id")
+    List<Long> findTodoReminderTargetIds(Long afterId, Pageable pageable);
+
+    /**
+     * 사용자별 FCM 토큰 일괄 조회 (토큰이 있는 사용자만)
+     * @return [사용자 ID, FCM 토큰] 목록
+     */
+    @Query("SELECT u.id, u.fcmToken FROM User u WHERE u.id IN :userIds " +
+           "AND u.fcmToken IS NOT NULL AND u.fcmToken <> ''")
+    List<Object[]> findFcmTokensByIds(Collection<Long> userIds);
+
+    /**
+     * 유효하지 않은 FCM 토큰 일괄 삭제 (그 사이 토큰이 갱신된 사용자는 제외)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.id IN :userIds AND u.fcmToken IN :tokens")
+    int clearFcmTokens(Collection<Long> userIds, Collection<String> tokens);
+
+    /**
+     * 해당 분(자정 기준 0~1439)에 기상 미션을 받을 사용자 ID (idx_user_wake_minute)
      * Soft Delete된 사용자 제외
-     * N+1 문제 방지를 위해 Reant를 함께 fetch join
      */
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.reant WHERE u.status = 'ACTIVE' " +
+    @Query("SELECT u.id FROM User u WHERE u.wakeMinute = :minuteOfDay " +
+           "AND u.status = 'ACTIVE' " +
+           "AND (u.delFlag = false OR u.delFlag IS NULL) " +
+           "AND u.isSpontaneousMissionSetupCompleted = true")
+    List<Long> findWakeUpUserIdsByMinute(int minuteOfDay);
+
+    /**
+     * 식사 시간이 해당 분(자정 기준)인 사용자 조회 (식사 미션 스케줄러용)
+     * 식사별 분 단위 인덱스의 OR 조건으로 해당 분의 사용자만 조회
+     * @return [사용자 ID, 아침 분, 점심 분, 저녁 분] 목록
+     */
+    @Query("SELECT u.id, u.breakfastMinute, u.lunchMinute, u.dinnerMinute FROM User u " +
+           "WHERE (u.breakfastMinute = :minuteOfDay OR u.lunchMinute = :minuteOfDay OR u.dinnerMinute = :minuteOfDay) " +
+           "AND u.status = 'ACTIVE' " +
            "AND (u.delFlag = false OR u.delFlag IS NULL) " +
-           "AND u.isSpontaneousMissionSetupCompleted = true " +
-           "AND u.wakeTime = :time")
-    List<User> findUsersByWakeTime(String time);
+           "AND u.isSpontaneousMissionSetupCompleted = true")
+    List<Object[]> findMealSlotsByMinute(int minuteOfDay);
 
     /**
      * 30일 이상 지난 INACTIVE 사용자 조회 (DELETED로 변경 대상)
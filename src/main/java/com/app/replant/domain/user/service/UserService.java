@@ -172,38 +172,31 @@ public class UserService {
         if (!user.isSpontaneousMissionSetupCompleted() || user.getWakeTime() == null || user.getWakeTime().isEmpty()) {
             throw new CustomException(ErrorCode.NOT_FOUND);
         }
-        return SpontaneousMissionResponse.builder()
-                .isSpontaneousMissionSetupCompleted(user.isSpontaneousMissionSetupCompleted())
-                .wakeTime(user.getWakeTime())
-                .build();
+        return SpontaneousMissionResponse.from(user);
     }
 
     /**
-     * 돌발 미션 설정 등록 (최초 설정, 기상 시간만)
+     * 돌발 미션 설정 등록 (최초 설정, 기상 시간 + 선택 식사 시간)
      */
     @Transactional
     public SpontaneousMissionResponse setupSpontaneousMission(Long userId, SpontaneousMissionRequest request) {
         User user = findById(userId);
-        user.setupSpontaneousMission(request.getWakeTime());
+        user.setupSpontaneousMission(request.getWakeTime(), request.getBreakfastTime(),
+                request.getLunchTime(), request.getDinnerTime());
         User saved = userRepository.save(user);
-        return SpontaneousMissionResponse.builder()
-                .isSpontaneousMissionSetupCompleted(saved.isSpontaneousMissionSetupCompleted())
-                .wakeTime(saved.getWakeTime())
-                .build();
+        return SpontaneousMissionResponse.from(saved);
     }
 
     /**
-     * 돌발 미션 설정 수정 (기상 시간만)
+     * 돌발 미션 설정 수정 (기상 시간 + 선택 식사 시간)
      */
     @Transactional
     public SpontaneousMissionResponse updateSpontaneousMissionSetup(Long userId, SpontaneousMissionRequest request) {
         User user = findById(userId);
-        user.setupSpontaneousMission(request.getWakeTime());
+        user.setupSpontaneousMission(request.getWakeTime(), request.getBreakfastTime(),
+                request.getLunchTime(), request.getDinnerTime());
         User saved = userRepository.save(user);
-        return SpontaneousMissionResponse.builder()
-                .isSpontaneousMissionSetupCompleted(saved.isSpontaneousMissionSetupCompleted())
-                .wakeTime(saved.getWakeTime())
-                .build();
+        return SpontaneousMissionResponse.from(saved);
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.app.replant.domain.usermission.controller;
 
 import com.app.replant.global.common.ApiResponse;
+import com.app.replant.global.common.dto.CursorResponse;
 import com.app.replant.domain.usermission.dto.*;
+import com.app.replant.domain.usermission.service.CalendarSummaryService;
 import com.app.replant.domain.usermission.service.UserMissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserMissionController {
 
         private final UserMissionService userMissionService;
+        private final CalendarSummaryService calendarSummaryService;
 
         @Operation(summary = "내 미션 목록 조회", description = "로그인한 사용자의 미션 목록을 조회합니다. 상태 및 미션 타입으로 필터링 가능합니다.")
         @ApiResponses(value = {
@@ -154,11 +158,12 @@ public class UserMissionController {
         }
 
         @GetMapping("/history")
-        @Operation(summary = "미션 완료 이력 조회", description = "완료한 미션의 이력을 조회합니다.")
-        public ApiResponse<Page<UserMissionResponse>> getMissionHistory(
+        @Operation(summary = "미션 완료 이력 조회", description = "완료한 미션의 이력을 할당 시각 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+        public ApiResponse<CursorResponse<UserMissionResponse>> getMissionHistory(
                         @AuthenticationPrincipal Long userId,
-                        @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-                Page<UserMissionResponse> history = userMissionService.getMissionHistory(userId, pageable);
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+                CursorResponse<UserMissionResponse> history = userMissionService.getMissionHistory(userId, cursor, size);
                 return ApiResponse.success(history);
         }
 
@@ -184,4 +189,13 @@ public class UserMissionController {
                 return ApiResponse.success(missions);
         }
 
+        @GetMapping("/calendar/summary")
+        @Operation(summary = "월간 캘린더 요약 조회", description = "해당 월의 날짜별 미션 할당/완료/실패 수, 다이어리 감정, 식사 인증 수를 조회합니다. 기록이 있는 날짜만 반환됩니다.")
+        public ApiResponse<CalendarSummaryResponse> getCalendarSummary(
+                        @AuthenticationPrincipal Long userId,
+                        @Parameter(description = "조회할 월 (YYYY-MM 형식)", example = "2026-01")
+                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+                return ApiResponse.success(calendarSummaryService.getMonthlySummary(userId, month));
+        }
+
 }
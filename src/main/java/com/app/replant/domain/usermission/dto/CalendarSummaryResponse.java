@@ -0,0 +1,31 @@
+package com.app.replant.domain.usermission.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월간 캘린더 요약 응답
+ * 캘린더 화면의 날짜별 점/개수 표시용 집계 (기록이 있는 날짜만 포함)
+ */
+@Getter
+@Builder
+public class CalendarSummaryResponse {
+
+    private String month;  // YYYY-MM
+    private List<DaySummary> days;
+
+    @Getter
+    @Builder
+    public static class DaySummary {
+        private LocalDate date;
+        private int assignedCount;    // 할당된 미션 수 (상태 무관)
+        private int completedCount;   // 완료한 미션 수
+        private int failedCount;      // 실패/만료된 미션 수
+        private String diaryEmotion;  // 다이어리 감정 (없으면 null)
+        private Integer diaryMood;    // 다이어리 기분 값 (없으면 null)
+        private int mealsVerified;    // 인증 완료한 식사 수
+    }
+}
@@ -40,10 +40,13 @@ public class VerifyMissionResponse {
         private BadgeInfo badge;
     }
 
+    /**
+     * 뱃지는 인증 트랜잭션 커밋 후 발급되므로 응답 시점에는 ID가 없음 (만료 예정 시각만 제공)
+     * 발급된 뱃지 ID는 뱃지 목록 조회로 확인
+     */
     @Getter
     @Builder
     public static class BadgeInfo {
-        private Long id;
         private LocalDateTime expiresAt;
     }
 
@@ -0,0 +1,30 @@
+package com.app.replant.domain.usermission.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미션 완료 후속 처리 멱등 키
+ * "BADGE:{userMissionId}" 같은 키가 있으면 해당 처리는 이미 완료된 것으로 보고 재시도/중복 이벤트를 무시
+ * 중복 이벤트는 완료 직후 재시도 구간에만 생기므로 보존 기간이 지난 키는 정리 (MissionCompletionEffectCleanupScheduler)
+ */
+@Entity
+@Table(name = "mission_completion_effect", indexes = {
+        // 보존 기간이 지난 키 정리용
+        @Index(name = "idx_mission_completion_effect_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MissionCompletionEffect {
+
+    @Id
+    @Column(name = "effect_key", length = 100)
+    private String effectKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
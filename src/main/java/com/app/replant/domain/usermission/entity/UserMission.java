@@ -6,6 +6,7 @@ import com.app.replant.domain.missionset.entity.TodoList;
 import com.app.replant.domain.spontaneousmission.entity.SpontaneousMission;
 import com.app.replant.domain.user.entity.User;
 import com.app.replant.domain.usermission.enums.UserMissionStatus;
+import com.app.replant.domain.usermission.service.CalendarSummaryEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,14 +17,22 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_mission", indexes = {
-        @Index(name = "idx_user_mission_type", columnList = "mission_type")
+        @Index(name = "idx_user_mission_type", columnList = "mission_type"),
+        // 미션 완료 이력 커서 조회 (user_id, status, assigned_at DESC, id DESC)
+        @Index(name = "idx_user_mission_user_status_assigned", columnList = "user_id, status, assigned_at, id"),
+        // 만료 스케줄러의 묶음 조회 (status = ASSIGNED AND due_date < now)
+        @Index(name = "idx_user_mission_status_due", columnList = "status, due_date")
 })
+@EntityListeners(CalendarSummaryEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserMission {
 
+    // 배치 INSERT를 위해 IDENTITY 대신 테이블 기반 pooled 할당 (IdSequenceInitializer가 EntityManagerFactory 생성 전 기존 최대 ID 이후로 시작값 설정)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_mission_id")
+    @TableGenerator(name = "user_mission_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user_mission", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
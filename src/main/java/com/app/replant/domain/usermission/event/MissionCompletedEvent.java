@@ -0,0 +1,28 @@
+package com.app.replant.domain.usermission.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미션 완료 이벤트
+ * 인증으로 UserMission이 COMPLETED로 바뀐 트랜잭션 안에서 발행되며,
+ * 커밋 이후 보상(경험치)/뱃지/투두리스트 진행도/알림 처리를 비동기로 수행하는 데 사용됩니다.
+ *
+ * @param userMissionId 완료된 UserMission ID
+ * @param userId 사용자 ID
+ * @param missionId 미션 ID (돌발 미션 등 미션이 없으면 null)
+ * @param verificationPostId 커뮤니티 인증 게시글 ID (좋아요 인증으로 완료된 경우, 그 외 null)
+ * @param completedAt 완료 시각 (뱃지 발급 시각 기준)
+ */
+public record MissionCompletedEvent(Long userMissionId,
+                                    Long userId,
+                                    Long missionId,
+                                    Long verificationPostId,
+                                    LocalDateTime completedAt) {
+
+    /**
+     * 후속 처리 멱등 키 (UserMission당 처리 종류별 1회)
+     */
+    public String effectKey(String effectType) {
+        return effectType + ":" + userMissionId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.replant.domain.usermission.repository;
+
+import com.app.replant.domain.usermission.entity.MissionCompletionEffect;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MissionCompletionEffectRepository extends JpaRepository<MissionCompletionEffect, String> {
+
+    /**
+     * 멱등 키 선점 (이미 있으면 0 반환)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mission_completion_effect (effect_key, created_at) VALUES (:effectKey, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("effectKey") String effectKey);
+
+    /**
+     * 기준 시각 이전에 선점된 키를 오래된 순으로 최대 limit개 삭제 (idx_mission_completion_effect_created_at 사용)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM mission_completion_effect WHERE created_at < :before ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.app.replant.domain.usermission.repository;
+
+import com.app.replant.domain.usermission.entity.UserMission;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미션 완료 이력 조회 결과
+ * completedAt = coalesce(MissionVerification.verifiedAt, 인증 게시글 verifiedAt)
+ */
+public record UserMissionHistoryRow(UserMission userMission, LocalDateTime completedAt) {
+}
@@ -2,9 +2,14 @@ package com.app.replant.domain.usermission.repository;
 
 import com.app.replant.domain.usermission.entity.UserMission;
 import com.app.replant.domain.usermission.enums.UserMissionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,58 @@ public interface UserMissionRepository extends JpaRepository<UserMission, Long>,
             List<UserMissionStatus> statuses,
             LocalDateTime assignedAtStart,
             LocalDateTime assignedAtEnd);
+
+    /**
+     * 기간 내 해당 미션을 지정 상태로 이미 할당받은 사용자 ID (스케줄러 중복 할당 방지, 사용자 묶음 단위)
+     */
+    @Query("SELECT DISTINCT um.user.id FROM UserMission um " +
+           "WHERE um.mission.id = :missionId AND um.user.id IN :userIds " +
+           "AND um.status IN :statuses AND um.assignedAt >= :start AND um.assignedAt < :end")
+    List<Long> findUserIdsAssignedBetween(
+            @Param("missionId") Long missionId,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("statuses") List<UserMissionStatus> statuses,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    /**
+     * 기한이 지난 미션 한 묶음 조회 (만료 스케줄러, idx_user_mission_status_due)
+     * @return [userMissionId, userId, assignedAt] 목록
+     */
+    @Query("SELECT um.id, um.user.id, um.assignedAt FROM UserMission um " +
+           "WHERE um.status = :status AND um.dueDate < :now ORDER BY um.dueDate")
+    List<Object[]> findExpiredMissionChunk(
+            @Param("status") UserMissionStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * 조회한 미션 중 아직 해당 상태인 것만 일괄 상태 변경 (조회 이후 완료된 미션은 제외)
+     */
+    @Modifying
+    @Query("UPDATE UserMission um SET um.status = :newStatus " +
+           "WHERE um.id IN :ids AND um.status = :currentStatus")
+    int updateStatusByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("currentStatus") UserMissionStatus currentStatus,
+            @Param("newStatus") UserMissionStatus newStatus);
+
+    /**
+     * 캘린더 요약용 날짜별 미션 집계
+     * @return [할당 날짜(LocalDate), 할당 수, 완료 수, 실패 수] 목록
+     */
+    @Query("SELECT CAST(um.assignedAt AS LocalDate), COUNT(um), " +
+           "SUM(CASE WHEN um.status = :completed THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN um.status IN :failedStatuses THEN 1 ELSE 0 END) " +
+           "FROM UserMission um " +
+           "WHERE um.user.id = :userId AND um.assignedAt >= :start AND um.assignedAt < :end " +
+           "GROUP BY CAST(um.assignedAt AS LocalDate)")
+    List<Object[]> countDailyByUserId(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("completed") UserMissionStatus completed,
+            @Param("failedStatuses") List<UserMissionStatus> failedStatuses);
     
     // TODO: isSpontaneous 필드가 삭제되어 임시로 주석 처리
     // 필요시 mission IS NULL 조건으로 QueryDSL로 구현 필요
@@ -53,11 +53,6 @@ public interface UserMissionRepositoryCustom {
             Long excludeUserId,
             Pageable pageable);
 
-    /**
-     * 유저별 완료된 미션 이력 조회
-     */
-    Page<UserMission> findMissionHistoryByUserId(Long userId, Pageable pageable);
-
     /**
      * 특정 유저와 미션으로 UserMission 조회 (ASSIGNED 상태만)
      */
@@ -72,11 +67,6 @@ public interface UserMissionRepositoryCustom {
             Long userId,
             Long missionId);
 
-    /**
-     * 만료된 미션 조회 (기한이 지난 ASSIGNED 상태의 미션)
-     */
-    List<UserMission> findExpiredMissions(LocalDateTime now);
-
     /**
      * 특정 유저와 여러 미션 ID로 UserMission 일괄 조회
      * (오늘 할당된 미션이거나 PENDING 상태만 반환 - 투두리스트/상세용)
@@ -123,4 +113,22 @@ public interface UserMissionRepositoryCustom {
      * @return 미션 ID를 키로 하고 참여자 수를 값으로 하는 Map
      */
     java.util.Map<Long, Long> countDistinctUsersByMissionIds(List<Long> missionIds);
+
+    /**
+     * 사용자가 한 번이라도 수행한 미션 ID별 완료 여부 조회 (미션 도감용 - 날짜/상태 무관)
+     * 미션당 한 행만 반환하므로 카탈로그 크기와 무관하게 사용자 수행 이력 크기에만 비례
+     * @param userId 사용자 ID
+     * @return 미션 ID를 키로 하고, 한 번이라도 COMPLETED 상태였으면 true인 Map (키 집합 = 수행한 미션 ID 집합)
+     */
+    java.util.Map<Long, Boolean> findMissionCompletionByUserId(Long userId);
+
+    /**
+     * 미션 완료 이력 커서 조회 (assigned_at DESC, id DESC)
+     * 완료 시각은 MissionVerification / 인증 게시글의 verifiedAt을 한 쿼리에서 함께 조회
+     * @param userId 사용자 ID
+     * @param cursorAssignedAt 이전 페이지 마지막 항목의 assignedAt (첫 페이지면 null)
+     * @param cursorId 이전 페이지 마지막 항목의 id (첫 페이지면 null)
+     * @param limit 조회 개수
+     */
+    List<UserMissionHistoryRow> findMissionHistorySlice(Long userId, LocalDateTime cursorAssignedAt, Long cursorId, int limit);
 }
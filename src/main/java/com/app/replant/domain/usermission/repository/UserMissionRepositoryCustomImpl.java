@@ -3,9 +3,16 @@ package com.app.replant.domain.usermission.repository;
 import com.app.replant.domain.mission.enums.MissionType;
 import com.app.replant.domain.missionset.entity.QTodoList;
 import com.app.replant.domain.missionset.enums.TodoListStatus;
+import com.app.replant.domain.post.entity.QPost;
+import com.app.replant.domain.post.enums.PostType;
+import com.app.replant.domain.usermission.entity.QMissionVerification;
 import com.app.replant.domain.usermission.entity.UserMission;
 import com.app.replant.domain.usermission.enums.UserMissionStatus;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -137,17 +144,6 @@ public class UserMissionRepositoryCustomImpl implements UserMissionRepositoryCus
                 .fetch();
     }
 
-    @Override
-    public Page<UserMission> findMissionHistoryByUserId(Long userId, Pageable pageable) {
-        JPAQuery<UserMission> query = queryFactory
-                .selectFrom(userMission)
-                .where(userMission.user.id.eq(userId)
-                        .and(userMission.status.eq(UserMissionStatus.COMPLETED)))
-                .orderBy(userMission.createdAt.desc());
-
-        return getPage(query, pageable);
-    }
-
     @Override
     public List<UserMission> findByUserIdAndMissionIdAndStatusAssigned(
             Long userId,
@@ -180,15 +176,6 @@ public class UserMissionRepositoryCustomImpl implements UserMissionRepositoryCus
                 .fetch();
     }
 
-    @Override
-    public List<UserMission> findExpiredMissions(LocalDateTime now) {
-        return queryFactory
-                .selectFrom(userMission)
-                .where(userMission.status.eq(UserMissionStatus.ASSIGNED)
-                        .and(userMission.dueDate.lt(now)))
-                .fetch();
-    }
-
     @Override
     public List<UserMission> findByUserIdAndMissionIds(
             Long userId,
@@ -318,6 +305,68 @@ public class UserMissionRepositoryCustomImpl implements UserMissionRepositoryCus
         return participantCountMap;
     }
 
+    @Override
+    public List<UserMissionHistoryRow> findMissionHistorySlice(Long userId, LocalDateTime cursorAssignedAt, Long cursorId, int limit) {
+        QMissionVerification verification = QMissionVerification.missionVerification;
+        QPost verificationPost = new QPost("verificationPost");
+        DateTimeExpression<LocalDateTime> completedAt = verification.verifiedAt.coalesce(verificationPost.verifiedAt);
+
+        BooleanExpression condition = userMission.user.id.eq(userId)
+                .and(userMission.status.eq(UserMissionStatus.COMPLETED));
+        if (cursorAssignedAt != null && cursorId != null) {
+            condition = condition.and(userMission.assignedAt.lt(cursorAssignedAt)
+                    .or(userMission.assignedAt.eq(cursorAssignedAt).and(userMission.id.lt(cursorId))));
+        }
+
+        List<com.querydsl.core.Tuple> rows = queryFactory
+                .select(userMission, completedAt)
+                .from(userMission)
+                .leftJoin(userMission.mission, mission).fetchJoin()
+                .leftJoin(verification).on(verification.userMission.eq(userMission))
+                .leftJoin(verificationPost).on(verificationPost.userMission.eq(userMission)
+                        .and(verificationPost.postType.eq(PostType.VERIFICATION))
+                        .and(verificationPost.delFlag.isFalse().or(verificationPost.delFlag.isNull())))
+                .where(condition)
+                .orderBy(userMission.assignedAt.desc(), userMission.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> new UserMissionHistoryRow(row.get(userMission), row.get(completedAt)))
+                .toList();
+    }
+
+    @Override
+    public java.util.Map<Long, Boolean> findMissionCompletionByUserId(Long userId) {
+        if (userId == null) {
+            return new java.util.HashMap<>();
+        }
+
+        // 미션별로 COMPLETED 이력이 하나라도 있으면 1
+        NumberExpression<Integer> completedFlag = new CaseBuilder()
+                .when(userMission.status.eq(UserMissionStatus.COMPLETED)).then(1)
+                .otherwise(0)
+                .max();
+
+        List<com.querydsl.core.Tuple> results = queryFactory
+                .select(userMission.mission.id, completedFlag)
+                .from(userMission)
+                .where(userMission.user.id.eq(userId)
+                        .and(userMission.mission.id.isNotNull()))
+                .groupBy(userMission.mission.id)
+                .fetch();
+
+        java.util.Map<Long, Boolean> completionMap = new java.util.HashMap<>();
+        for (com.querydsl.core.Tuple tuple : results) {
+            Long missionId = tuple.get(userMission.mission.id);
+            Integer completed = tuple.get(completedFlag);
+            if (missionId != null) {
+                completionMap.put(missionId, completed != null && completed > 0);
+            }
+        }
+        return completionMap;
+    }
+
     // ========================================
     // 헬퍼 메서드
     // ========================================
@@ -0,0 +1,44 @@
+package com.app.replant.domain.usermission.service;
+
+import com.app.replant.domain.diary.entity.Diary;
+import com.app.replant.domain.meallog.entity.MealLog;
+import com.app.replant.domain.usermission.entity.UserMission;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캘린더 요약 캐시 무효화 엔티티 리스너
+ * UserMission(할당/완료/실패), Diary(작성/수정/삭제), MealLog(할당/인증) 변경 시 해당 월 캐시를 무효화
+ */
+@Component
+public class CalendarSummaryEntityListener {
+
+    private final CalendarSummaryService calendarSummaryService;
+
+    // EntityManagerFactory 초기화 중 생성되므로 순환 참조를 피하기 위해 지연 주입
+    public CalendarSummaryEntityListener(@Lazy CalendarSummaryService calendarSummaryService) {
+        this.calendarSummaryService = calendarSummaryService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof UserMission userMission) {
+            if (userMission.getUser() != null && userMission.getAssignedAt() != null) {
+                calendarSummaryService.evict(userMission.getUser().getId(), userMission.getAssignedAt().toLocalDate());
+            }
+        } else if (entity instanceof Diary diary) {
+            if (diary.getUser() != null) {
+                calendarSummaryService.evict(diary.getUser().getId(), diary.getDate());
+            }
+        } else if (entity instanceof MealLog mealLog) {
+            if (mealLog.getUser() != null) {
+                calendarSummaryService.evict(mealLog.getUser().getId(), mealLog.getMealDate());
+            }
+        }
+    }
+}
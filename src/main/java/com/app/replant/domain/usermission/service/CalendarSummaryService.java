@@ -0,0 +1,116 @@
+package com.app.replant.domain.usermission.service;
+
+import com.app.replant.domain.diary.repository.DiaryRepository;
+import com.app.replant.domain.meallog.enums.MealLogStatus;
+import com.app.replant.domain.meallog.repository.MealLogRepository;
+import com.app.replant.domain.usermission.dto.CalendarSummaryResponse;
+import com.app.replant.domain.usermission.enums.UserMissionStatus;
+import com.app.replant.domain.usermission.repository.UserMissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 월간 캘린더 요약 서비스
+ * - 미션/다이어리/식사를 날짜별로 집계한 결과를 (사용자, 월) 단위로 캐싱
+ * - 미션·다이어리·식사 기록이 바뀌면 CalendarSummaryEntityListener가 해당 월 캐시를 무효화
+ * - 엔티티 리스너를 거치지 않는 일괄 UPDATE(미션 만료 등)는 호출 측에서 영향받은 월을 직접 evict
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CalendarSummaryService {
+
+    public static final String CACHE_NAME = "calendarSummary";
+
+    private static final List<UserMissionStatus> FAILED_STATUSES =
+            List.of(UserMissionStatus.FAILED, UserMissionStatus.EXPIRED);
+
+    private final UserMissionRepository userMissionRepository;
+    private final DiaryRepository diaryRepository;
+    private final MealLogRepository mealLogRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(value = CACHE_NAME, key = "#userId + ':' + #month")
+    public CalendarSummaryResponse getMonthlySummary(Long userId, YearMonth month) {
+        LocalDate startDate = month.atDay(1);
+        LocalDate endDate = month.atEndOfMonth();
+        Map<LocalDate, CalendarSummaryResponse.DaySummary.DaySummaryBuilder> days = new TreeMap<>();
+
+        for (Object[] row : userMissionRepository.countDailyByUserId(userId,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(),
+                UserMissionStatus.COMPLETED, FAILED_STATUSES)) {
+            day(days, (LocalDate) row[0])
+                    .assignedCount(toInt(row[1]))
+                    .completedCount(toInt(row[2]))
+                    .failedCount(toInt(row[3]));
+        }
+
+        for (Object[] row : diaryRepository.findMoodByUserIdAndDateBetween(userId, startDate, endDate)) {
+            day(days, (LocalDate) row[0])
+                    .diaryEmotion((String) row[1])
+                    .diaryMood((Integer) row[2]);
+        }
+
+        for (Object[] row : mealLogRepository.countDailyByUserIdAndStatus(userId, MealLogStatus.COMPLETED, startDate, endDate)) {
+            day(days, (LocalDate) row[0])
+                    .mealsVerified(toInt(row[1]));
+        }
+
+        return CalendarSummaryResponse.builder()
+                .month(month.toString())
+                .days(days.values().stream().map(CalendarSummaryResponse.DaySummary.DaySummaryBuilder::build).toList())
+                .build();
+    }
+
+    /**
+     * 해당 날짜가 속한 월의 캘린더 요약 캐시 무효화
+     * 트랜잭션 안이면 커밋 후에 무효화하여 커밋 전 데이터로 캐시가 다시 채워지는 것을 방지
+     */
+    public void evict(Long userId, LocalDate date) {
+        if (userId == null || date == null) {
+            return;
+        }
+        String key = userId + ":" + YearMonth.from(date);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictKey(key);
+                }
+            });
+        } else {
+            evictKey(key);
+        }
+    }
+
+    private void evictKey(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("[캘린더 요약] 캐시 무효화 - key: {}", key);
+        }
+    }
+
+    private static CalendarSummaryResponse.DaySummary.DaySummaryBuilder day(
+            Map<LocalDate, CalendarSummaryResponse.DaySummary.DaySummaryBuilder> days, LocalDate date) {
+        return days.computeIfAbsent(date, d -> CalendarSummaryResponse.DaySummary.builder().date(d));
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+}
@@ -0,0 +1,209 @@
+package com.app.replant.domain.usermission.service;
+
+import com.app.replant.domain.badge.entity.UserBadge;
+import com.app.replant.domain.badge.repository.UserBadgeRepository;
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.missionset.entity.TodoListMission;
+import com.app.replant.domain.missionset.repository.TodoListMissionRepository;
+import com.app.replant.domain.missionset.repository.TodoListRepository;
+import com.app.replant.domain.missionset.service.TodoListPopularityService;
+import com.app.replant.domain.notification.enums.NotificationType;
+import com.app.replant.domain.notification.service.NotificationService;
+import com.app.replant.domain.post.entity.Post;
+import com.app.replant.domain.post.repository.PostRepository;
+import com.app.replant.domain.reant.service.ReantService;
+import com.app.replant.domain.usermission.entity.UserMission;
+import com.app.replant.domain.usermission.event.MissionCompletedEvent;
+import com.app.replant.domain.usermission.repository.MissionCompletionEffectRepository;
+import com.app.replant.domain.usermission.repository.UserMissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 미션 완료 후속 처리 핸들러
+ * - MissionCompletedEvent 커밋 이후 missionEventExecutor에서 처리 (요청 스레드는 상태 변경까지만 수행)
+ * - 처리 종류(경험치/뱃지/투두리스트/알림)마다 별도 트랜잭션에서 멱등 키를 선점한 뒤 실행
+ * - 실패하면 트랜잭션(멱등 키 포함)이 롤백되고 최대 MAX_ATTEMPTS회까지 재시도
+ */
+@Slf4j
+@Component
+public class MissionCompletionHandler {
+
+    static final String EFFECT_REWARD = "REWARD";
+    static final String EFFECT_BADGE = "BADGE";
+    static final String EFFECT_TODO_PROGRESS = "TODO_PROGRESS";
+    static final String EFFECT_NOTIFICATION = "NOTIFICATION";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200L;
+
+    private final MissionCompletionEffectRepository effectRepository;
+    private final UserMissionRepository userMissionRepository;
+    private final PostRepository postRepository;
+    private final ReantService reantService;
+    private final UserBadgeRepository userBadgeRepository;
+    private final TodoListMissionRepository todoListMissionRepository;
+    private final TodoListRepository todoListRepository;
+    private final NotificationService notificationService;
+    private final TodoListPopularityService todoListPopularityService;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public MissionCompletionHandler(MissionCompletionEffectRepository effectRepository,
+                                    UserMissionRepository userMissionRepository,
+                                    PostRepository postRepository,
+                                    ReantService reantService,
+                                    UserBadgeRepository userBadgeRepository,
+                                    TodoListMissionRepository todoListMissionRepository,
+                                    TodoListRepository todoListRepository,
+                                    NotificationService notificationService,
+                                    TodoListPopularityService todoListPopularityService,
+                                    PlatformTransactionManager transactionManager) {
+        this.effectRepository = effectRepository;
+        this.userMissionRepository = userMissionRepository;
+        this.postRepository = postRepository;
+        this.reantService = reantService;
+        this.userBadgeRepository = userBadgeRepository;
+        this.todoListMissionRepository = todoListMissionRepository;
+        this.todoListRepository = todoListRepository;
+        this.notificationService = notificationService;
+        this.todoListPopularityService = todoListPopularityService;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 경험치 지급 (커스텀 미션 제외, 인증 게시글의 completionRate에 비례)
+     */
+    @Async("missionEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void grantReward(MissionCompletedEvent event) {
+        runOnce(EFFECT_REWARD, event, userMission -> {
+            int baseExpReward = UserMissionService.baseExpReward(userMission);
+            if (baseExpReward <= 0) {
+                return;
+            }
+
+            // Post에서 completionRate 조회 (completion_rate에 따라 경험치 비례 지급, 없으면 100%)
+            Integer completionRate = postRepository.findByUserMissionId(userMission.getId())
+                    .map(Post::getCompletionRate)
+                    .orElse(null);
+            int rate = completionRate == null ? 100 : Math.max(0, Math.min(100, completionRate));
+            int actualExpReward = (int) Math.round(baseExpReward * (rate / 100.0));
+
+            reantService.grantExp(event.userId(), actualExpReward);
+            log.info("경험치 비례 지급: userMissionId={}, baseExp={}, completionRate={}%, actualExp={}",
+                    userMission.getId(), baseExpReward, rate, actualExpReward);
+        });
+    }
+
+    /**
+     * 뱃지 발급 (발급 시각 = 완료 시각)
+     */
+    @Async("missionEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void issueBadge(MissionCompletedEvent event) {
+        runOnce(EFFECT_BADGE, event, userMission -> {
+            UserBadge badge = UserBadge.builder()
+                    .user(userMission.getUser())
+                    .mission(userMission.getMission())
+                    .userMission(userMission)
+                    .issuedAt(event.completedAt())
+                    .expiresAt(UserMissionService.badgeExpiresAt(userMission, event.completedAt()))
+                    .build();
+            userBadgeRepository.save(badge);
+        });
+    }
+
+    /**
+     * 투두리스트에 포함된 미션이면 TodoListMission도 완료 처리
+     */
+    @Async("missionEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void updateTodoProgress(MissionCompletedEvent event) {
+        if (event.missionId() == null) {
+            return;
+        }
+        runOnce(EFFECT_TODO_PROGRESS, event, userMission -> {
+            // 해당 사용자의 투두리스트에서 이 미션을 찾기 (미완료 상태만), 완료 수는 원자적 UPDATE로 반영
+            List<TodoListMission> todoListMissions = todoListMissionRepository
+                    .findIncompleteByUserIdAndMissionId(event.userId(), event.missionId());
+            for (TodoListMission todoListMission : todoListMissions) {
+                if (!todoListMission.isCompletedMission()) {
+                    todoListMission.complete();
+                    todoListRepository.incrementCompletedCount(todoListMission.getTodoList().getId());
+                    todoListPopularityService.recordCompletion(
+                            todoListMission.getTodoList().getId(), todoListMission.getCompletedAt());
+                    log.info("TodoListMission 자동 완료 처리: todoListId={}, missionId={}, userId={}",
+                            todoListMission.getTodoList().getId(), event.missionId(), event.userId());
+                }
+            }
+        });
+    }
+
+    /**
+     * 커뮤니티(좋아요) 인증 완료 알림
+     */
+    @Async("missionEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void notifyVerified(MissionCompletedEvent event) {
+        if (event.verificationPostId() == null) {
+            return;
+        }
+        runOnce(EFFECT_NOTIFICATION, event, userMission -> {
+            Mission mission = userMission.getMission();
+            String title = "미션 인증이 완료되었습니다!";
+            String content = String.format("'%s' 미션 인증이 완료되어 뱃지를 획득했습니다.",
+                    mission != null ? mission.getTitle() : "미션");
+            notificationService.createAndPushNotification(
+                    userMission.getUser(),
+                    NotificationType.VERIFICATION_APPROVED,
+                    title,
+                    content,
+                    "POST",
+                    event.verificationPostId());
+        });
+    }
+
+    /**
+     * 멱등 키를 선점한 새 트랜잭션에서 처리 실행 (이미 처리된 키면 건너뜀, 실패 시 재시도)
+     */
+    private void runOnce(String effectType, MissionCompletedEvent event, Consumer<UserMission> effect) {
+        String effectKey = event.effectKey(effectType);
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                requiresNewTransaction.executeWithoutResult(status -> {
+                    if (effectRepository.insertIfAbsent(effectKey) == 0) {
+                        log.debug("[미션 완료 후속 처리] 이미 처리됨 - key: {}", effectKey);
+                        return;
+                    }
+                    userMissionRepository.findById(event.userMissionId())
+                            .ifPresentOrElse(effect,
+                                    () -> log.warn("[미션 완료 후속 처리] UserMission 없음 - key: {}", effectKey));
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("[미션 완료 후속 처리] 최종 실패 - key: {}, attempts: {}", effectKey, attempt, e);
+                    return;
+                }
+                log.warn("[미션 완료 후속 처리] 실패, 재시도 - key: {}, attempt: {}, error: {}",
+                        effectKey, attempt, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,31 +1,33 @@
 package com.app.replant.domain.usermission.service;
 
-import com.app.replant.domain.badge.entity.UserBadge;
-import com.app.replant.domain.badge.repository.UserBadgeRepository;
 import com.app.replant.domain.mission.entity.Mission;
 import com.app.replant.domain.mission.enums.MissionType;
 import com.app.replant.domain.mission.enums.VerificationType;
 import com.app.replant.domain.mission.repository.MissionRepository;
-import com.app.replant.domain.reant.repository.ReantRepository;
-import com.app.replant.domain.reant.service.ReantService;
+import com.app.replant.domain.mission.service.MissionStatsService;
 import com.app.replant.domain.user.entity.User;
 import com.app.replant.domain.user.repository.UserRepository;
-import com.app.replant.domain.post.entity.Post;
-import com.app.replant.domain.post.repository.PostRepository;
 import com.app.replant.domain.usermission.dto.*;
 import com.app.replant.domain.usermission.entity.MissionVerification;
 import com.app.replant.domain.usermission.entity.UserMission;
 import com.app.replant.domain.usermission.enums.UserMissionStatus;
+import com.app.replant.domain.usermission.event.MissionCompletedEvent;
 import com.app.replant.domain.usermission.repository.MissionVerificationRepository;
+import com.app.replant.domain.usermission.repository.UserMissionHistoryRow;
 import com.app.replant.domain.usermission.repository.UserMissionRepository;
 import com.app.replant.domain.missionset.entity.TodoListMission;
 import com.app.replant.domain.missionset.repository.TodoListMissionRepository;
 import com.app.replant.domain.missionset.repository.TodoListRepository;
+import com.app.replant.domain.missionset.service.TodoListPopularityService;
+import com.app.replant.global.common.dto.CursorResponse;
+import com.app.replant.global.common.dto.TimeIdCursor;
 import com.app.replant.global.exception.CustomException;
 import com.app.replant.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,8 +36,10 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,16 +48,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserMissionService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final UserMissionRepository userMissionRepository;
     private final MissionVerificationRepository verificationRepository;
     private final UserRepository userRepository;
     private final MissionRepository missionRepository;
-    private final UserBadgeRepository userBadgeRepository;
-    private final ReantService reantService;
-    private final ReantRepository reantRepository;
     private final TodoListMissionRepository todoListMissionRepository;
     private final TodoListRepository todoListRepository;
-    private final PostRepository postRepository;
+    private final MissionStatsService missionStatsService;
+    private final TodoListPopularityService todoListPopularityService;
+    private final CalendarSummaryService calendarSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<UserMissionResponse> getUserMissions(Long userId, Pageable pageable) {
         log.info("[나의 미션] API 요청 - userId: {}, page: {}, size: {}",
@@ -103,6 +109,7 @@ public class UserMissionService {
                 .build();
 
         UserMission saved = userMissionRepository.save(userMission);
+        missionStatsService.recordAssigned(saved);
         return UserMissionResponse.from(saved);
     }
 
@@ -126,6 +133,7 @@ public class UserMissionService {
                 .build();
 
         UserMission saved = userMissionRepository.save(userMission);
+        missionStatsService.recordAssigned(saved);
         return UserMissionResponse.from(saved);
     }
 
@@ -145,6 +153,7 @@ public class UserMissionService {
         }
         userMission.complete();
         userMissionRepository.saveAndFlush(userMission);
+        missionStatsService.recordCompleted(userMission);
 
         // 투두리스트에 포함된 같은 미션이 있으면 TodoListMission도 완료 처리 (동기화)
         if (userMission.getMission() != null) {
@@ -156,9 +165,9 @@ public class UserMissionService {
                 if (!todoListMission.isCompletedMission()) {
                     todoListMission.complete();
                     var todoList = todoListMission.getTodoList();
-                    todoList.incrementCompletedCount();
                     todoListMissionRepository.save(todoListMission);
-                    todoListRepository.save(todoList);
+                    todoListRepository.incrementCompletedCount(todoList.getId());
+                    todoListPopularityService.recordCompletion(todoList.getId(), todoListMission.getCompletedAt());
                     log.info("completeCustomMission: TodoListMission 동기화 완료 todoListId={}, missionId={}, userId={}",
                             todoList.getId(), umMissionId, umUserId);
                 }
@@ -202,6 +211,7 @@ public class UserMissionService {
         if (userMission.getStatus() == UserMissionStatus.COMPLETED) {
             userMission.updateStatus(UserMissionStatus.ASSIGNED);
             userMissionRepository.saveAndFlush(userMission);
+            missionStatsService.recordCompletionReverted(userMission);
             log.info("[커스텀 미션 인증 취소] userId: {}, missionId: {}, status: {} -> {}", 
                     userId, missionId, UserMissionStatus.COMPLETED, userMission.getStatus());
             
@@ -216,15 +226,14 @@ public class UserMissionService {
                 
                 for (TodoListMission todoListMission : completedTodoListMissions) {
                     if (todoListMission.isCompletedMission()) {
+                        LocalDateTime completedAt = todoListMission.getCompletedAt();
                         todoListMission.uncomplete();
                         
-                        // TodoList의 completedCount 감소
+                        // 변경사항 저장 + TodoList의 completedCount 원자적 감소
                         var todoList = todoListMission.getTodoList();
-                        todoList.decrementCompletedCount();
-                        
-                        // 변경사항 저장
                         todoListMissionRepository.save(todoListMission);
-                        todoListRepository.save(todoList);
+                        todoListRepository.decrementCompletedCount(todoList.getId());
+                        todoListPopularityService.recordUncompletion(todoList.getId(), completedAt);
                         
                         log.info("커스텀 미션 인증 취소로 TodoListMission 완료 취소: todoListId={}, missionId={}, userId={}", 
                                 todoList.getId(), umMissionId, umUserId);
@@ -245,89 +254,44 @@ public class UserMissionService {
 
     @Transactional
     public void completeMissionVerification(UserMission userMission) {
+        completeMission(userMission, null);
+    }
+
+    /**
+     * 커뮤니티(좋아요) 인증으로 미션 완료 - 커밋 후 인증 완료 알림까지 발송
+     */
+    @Transactional
+    public void completeMissionVerification(UserMission userMission, Long verificationPostId) {
+        completeMission(userMission, verificationPostId);
+    }
+
+    /**
+     * 미션 완료 처리 (상태 변경 + 통계 반영까지만 동기 수행)
+     * 경험치/뱃지/투두리스트 진행도/알림은 MissionCompletedEvent로 커밋 후 MissionCompletionHandler에서 처리
+     * @return 발행한 완료 이벤트 (이미 완료된 미션이면 null)
+     */
+    private MissionCompletedEvent completeMission(UserMission userMission, Long verificationPostId) {
         if (userMission.getStatus() == UserMissionStatus.COMPLETED) {
-            return;
+            return null;
         }
 
         // 미션 완료 처리
         userMission.updateStatus(UserMissionStatus.COMPLETED);
         // 명시적으로 저장하여 DB에 반영
         userMissionRepository.saveAndFlush(userMission);
+        missionStatsService.recordCompleted(userMission);
 
-        // 보상 지급 (커스텀 미션은 경험치 지급 없음)
-        int baseExpReward = getExpReward(userMission);
-
-        if (baseExpReward > 0) {  // 커스텀 미션은 0 반환
-            // Post에서 completionRate 조회 (completion_rate에 따라 경험치 비례 지급)
-            Optional<Post> postOpt = postRepository.findByUserMissionId(userMission.getId());
-            Integer completionRate = postOpt.map(Post::getCompletionRate).orElse(null);
-            
-            // completionRate가 null이면 100%로 처리 (기존 동작 유지)
-            if (completionRate == null) {
-                completionRate = 100;
-            }
-            
-            // completionRate 범위 검증 (0-100)
-            if (completionRate < 0) {
-                completionRate = 0;
-            } else if (completionRate > 100) {
-                completionRate = 100;
-            }
-            
-            // 경험치 비례 계산 (0-100% 범위)
-            int actualExpReward = (int) Math.round(baseExpReward * (completionRate / 100.0));
-            
-            // 경험치 지급 - N+1 문제 방지를 위해 user를 함께 fetch join
-            if (actualExpReward > 0) {
-                Long userId = userMission.getUser().getId();
-                reantRepository.findByUserIdWithUser(userId)
-                        .ifPresent(reant -> {
-                            reant.addExp(actualExpReward);
-                            reantRepository.save(reant);  // 변경사항 저장
-                            reantService.evictReantCache(userId);  // 캐시 무효화
-                        });
-                
-                log.info("경험치 비례 지급: userMissionId={}, baseExp={}, completionRate={}%, actualExp={}", 
-                        userMission.getId(), baseExpReward, completionRate, actualExpReward);
-            } else {
-                log.info("경험치 지급 없음: userMissionId={}, baseExp={}, completionRate={}%, actualExp=0", 
-                        userMission.getId(), baseExpReward, completionRate);
-            }
-        }
-
-        // 뱃지 발급
-        createBadge(userMission);
-
-        // 투두리스트에 포함된 미션이면 TodoListMission도 완료 처리
-        if (userMission.getMission() != null) {
-            Long missionId = userMission.getMission().getId();
-            Long userId = userMission.getUser().getId();
-            
-            // 해당 사용자의 투두리스트에서 이 미션을 찾기 (미완료 상태만)
-            List<TodoListMission> todoListMissions = todoListMissionRepository
-                    .findIncompleteByUserIdAndMissionId(userId, missionId);
-            
-            for (TodoListMission todoListMission : todoListMissions) {
-                // TodoListMission 완료 처리
-                if (!todoListMission.isCompletedMission()) {
-                    todoListMission.complete();
-                    
-                    // TodoList의 completedCount 증가
-                    var todoList = todoListMission.getTodoList();
-                    todoList.incrementCompletedCount();
-                    
-                    // 변경사항 저장
-                    todoListMissionRepository.save(todoListMission);
-                    todoListRepository.save(todoList);
-                    
-                    log.info("TodoListMission 자동 완료 처리: todoListId={}, missionId={}, userId={}", 
-                            todoList.getId(), missionId, userId);
-                }
-            }
-        }
+        MissionCompletedEvent event = new MissionCompletedEvent(
+                userMission.getId(),
+                userMission.getUser().getId(),
+                userMission.getMission() != null ? userMission.getMission().getId() : null,
+                verificationPostId,
+                LocalDateTime.now());
+        eventPublisher.publishEvent(event);
 
         log.info("Social Verification Completed: userMissionId={}, userId={}", 
                 userMission.getId(), userMission.getUser().getId());
+        return event;
     }
 
     @Transactional
@@ -354,23 +318,16 @@ public class UserMissionService {
             throw new CustomException(ErrorCode.INVALID_VERIFICATION_TYPE);
         }
 
-        // 미션 완료 처리 (투두리스트 미션 완료 처리 포함)
-        completeMissionVerification(userMission);
+        // 미션 완료 처리 (보상/뱃지/투두리스트 진행도는 커밋 후 비동기 처리)
+        MissionCompletedEvent completed = completeMission(userMission, null);
 
-        // 보상 지급 정보 조회 (이미 completeMissionVerification에서 처리됨)
-        int expReward = getExpReward(userMission);
-        
-        // 뱃지 조회 (이미 completeMissionVerification에서 발급됨)
-        UserBadge badge = userBadgeRepository.findValidBadgeForMission(
-                userId, 
-                userMission.getMission().getId(), 
-                LocalDateTime.now()
-        ).orElse(null);
+        // 보상 지급 정보 (지급 예정 경험치)
+        int expReward = baseExpReward(userMission);
 
         // 유사 유저 추천 생성 (RecommendationService 삭제로 인해 임시 비활성화)
         // TODO: 추천 시스템 재구현 시 활성화
         log.debug("유사 유저 추천 기능 비활성화됨 - userMissionId={}", userMission.getId());
-        return buildVerifyResponse(userMission, verification, expReward, badge);
+        return buildVerifyResponse(userMission, verification, expReward, completed);
     }
 
     /**
@@ -405,49 +362,32 @@ public class UserMissionService {
 
         MissionVerification verification = verifyTime(userMission, request);
 
-        // 미션 완료 처리 (투두리스트 미션 완료 처리 포함)
-        completeMissionVerification(userMission);
+        // 미션 완료 처리 (보상/뱃지/투두리스트 진행도는 커밋 후 비동기 처리)
+        MissionCompletedEvent completed = completeMission(userMission, null);
 
-        // 보상 지급 정보 조회
-        int expReward = getExpReward(userMission);
-        
-        // 뱃지 조회
-        UserBadge badge = null;
-        if (userMission.getMission() != null) {
-            badge = userBadgeRepository.findValidBadgeForMission(
-                    userId, 
-                    userMission.getMission().getId(), 
-                    LocalDateTime.now()
-            ).orElse(null);
-        }
+        // 보상 지급 정보 (지급 예정 경험치)
+        int expReward = baseExpReward(userMission);
 
-        return buildVerifyResponse(userMission, verification, expReward, badge);
+        return buildVerifyResponse(userMission, verification, expReward, completed);
     }
 
     /**
      * 미션 수행 이력 조회
      */
-    public Page<UserMissionResponse> getMissionHistory(Long userId, Pageable pageable) {
-        return userMissionRepository.findMissionHistoryByUserId(userId, pageable)
-                .map(userMission -> {
-                    // 완료 날짜 조회
-                    LocalDateTime completedAt = null;
-                    
-                    // 1. MissionVerification에서 verifiedAt 조회 (GPS/TIME 인증)
-                    MissionVerification verification = verificationRepository.findByUserMission(userMission)
-                            .orElse(null);
-                    if (verification != null) {
-                        completedAt = verification.getVerifiedAt();
-                    } else {
-                        // 2. Post에서 verifiedAt 조회 (COMMUNITY 인증)
-                        completedAt = postRepository.findByUserMissionId(userMission.getId())
-                                .map(post -> post.getVerifiedAt())
-                                .orElse(null);
-                    }
-                    
-                    // UserMissionResponse 생성 (completedAt 포함)
-                    return UserMissionResponse.from(userMission, completedAt);
-                });
+    public CursorResponse<UserMissionResponse> getMissionHistory(Long userId, String cursor, int size) {
+        TimeIdCursor after = TimeIdCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+
+        // 완료 시각(MissionVerification → 인증 게시글 순)까지 한 쿼리로 조회, size + 1개로 다음 페이지 여부 판단
+        List<UserMissionHistoryRow> rows = userMissionRepository.findMissionHistorySlice(
+                userId,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        return CursorResponse.of(rows, pageSize,
+                        row -> new TimeIdCursor(row.userMission().getAssignedAt(), row.userMission().getId()).encode())
+                .map(row -> UserMissionResponse.from(row.userMission(), row.completedAt()));
     }
 
     /**
@@ -477,6 +417,34 @@ public class UserMissionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 기한이 지난 ASSIGNED 미션을 최대 limit개 실패 처리 (만료 스케줄러에서 묶음마다 호출, 묶음당 짧은 트랜잭션)
+     * - 조회한 ID 중 아직 ASSIGNED인 것만 일괄 UPDATE (조회 이후 완료된 미션은 제외)
+     * - 일괄 UPDATE는 엔티티 리스너를 거치지 않으므로 영향받은 (사용자, 월) 캘린더 요약 캐시를 직접 무효화
+     * @return 실패 처리된 미션 수
+     */
+    @Transactional
+    public int expireOverdueMissions(LocalDateTime now, int limit) {
+        List<Object[]> rows = userMissionRepository.findExpiredMissionChunk(
+                UserMissionStatus.ASSIGNED, now, PageRequest.of(0, limit));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        int updated = userMissionRepository.updateStatusByIds(ids, UserMissionStatus.ASSIGNED, UserMissionStatus.FAILED);
+
+        Set<String> evictedMonths = new HashSet<>();
+        for (Object[] row : rows) {
+            Long userId = (Long) row[1];
+            LocalDate assignedDate = ((LocalDateTime) row[2]).toLocalDate();
+            if (evictedMonths.add(userId + ":" + YearMonth.from(assignedDate))) {
+                calendarSummaryService.evict(userId, assignedDate);
+            }
+        }
+        return updated;
+    }
+
     private MissionVerification verifyGPS(UserMission userMission, VerifyMissionRequest request) {
         if (request.getLatitude() == null || request.getLongitude() == null) {
             throw new CustomException(ErrorCode.INVALID_GPS_DATA);
@@ -542,24 +510,8 @@ public class UserMissionService {
         return verificationRepository.save(verification);
     }
 
-    private UserBadge createBadge(UserMission userMission) {
-        LocalDateTime now = LocalDateTime.now();
-        Integer badgeDurationDays = getBadgeDurationDays(userMission);
-        LocalDateTime expiresAt = now.plusDays(badgeDurationDays);
-
-        UserBadge badge = UserBadge.builder()
-                .user(userMission.getUser())
-                .mission(userMission.getMission())
-                .userMission(userMission)
-                .issuedAt(now)
-                .expiresAt(expiresAt)
-                .build();
-
-        return userBadgeRepository.save(badge);
-    }
-
     private VerifyMissionResponse buildVerifyResponse(UserMission userMission, MissionVerification verification,
-            int expReward, UserBadge badge) {
+            int expReward, MissionCompletedEvent completed) {
         VerifyMissionResponse.VerificationInfo verificationInfo = null;
 
         if (verification.getGpsLatitude() != null) {
@@ -578,9 +530,9 @@ public class UserMissionService {
                     .build();
         }
 
+        // 뱃지는 커밋 후 발급되므로 만료 예정 시각만 응답 (BadgeInfo 참고)
         VerifyMissionResponse.BadgeInfo badgeInfo = VerifyMissionResponse.BadgeInfo.builder()
-                .id(badge.getId())
-                .expiresAt(badge.getExpiresAt())
+                .expiresAt(badgeExpiresAt(userMission, completed.completedAt()))
                 .build();
 
         VerifyMissionResponse.RewardInfo rewardInfo = VerifyMissionResponse.RewardInfo.builder()
@@ -656,7 +608,10 @@ public class UserMissionService {
      * 미션 경험치 보상 계산
      * 커스텀 미션은 경험치를 지급하지 않으므로 항상 0을 반환
      */
-    private int getExpReward(UserMission userMission) {
+    /**
+     * 미션 완료 기본 경험치 (커스텀 미션은 0)
+     */
+    static int baseExpReward(UserMission userMission) {
         Mission mission = userMission.getMission();
         if (mission == null) {
             return 10;  // 기본값 (공식 미션 가정)
@@ -668,9 +623,13 @@ public class UserMissionService {
         return mission.getExpReward();
     }
 
-    private Integer getBadgeDurationDays(UserMission userMission) {
+    /**
+     * 뱃지 만료 시각 (발급 시각 + 미션별 뱃지 유지 기간, 미션이 없으면 3일)
+     */
+    static LocalDateTime badgeExpiresAt(UserMission userMission, LocalDateTime issuedAt) {
         Mission mission = userMission.getMission();
-        return mission != null ? mission.calculateBadgeDuration() : 3;
+        int badgeDurationDays = mission != null ? mission.calculateBadgeDuration() : 3;
+        return issuedAt.plusDays(badgeDurationDays);
     }
 
 
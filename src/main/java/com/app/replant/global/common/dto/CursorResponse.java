@@ -0,0 +1,75 @@
+package com.app.replant.global.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 응답 DTO
+ *
+ * 계속 늘어나는 목록(이력, 피드 등)에서 OFFSET 대신 마지막 항목의 정렬 키로 다음 페이지를 조회합니다.
+ * 다음 페이지가 없으면 nextCursor는 null 입니다.
+ *
+ * @param <T> 컨텐츠 타입
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    /**
+     * 페이지 컨텐츠
+     */
+    private List<T> content;
+
+    /**
+     * 다음 페이지 조회용 커서 (없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * size + 1개를 조회한 결과로 응답 생성 (초과분이 있으면 다음 페이지가 있는 것으로 판단)
+     *
+     * @param fetched size + 1개까지 조회한 목록
+     * @param size 페이지 크기
+     * @param cursorOf 항목에서 커서를 만드는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return CursorResponse.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 컨텐츠 타입 변환 (커서/다음 페이지 정보 유지)
+     */
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return CursorResponse.<R>builder()
+                .content(content.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+}
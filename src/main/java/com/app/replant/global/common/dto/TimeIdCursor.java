@@ -0,0 +1,40 @@
+package com.app.replant.global.common.dto;
+
+import com.app.replant.global.exception.CustomException;
+import com.app.replant.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) 복합 정렬 키 커서
+ * 시각이 같은 행은 id로 구분하며, 클라이언트에는 불투명한 문자열(Base64 URL)로 전달합니다.
+ */
+public record TimeIdCursor(LocalDateTime time, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지로 보고 null 반환)
+     */
+    public static TimeIdCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TimeIdCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
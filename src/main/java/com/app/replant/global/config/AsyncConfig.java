@@ -0,0 +1,54 @@
+package com.app.replant.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 실행 설정
+ * 트랜잭션 커밋 이후 도메인 이벤트 후속 처리를 요청 스레드와 분리하여 실행
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 미션 완료 후속 처리 실행기
+     * - 스레드 2~4개, 대기 큐 1000
+     * - 큐가 가득 차면 호출 스레드에서 실행 (이벤트 유실 방지)
+     */
+    @Bean(name = "missionEventExecutor")
+    public TaskExecutor missionEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("mission-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알림 전송 실행기 (스케줄러 등 다건 알림의 SSE/FCM 전송)
+     * - 스레드 2~4개, 대기 큐 1000
+     * - 큐가 가득 차면 호출 스레드에서 실행 (알림 유실 방지)
+     */
+    @Bean(name = "notificationPushExecutor")
+    public TaskExecutor notificationPushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-push-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
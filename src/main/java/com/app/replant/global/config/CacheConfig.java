@@ -1,19 +1,29 @@
 package com.app.replant.global.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * 캐시 설정
  * - userDetails: UserDetailService의 loadUserByUsername 메서드 결과 캐싱 (30분 TTL)
  * - reant: ReantService의 getMyReant 메서드 결과 캐싱 (1분 TTL - 자주 변경될 수 있음)
  * - reantStatus: ReantService의 getReantStatus 메서드 결과 캐싱 (1분 TTL)
+ * - calendarSummary: CalendarSummaryService의 월간 캘린더 요약 캐싱 (Caffeine, 10분 TTL)
+ *   쓰기 경로에서 무효화되며, TTL은 스케줄러 일괄 UPDATE처럼 무효화를 거치지 않는 변경의 최대 지연 시간
+ * - postFeed / todoListFeed: PublicFeedCache의 공개 피드 앞쪽 페이지 캐싱 (Caffeine, 30초 TTL)
+ *   게시글/투두리스트 변경 이벤트로 무효화되며, 좋아요 수·진행률 변경은 TTL 이내에 반영
  * 
- * 참고: Caffeine이 사용 불가능한 경우 Spring의 기본 ConcurrentMapCacheManager 사용
- * Caffeine을 사용하려면 build.gradle에 'com.github.ben-manes.caffeine:caffeine' 의존성 추가 필요
+ * 참고: userDetails / reant / reantStatus는 Spring의 기본 ConcurrentMapCache 사용
+ * TTL/최대 크기가 필요한 캐시는 CaffeineCache로 등록
  */
 @Configuration
 @EnableCaching
@@ -21,13 +31,24 @@ public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager() {
-        // Spring의 기본 인메모리 캐시 사용
-        // Caffeine이 필요하면 CaffeineCacheManager로 변경 가능
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
-                "userDetails",  // UserDetail 캐시
-                "reant",        // Reant 조회 캐시
-                "reantStatus"   // Reant 상태 캐시
-        );
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new ConcurrentMapCache("userDetails"),  // UserDetail 캐시
+                new ConcurrentMapCache("reant"),        // Reant 조회 캐시
+                new ConcurrentMapCache("reantStatus"),  // Reant 상태 캐시
+                new CaffeineCache("calendarSummary", Caffeine.newBuilder()  // 월간 캘린더 요약 캐시
+                        .expireAfterWrite(Duration.ofMinutes(10))
+                        .maximumSize(10_000)
+                        .build()),
+                new CaffeineCache("postFeed", Caffeine.newBuilder()  // 공개 게시글 피드 캐시
+                        .expireAfterWrite(Duration.ofSeconds(30))
+                        .maximumSize(1_000)
+                        .build()),
+                new CaffeineCache("todoListFeed", Caffeine.newBuilder()  // 공개 투두리스트 피드 캐시
+                        .expireAfterWrite(Duration.ofSeconds(30))
+                        .maximumSize(1_000)
+                        .build())
+        ));
         return cacheManager;
     }
 }
@@ -0,0 +1,80 @@
+package com.app.replant.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * pooled ID 할당 테이블 초기화 (EntityManagerFactory 생성 전 실행)
+ * - user_mission, notification, chat_log, todolist_mission, meal_log 는 IDENTITY 대신 hibernate_sequences 에서 50개 단위로 ID 할당
+ * - 각 세그먼트 시작값을 기존 최대 ID + 할당 크기 이후로 올림 (이미 더 크면 유지, 매 기동 시 재실행해도 안전)
+ * - secondaryEntityManagerFactory가 이 Bean에 의존하므로, Hibernate가 초기값(1)으로 행을 만들거나
+ *   요청/스케줄러가 ID를 할당하기 전에 채워짐 (CommandLineRunner인 ManualMigrationRunner는 기동 완료 후 실행되어 늦음)
+ */
+@Slf4j
+@Component("idSequenceInitializer")
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    /** @TableGenerator(allocationSize)와 일치 */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /** hibernate_sequences의 sequence_name = 테이블명 (@TableGenerator pkColumnValue) */
+    private static final String[] POOLED_TABLES = {"user_mission", "notification", "chat_log", "todolist_mission", "meal_log"};
+
+    @Qualifier("secondaryDataSource")
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info("=== pooled ID 할당 테이블 초기화 시작 ===");
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            if (!tableExists(conn, "hibernate_sequences")) {
+                stmt.execute(
+                    "CREATE TABLE `hibernate_sequences` (" +
+                    "`sequence_name` VARCHAR(255) NOT NULL, " +
+                    "`next_val` BIGINT NULL, " +
+                    "PRIMARY KEY (`sequence_name`))"
+                );
+            }
+
+            // 신규 DB처럼 테이블이 아직 없으면 기존 ID도 없으므로 Hibernate 초기값으로 충분
+            for (String table : POOLED_TABLES) {
+                if (!tableExists(conn, table)) {
+                    continue;
+                }
+                stmt.executeUpdate(
+                    "INSERT INTO `hibernate_sequences` (`sequence_name`, `next_val`) " +
+                    "SELECT '" + table + "', COALESCE(MAX(`id`), 0) + 1 + " + ALLOCATION_SIZE + " FROM `" + table + "` " +
+                    "ON DUPLICATE KEY UPDATE `next_val` = GREATEST(COALESCE(`next_val`, 0), VALUES(`next_val`))"
+                );
+            }
+
+            log.info("=== pooled ID 할당 테이블 초기화 완료 ===");
+        } catch (Exception e) {
+            log.error("pooled ID 할당 테이블 초기화 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean tableExists(Connection conn, String tableName) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?")) {
+            ps.setString(1, tableName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+}
@@ -24,6 +24,13 @@ import java.sql.Statement;
 @RequiredArgsConstructor
 public class ManualMigrationRunner implements CommandLineRunner {
 
+    /** 1회성 데이터 보정 기록 이름 (manual_migration_history.name) */
+    private static final String V43_POST_COUNTER_BACKFILL = "V43_post_counter_backfill";
+    private static final String V52_CHAT_ACTIVITY_BACKFILL = "V52_chat_activity_backfill";
+
+    /** 대량 UPDATE를 나눠 실행하는 id 구간 크기 */
+    private static final int BACKFILL_ID_RANGE = 1000;
+
     @Qualifier("secondaryDataSource")
     private final DataSource dataSource;
 
@@ -230,6 +237,79 @@ public class ManualMigrationRunner implements CommandLineRunner {
             executeV40Migration(conn);
             log.info("V40 마이그레이션 완료");
 
+            // V41: mission_stats / mission_participant 테이블 생성 및 초기 집계 (미션 통계 증분 갱신)
+            log.info("V41 마이그레이션 실행 중: 미션 통계 테이블 생성...");
+            executeV41Migration(conn);
+            log.info("V41 마이그레이션 완료");
+
+            // V42: reant 배고픔/기분 기준 시각 컬럼 추가 (조회 시 경과 시간으로 계산)
+            log.info("V42 마이그레이션 실행 중: reant fed_at / status_updated_at 컬럼 추가...");
+            executeV42Migration(conn);
+            log.info("V42 마이그레이션 완료");
+
+            // V43: post 좋아요/댓글 수 비정규화 카운터
+            log.info("V43 마이그레이션 실행 중: post like_count / comment_count 컬럼 추가...");
+            executeV43Migration(conn);
+            log.info("V43 마이그레이션 완료");
+
+            // V44: post del_flag NOT NULL
+            log.info("V44 마이그레이션 실행 중: post.del_flag NOT NULL 변경...");
+            executeV44Migration(conn);
+            log.info("V44 마이그레이션 완료");
+
+            // V45: comment 스레드 최상위 댓글 ID + 커서 조회 인덱스
+            log.info("V45 마이그레이션 실행 중: comment root_id 컬럼 추가...");
+            executeV45Migration(conn);
+            log.info("V45 마이그레이션 완료");
+
+            // V46: 투두리스트 선택용 커스텀 미션 커서 조회 인덱스
+            log.info("V46 마이그레이션 실행 중: mission 선택 가능 미션 인덱스 추가...");
+            executeV46Migration(conn);
+            log.info("V46 마이그레이션 완료");
+
+            // V47: pooled ID 할당 테이블 (배치 INSERT용)은 EntityManagerFactory 생성 전에 채워야 하므로
+            // IdSequenceInitializer에서 처리 (이 실행기는 기동 완료 후 실행됨)
+
+            // V48: 완료 기준에 도달했지만 ACTIVE로 남은 투두리스트 정리
+            log.info("V48 마이그레이션 실행 중: todolist 완료 상태 보정...");
+            executeV48Migration(conn);
+            log.info("V48 마이그레이션 완료");
+
+            // V49: 기상 시간 분 단위 정수 컬럼 + 인덱스 (돌발 미션 스케줄러 분 단위 조회)
+            log.info("V49 마이그레이션 실행 중: user.wake_minute 추가...");
+            executeV49Migration(conn);
+            log.info("V49 마이그레이션 완료");
+
+            // V50: 식사 시간 분 단위 컬럼 + 인덱스 (식사 미션 스케줄러)
+            log.info("V50 마이그레이션 실행 중: user 식사 시간 분 컬럼 추가...");
+            executeV50Migration(conn);
+            log.info("V50 마이그레이션 완료");
+
+            // V51: 미션 만료 스케줄러 묶음 조회 인덱스
+            log.info("V51 마이그레이션 실행 중: user_mission (status, due_date) 인덱스 추가...");
+            executeV51Migration(conn);
+            log.info("V51 마이그레이션 완료");
+
+            // V52: 사용자별 채팅 활동 요약 (선제 메시지 대상 조회용)
+            log.info("V52 마이그레이션 실행 중: chat_activity 초기 집계...");
+            executeV52Migration(conn);
+            log.info("V52 마이그레이션 완료");
+
+            // V53: post 피드 인덱스 재구성 (항상 참인 post_type 선두 컬럼 제거)
+            log.info("V53 마이그레이션 실행 중: post 공개 피드 인덱스 교체...");
+            executeV53Migration(conn);
+            log.info("V53 마이그레이션 완료");
+
+            // V54: 선제 메시지 대상 키셋 조회 인덱스 (정렬 키 + user_id)
+            log.info("V54 마이그레이션 실행 중: 선제 메시지 대상 조회 인덱스 교체...");
+            executeV54Migration(conn);
+            log.info("V54 마이그레이션 완료");
+
+            // V55: 미션 완료 후속 처리 멱등 키 테이블
+            log.info("V55 마이그레이션 실행 중: mission_completion_effect 테이블 생성...");
+            executeV55Migration(conn);
+            log.info("V55 마이그레이션 완료");
+
         } catch (Exception e) {
             log.error("마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
         }
@@ -310,6 +390,47 @@ public class ManualMigrationRunner implements CommandLineRunner {
         return false;
     }
 
+    private boolean columnNullable(Statement stmt, String tableName, String columnName) {
+        if (!isValidSqlIdentifier(tableName) || !isValidSqlIdentifier(columnName)) {
+            return false;
+        }
+        try {
+            ResultSet rs = stmt.executeQuery(
+                "SELECT IS_NULLABLE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + tableName + "' " +
+                "AND COLUMN_NAME = '" + columnName + "'"
+            );
+            if (rs.next()) {
+                return "YES".equals(rs.getString(1));
+            }
+        } catch (Exception e) {
+            log.warn("컬럼 NULL 허용 여부 확인 실패: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 1회성 데이터 보정 완료 여부 (manual_migration_history에 기록된 이름인지)
+     * 컬럼/테이블은 ddl-auto가 먼저 만들어 존재 여부로 판단할 수 없으므로 별도 기록 사용
+     */
+    private boolean migrationApplied(Statement stmt, String name) throws SQLException {
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS `manual_migration_history` (" +
+            "`name` VARCHAR(100) NOT NULL, " +
+            "`applied_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (`name`)" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+        );
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT COUNT(*) FROM `manual_migration_history` WHERE `name` = '" + name + "'")) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    private void markMigrationApplied(Statement stmt, String name) throws SQLException {
+        stmt.execute("INSERT IGNORE INTO `manual_migration_history` (`name`) VALUES ('" + name + "')");
+    }
+
     private String getAlterTableSqlForColumn(String tableName, String columnName) {
         // 컬럼 타입 정의 (위치 지정 없이 추가 - 더 안전함)
         switch (columnName) {
@@ -1462,4 +1583,461 @@ public class ManualMigrationRunner implements CommandLineRunner {
             // 컬럼 변경 실패는 치명적이지 않으므로 예외를 던지지 않음
         }
     }
+
+    /**
+     * V41 마이그레이션: 미션 통계 테이블 생성
+     * - mission_participant: 미션별 참여 사용자 고유 집합 (참여자 수 증분 갱신용)
+     * - mission_stats: 미션별 참여자/리뷰/완료 수
+     * 기존 데이터 기준 집계를 매 기동 시 병합 (재실행해도 안전)
+     */
+    private void executeV41Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "mission_participant")) {
+                stmt.execute(
+                    "CREATE TABLE `mission_participant` (" +
+                    "`mission_id` BIGINT NOT NULL, " +
+                    "`user_id` BIGINT NOT NULL, " +
+                    "`created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                    "PRIMARY KEY (`mission_id`, `user_id`)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("V41 마이그레이션: mission_participant 테이블 생성 완료");
+            }
+
+            // 참여 사용자 집합 보충 (이미 있는 쌍은 INSERT IGNORE로 건너뜀)
+            executeIgnore(stmt,
+                "INSERT IGNORE INTO `mission_participant` (`mission_id`, `user_id`, `created_at`) " +
+                "SELECT DISTINCT `mission_id`, `user_id`, NOW() FROM `user_mission` WHERE `mission_id` IS NOT NULL"
+            );
+
+            if (!tableExists(stmt, "mission_stats")) {
+                stmt.execute(
+                    "CREATE TABLE `mission_stats` (" +
+                    "`mission_id` BIGINT NOT NULL, " +
+                    "`participant_count` BIGINT NOT NULL DEFAULT 0, " +
+                    "`review_count` BIGINT NOT NULL DEFAULT 0, " +
+                    "`completion_count` BIGINT NOT NULL DEFAULT 0, " +
+                    "`updated_at` DATETIME NULL, " +
+                    "PRIMARY KEY (`mission_id`)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("V41 마이그레이션: mission_stats 테이블 생성 완료");
+            }
+
+            // 기존 데이터 기준 집계를 매 기동 시 병합 (먼저 생긴 통계 행이 있어도 누락 미션 보충)
+            // 실행 중 증분 갱신과 겹쳐도 줄어들지 않도록 더 큰 값 유지
+            executeIgnore(stmt,
+                "INSERT INTO `mission_stats` (`mission_id`, `participant_count`, `review_count`, `completion_count`, `updated_at`) " +
+                "SELECT m.`id`, " +
+                "(SELECT COUNT(*) FROM `mission_participant` mp WHERE mp.`mission_id` = m.`id`), " +
+                "(SELECT COUNT(*) FROM `mission_review` mr WHERE mr.`mission_id` = m.`id`), " +
+                "(SELECT COUNT(*) FROM `user_mission` um WHERE um.`mission_id` = m.`id` AND um.`status` = 'COMPLETED'), " +
+                "NOW() FROM `mission` m " +
+                "ON DUPLICATE KEY UPDATE " +
+                "`participant_count` = GREATEST(`participant_count`, VALUES(`participant_count`)), " +
+                "`review_count` = GREATEST(`review_count`, VALUES(`review_count`)), " +
+                "`completion_count` = GREATEST(`completion_count`, VALUES(`completion_count`)), " +
+                "`updated_at` = VALUES(`updated_at`)"
+            );
+            log.info("V41 마이그레이션: mission_stats 집계 병합 완료");
+        } catch (Exception e) {
+            log.error("V41 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+            // 통계는 재동기화 스케줄러가 보정하므로 치명적이지 않음
+        }
+    }
+
+    /**
+     * V42 마이그레이션: reant 배고픔/기분 기준 시각
+     * - fed_at: 배고픔 0 기준 시각 (기존 hunger 값만큼 과거로 역산, 시간당 5 증가 = 1당 12분)
+     * - status_updated_at: 기분/건강 값 반영 시각
+     */
+    private void executeV42Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!columnExists(stmt, "reant", "fed_at")) {
+                stmt.execute("ALTER TABLE `reant` ADD COLUMN `fed_at` DATETIME(6) NULL");
+            }
+            if (!columnExists(stmt, "reant", "status_updated_at")) {
+                stmt.execute("ALTER TABLE `reant` ADD COLUMN `status_updated_at` DATETIME(6) NULL");
+            }
+            executeIgnore(stmt,
+                "UPDATE `reant` SET `fed_at` = NOW() - INTERVAL (`hunger` * 12) MINUTE WHERE `fed_at` IS NULL"
+            );
+            executeIgnore(stmt,
+                "UPDATE `reant` SET `status_updated_at` = NOW() WHERE `status_updated_at` IS NULL"
+            );
+            // 선제 메시지 대상 조회 인덱스는 V54에서 생성
+            log.info("V42 마이그레이션: reant 기준 시각 컬럼 준비 완료");
+        } catch (Exception e) {
+            log.error("V42 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+            // 기준 시각이 없으면 엔티티에서 hunger 값으로 역산하므로 치명적이지 않음
+        }
+    }
+
+    /**
+     * V43 마이그레이션: post 좋아요/댓글 수 비정규화 카운터
+     * - 컬럼은 ddl-auto가 먼저 추가하므로 존재 여부와 무관하게, 보정 기록이 없으면 post_like / comment 원본으로 1회 채움
+     * - id 구간 단위로 나눠 갱신 (이후는 원자적 증감 + 야간 재동기화)
+     */
+    private void executeV43Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!columnExists(stmt, "post", "like_count")) {
+                stmt.execute("ALTER TABLE `post` ADD COLUMN `like_count` INT NOT NULL DEFAULT 0");
+            }
+            if (!columnExists(stmt, "post", "comment_count")) {
+                stmt.execute("ALTER TABLE `post` ADD COLUMN `comment_count` INT NOT NULL DEFAULT 0");
+            }
+            if (migrationApplied(stmt, V43_POST_COUNTER_BACKFILL)) {
+                log.info("V43 마이그레이션: post 카운터 초기 집계 스킵 (이미 적용됨)");
+                return;
+            }
+
+            long maxId = 0;
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(`id`), 0) FROM `post`")) {
+                if (rs.next()) {
+                    maxId = rs.getLong(1);
+                }
+            }
+            for (long fromId = 1; fromId <= maxId; fromId += BACKFILL_ID_RANGE) {
+                stmt.executeUpdate(
+                    "UPDATE `post` p SET " +
+                    "p.`like_count` = (SELECT COUNT(*) FROM `post_like` pl WHERE pl.`post_id` = p.`id`), " +
+                    "p.`comment_count` = (SELECT COUNT(*) FROM `comment` c WHERE c.`post_id` = p.`id` AND c.`deleted_at` IS NULL) " +
+                    "WHERE p.`id` BETWEEN " + fromId + " AND " + (fromId + BACKFILL_ID_RANGE - 1)
+                );
+            }
+            markMigrationApplied(stmt, V43_POST_COUNTER_BACKFILL);
+            log.info("V43 마이그레이션: post 카운터 초기 집계 완료 (최대 id: {})", maxId);
+        } catch (Exception e) {
+            log.error("V43 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+            // 보정 기록이 남지 않아 다음 기동 시 다시 집계, 그 사이 오차는 재동기화 스케줄러가 보정
+        }
+    }
+
+    /**
+     * V44 마이그레이션: post del_flag NOT NULL
+     * - del_flag NULL 정리 후 NOT NULL 강제 (조회 조건에서 OR del_flag IS NULL 제거)
+     * - 피드 커서 인덱스는 V53의 idx_post_public_feed 사용
+     */
+    private void executeV44Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (columnNullable(stmt, "post", "del_flag")) {
+                executeIgnore(stmt, "UPDATE `post` SET `del_flag` = FALSE WHERE `del_flag` IS NULL");
+                stmt.execute("ALTER TABLE `post` MODIFY COLUMN `del_flag` BOOLEAN NOT NULL DEFAULT FALSE");
+                log.info("V44 마이그레이션: post.del_flag NOT NULL 변경 완료");
+            }
+        } catch (Exception e) {
+            log.error("V44 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V45 마이그레이션: comment 스레드 최상위 댓글 ID
+     * - root_id: 답글이 속한 최상위 댓글 (최상위 댓글은 NULL)
+     * - 기존 답글은 부모 → 조부모 순으로 깊이만큼 반복해서 채움 (더 이상 갱신되는 행이 없을 때까지)
+     * - 최상위 댓글 커서 조회 (post_id, parent_id, created_at, id), 스레드 답글 조회 (root_id, created_at, id) 인덱스
+     */
+    private void executeV45Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!columnExists(stmt, "comment", "root_id")) {
+                stmt.execute("ALTER TABLE `comment` ADD COLUMN `root_id` BIGINT NULL");
+            }
+            // 1단계: 부모가 최상위 댓글인 답글
+            stmt.executeUpdate(
+                "UPDATE `comment` c JOIN `comment` p ON c.`parent_id` = p.`id` " +
+                "SET c.`root_id` = p.`id` " +
+                "WHERE c.`root_id` IS NULL AND p.`parent_id` IS NULL"
+            );
+            // 2단계 이후: 부모의 root_id를 물려받음 (답글 깊이만큼 반복)
+            for (int depth = 0; depth < 20; depth++) {
+                int updated = stmt.executeUpdate(
+                    "UPDATE `comment` c JOIN `comment` p ON c.`parent_id` = p.`id` " +
+                    "SET c.`root_id` = p.`root_id` " +
+                    "WHERE c.`root_id` IS NULL AND p.`root_id` IS NOT NULL"
+                );
+                if (updated == 0) {
+                    break;
+                }
+            }
+            if (!indexExists(stmt, "comment", "idx_comment_post_parent_created")) {
+                executeIgnore(stmt,
+                    "CREATE INDEX `idx_comment_post_parent_created` ON `comment` (`post_id`, `parent_id`, `created_at`, `id`)"
+                );
+            }
+            if (!indexExists(stmt, "comment", "idx_comment_root_created")) {
+                executeIgnore(stmt,
+                    "CREATE INDEX `idx_comment_root_created` ON `comment` (`root_id`, `created_at`, `id`)"
+                );
+            }
+            log.info("V45 마이그레이션: comment root_id 및 인덱스 준비 완료");
+        } catch (Exception e) {
+            log.error("V45 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V46 마이그레이션: 투두리스트 선택용 커스텀 미션 커서 조회 인덱스
+     * - 본인 미션: (creator_id, mission_type, is_active, created_at, id)
+     * - 다른 사람의 공개 미션: (mission_type, is_public, is_active, created_at, id)
+     */
+    private void executeV46Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!indexExists(stmt, "mission", "idx_mission_creator_selectable")) {
+                executeIgnore(stmt,
+                    "CREATE INDEX `idx_mission_creator_selectable` ON `mission` " +
+                    "(`creator_id`, `mission_type`, `is_active`, `created_at`, `id`)"
+                );
+            }
+            if (!indexExists(stmt, "mission", "idx_mission_public_selectable")) {
+                executeIgnore(stmt,
+                    "CREATE INDEX `idx_mission_public_selectable` ON `mission` " +
+                    "(`mission_type`, `is_public`, `is_active`, `created_at`, `id`)"
+                );
+            }
+            log.info("V46 마이그레이션: mission 선택 가능 미션 인덱스 준비 완료");
+        } catch (Exception e) {
+            log.error("V46 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V48 마이그레이션: 투두리스트 완료 상태 보정
+     * - 완료 수 증가 UPDATE가 같은 문장에서 COMPLETED 전환을 하므로 매시간 스캔을 제거함
+     * - 제거 이전 데이터 중 진행률 80% 이상인데 ACTIVE로 남은 투두리스트를 한 번 정리
+     */
+    private void executeV48Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "todolist")) {
+                return;
+            }
+            int updated = stmt.executeUpdate(
+                "UPDATE `todolist` SET `todolist_status` = 'COMPLETED' " +
+                "WHERE `todolist_status` = 'ACTIVE' AND `set_type` = 'TODOLIST' AND `total_count` > 0 " +
+                "AND ROUND(COALESCE(`completed_count`, 0) * 100 / `total_count`) >= 80"
+            );
+            log.info("V48 마이그레이션: 완료 처리된 투두리스트 {}개", updated);
+        } catch (Exception e) {
+            log.error("V48 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V49 마이그레이션: 기상 시간 분 단위(자정 기준) 정수 컬럼
+     * - 문자열 wake_time 전체 비교 대신 wake_minute 인덱스로 해당 분의 사용자만 조회
+     * - 기존 "H:mm" 값은 "HH:mm"으로 정규화 후 wake_minute 백필
+     */
+    private void executeV49Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "user")) {
+                return;
+            }
+            if (!columnExists(stmt, "user", "wake_minute")) {
+                stmt.execute("ALTER TABLE `user` ADD COLUMN `wake_minute` INT NULL");
+            }
+            executeIgnore(stmt,
+                "UPDATE `user` SET `wake_time` = LPAD(`wake_time`, 5, '0') " +
+                "WHERE `wake_time` REGEXP '^[0-9]:[0-9]{2}$'"
+            );
+            int updated = stmt.executeUpdate(
+                "UPDATE `user` SET `wake_minute` = " +
+                "CAST(SUBSTRING_INDEX(`wake_time`, ':', 1) AS UNSIGNED) * 60 + " +
+                "CAST(SUBSTRING_INDEX(`wake_time`, ':', -1) AS UNSIGNED) " +
+                "WHERE `wake_minute` IS NULL AND `wake_time` REGEXP '^[0-9]{1,2}:[0-9]{1,2}$' " +
+                "AND CAST(SUBSTRING_INDEX(`wake_time`, ':', 1) AS UNSIGNED) < 24 " +
+                "AND CAST(SUBSTRING_INDEX(`wake_time`, ':', -1) AS UNSIGNED) < 60"
+            );
+            log.info("V49 마이그레이션: wake_minute 백필 {}명", updated);
+            if (!indexExists(stmt, "user", "idx_user_wake_minute")) {
+                stmt.execute("CREATE INDEX `idx_user_wake_minute` ON `user` (`wake_minute`)");
+            }
+        } catch (Exception e) {
+            log.error("V49 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V50 마이그레이션: 식사 미션 스케줄러 준비
+     * - 식사 시간의 자정 기준 분 컬럼(breakfast/lunch/dinner_minute)과 인덱스 추가, 기존 "HH:mm" 값 백필
+     * - meal_log pooled ID 시작값은 스케줄러가 INSERT하기 전에 채워야 하므로 IdSequenceInitializer에서 설정
+     */
+    private void executeV50Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (tableExists(stmt, "user")) {
+                for (String meal : new String[]{"breakfast", "lunch", "dinner"}) {
+                    String timeColumn = meal + "_time";
+                    String minuteColumn = meal + "_minute";
+                    if (!columnExists(stmt, "user", minuteColumn)) {
+                        stmt.execute("ALTER TABLE `user` ADD COLUMN `" + minuteColumn + "` INT NULL");
+                    }
+                    if (columnExists(stmt, "user", timeColumn)) {
+                        stmt.executeUpdate(
+                            "UPDATE `user` SET `" + minuteColumn + "` = " +
+                            "CAST(SUBSTRING_INDEX(`" + timeColumn + "`, ':', 1) AS UNSIGNED) * 60 + " +
+                            "CAST(SUBSTRING_INDEX(`" + timeColumn + "`, ':', -1) AS UNSIGNED) " +
+                            "WHERE `" + minuteColumn + "` IS NULL " +
+                            "AND `" + timeColumn + "` REGEXP '^([0-1][0-9]|2[0-3]):[0-5][0-9]$'"
+                        );
+                    }
+                    String indexName = "idx_user_" + minuteColumn;
+                    if (!indexExists(stmt, "user", indexName)) {
+                        stmt.execute("CREATE INDEX `" + indexName + "` ON `user` (`" + minuteColumn + "`)");
+                    }
+                }
+            }
+            log.info("V50 마이그레이션: 식사 시간 분 컬럼 준비 완료");
+        } catch (Exception e) {
+            log.error("V50 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V51 마이그레이션: 미션 만료 처리용 인덱스
+     * - status = 'ASSIGNED' AND due_date < now 묶음 조회가 전체 스캔 없이 기한 순으로 읽도록 함
+     */
+    private void executeV51Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "user_mission")) {
+                return;
+            }
+            if (!indexExists(stmt, "user_mission", "idx_user_mission_status_due")) {
+                stmt.execute("CREATE INDEX `idx_user_mission_status_due` ON `user_mission` (`status`, `due_date`)");
+                log.info("V51 마이그레이션: idx_user_mission_status_due 생성");
+            }
+        } catch (Exception e) {
+            log.error("V51 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V52 마이그레이션: 사용자별 채팅 활동 요약 초기 집계
+     * - chat_activity 테이블은 ddl-auto가 ChatActivity 엔티티로 생성 (조회 인덱스는 V54)
+     * - 보정 기록이 없을 때만 chat_log 기준 집계를 UPSERT로 1회 병합, 이후는 채팅 저장 시 갱신
+     */
+    private void executeV52Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "chat_activity") || !tableExists(stmt, "chat_log")) {
+                return;
+            }
+            if (migrationApplied(stmt, V52_CHAT_ACTIVITY_BACKFILL)) {
+                log.info("V52 마이그레이션: chat_activity 초기 집계 스킵 (이미 적용됨)");
+                return;
+            }
+
+            // 먼저 생긴 요약 행이 있어도 누락 사용자 보충, 시각은 더 최근 값 유지
+            // MySQL은 SET 절을 왼쪽부터 적용하므로 proactive_count가 proactive_date 갱신 전 값을 비교
+            stmt.executeUpdate(
+                "INSERT INTO `chat_activity` " +
+                "(`user_id`, `last_chat_at`, `last_proactive_at`, `proactive_date`, `proactive_count`) " +
+                "SELECT c.`user_id`, MAX(c.`created_at`), " +
+                "MAX(CASE WHEN c.`is_proactive` THEN c.`created_at` END), " +
+                "CURDATE(), " +
+                "SUM(CASE WHEN c.`is_proactive` AND c.`created_at` >= CURDATE() THEN 1 ELSE 0 END) " +
+                "FROM `chat_log` c GROUP BY c.`user_id` " +
+                "ON DUPLICATE KEY UPDATE " +
+                "`last_chat_at` = GREATEST(`last_chat_at`, VALUES(`last_chat_at`)), " +
+                "`last_proactive_at` = IF(`last_proactive_at` IS NULL OR `last_proactive_at` < VALUES(`last_proactive_at`), " +
+                "VALUES(`last_proactive_at`), `last_proactive_at`), " +
+                "`proactive_count` = IF(`proactive_date` = CURDATE(), " +
+                "GREATEST(`proactive_count`, VALUES(`proactive_count`)), VALUES(`proactive_count`)), " +
+                "`proactive_date` = CURDATE()"
+            );
+            markMigrationApplied(stmt, V52_CHAT_ACTIVITY_BACKFILL);
+            log.info("V52 마이그레이션: chat_activity 초기 집계 병합 완료");
+        } catch (Exception e) {
+            log.error("V52 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V53 마이그레이션: post 공개 피드 인덱스 교체
+     * - post_type IN (GENERAL, VERIFICATION)은 모든 값이라 조건에서 제거, 선두 범위 컬럼 때문에 정렬을 인덱스로 못 하던 문제 해결
+     * - idx_post_public_feed (del_flag, is_public, created_at, id): 공개글을 (created_at, id) 순서로 바로 읽음
+     * - 내 비공개글은 idx_post_user_id로 별도 조회 후 병합
+     */
+    private void executeV53Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "post")) {
+                return;
+            }
+            if (!indexExists(stmt, "post", "idx_post_public_feed")) {
+                stmt.execute(
+                    "CREATE INDEX `idx_post_public_feed` ON `post` (`del_flag`, `is_public`, `created_at`, `id`)"
+                );
+                log.info("V53 마이그레이션: idx_post_public_feed 생성");
+            }
+            if (indexExists(stmt, "post", "idx_post_feed")) {
+                executeIgnore(stmt, "DROP INDEX `idx_post_feed` ON `post`");
+                log.info("V53 마이그레이션: idx_post_feed 삭제");
+            }
+        } catch (Exception e) {
+            log.error("V53 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V54 마이그레이션: 선제 메시지 대상 키셋 조회 인덱스
+     * - 조건별 후보를 (정렬 키, user_id) 순서로 LIMIT까지만 읽도록 user_id를 인덱스에 포함
+     *   (reant의 PK는 id라 user_id가 보조 인덱스에 붙지 않음)
+     * - 선두 컬럼이 같은 단일 컬럼 인덱스는 새 인덱스로 대체되므로 삭제
+     */
+    private void executeV54Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (tableExists(stmt, "reant")) {
+                if (!indexExists(stmt, "reant", "idx_reant_fed_at_user")) {
+                    stmt.execute("CREATE INDEX `idx_reant_fed_at_user` ON `reant` (`fed_at`, `user_id`)");
+                    log.info("V54 마이그레이션: idx_reant_fed_at_user 생성");
+                }
+                if (!indexExists(stmt, "reant", "idx_reant_mood_user")) {
+                    stmt.execute("CREATE INDEX `idx_reant_mood_user` ON `reant` (`mood`, `user_id`)");
+                    log.info("V54 마이그레이션: idx_reant_mood_user 생성");
+                }
+                if (indexExists(stmt, "reant", "idx_reant_fed_at")) {
+                    executeIgnore(stmt, "DROP INDEX `idx_reant_fed_at` ON `reant`");
+                }
+                if (indexExists(stmt, "reant", "idx_reant_mood")) {
+                    executeIgnore(stmt, "DROP INDEX `idx_reant_mood` ON `reant`");
+                }
+            }
+            if (tableExists(stmt, "chat_activity")) {
+                if (!indexExists(stmt, "chat_activity", "idx_chat_activity_last_chat_user")) {
+                    stmt.execute(
+                        "CREATE INDEX `idx_chat_activity_last_chat_user` ON `chat_activity` (`last_chat_at`, `user_id`)"
+                    );
+                    log.info("V54 마이그레이션: idx_chat_activity_last_chat_user 생성");
+                }
+                if (indexExists(stmt, "chat_activity", "idx_chat_activity_last_chat_at")) {
+                    executeIgnore(stmt, "DROP INDEX `idx_chat_activity_last_chat_at` ON `chat_activity`");
+                }
+            }
+        } catch (Exception e) {
+            log.error("V54 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * V55 마이그레이션: 미션 완료 후속 처리 멱등 키 테이블
+     * - mission_completion_effect: 처리 종류별 멱등 키 (PK effect_key, INSERT IGNORE로 선점)
+     * - idx_mission_completion_effect_created_at: 보존 기간이 지난 키 정리용
+     */
+    private void executeV55Migration(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            if (!tableExists(stmt, "mission_completion_effect")) {
+                stmt.execute(
+                    "CREATE TABLE `mission_completion_effect` (" +
+                    "`effect_key` VARCHAR(100) NOT NULL, " +
+                    "`created_at` DATETIME(6) NOT NULL, " +
+                    "PRIMARY KEY (`effect_key`), " +
+                    "INDEX `idx_mission_completion_effect_created_at` (`created_at`)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("V55 마이그레이션: mission_completion_effect 테이블 생성 완료");
+            } else if (!indexExists(stmt, "mission_completion_effect", "idx_mission_completion_effect_created_at")) {
+                executeIgnore(stmt,
+                    "CREATE INDEX `idx_mission_completion_effect_created_at` ON `mission_completion_effect` (`created_at`)"
+                );
+                log.info("V55 마이그레이션: idx_mission_completion_effect_created_at 생성");
+            }
+        } catch (Exception e) {
+            log.error("V55 마이그레이션 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
 }
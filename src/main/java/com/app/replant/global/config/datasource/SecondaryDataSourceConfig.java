@@ -41,7 +41,7 @@ public class SecondaryDataSourceConfig {
 
     @Primary
     @Bean(name = "secondaryEntityManagerFactory")
-    @DependsOn({"databaseCleanupInitializer", "manualMigrationRunner"}) // 외래키 정리 및 마이그레이션 후 EntityManagerFactory 생성
+    @DependsOn({"databaseCleanupInitializer", "idSequenceInitializer", "manualMigrationRunner"}) // 외래키 정리 및 pooled ID 시작값 설정 후 EntityManagerFactory 생성
     public LocalContainerEntityManagerFactoryBean secondaryEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
             @Qualifier("secondaryDataSource") DataSource dataSource) {
@@ -51,6 +51,10 @@ public class SecondaryDataSourceConfig {
         jpaProperties.put("hibernate.hbm2ddl.auto", "update");  // JPA로 스키마 자동 관리
         jpaProperties.put("hibernate.format_sql", "true");
         jpaProperties.put("hibernate.show_sql", "true");
+        // 다건 INSERT/UPDATE를 JDBC 배치로 전송 (IDENTITY 엔티티는 배치 불가 → pooled ID 엔티티만 해당)
+        jpaProperties.put("hibernate.jdbc.batch_size", "50");
+        jpaProperties.put("hibernate.order_inserts", "true");
+        jpaProperties.put("hibernate.order_updates", "true");
 
         return builder
                 .dataSource(dataSource)
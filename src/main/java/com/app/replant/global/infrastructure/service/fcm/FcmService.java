@@ -31,6 +31,17 @@ public interface FcmService {
      */
     boolean sendNotification(Long userId, com.app.replant.domain.notification.entity.Notification notification);
 
+    /**
+     * 여러 알림을 FCM 배치 전송 (요청당 최대 500건)
+     * 유효하지 않은 토큰은 일괄 삭제
+     *
+     * @param notifications  전송할 알림
+     * @param tokensByUserId 수신자 ID → FCM 토큰 (토큰이 없는 수신자의 알림은 건너뜀)
+     * @return 전송 성공 건수
+     */
+    int sendNotifications(java.util.List<com.app.replant.domain.notification.entity.Notification> notifications,
+                          java.util.Map<Long, String> tokensByUserId);
+
     /**
      * FCM 알림 전송 (재시도 로직 포함)
      *
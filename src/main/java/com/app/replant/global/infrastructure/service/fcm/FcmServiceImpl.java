@@ -5,16 +5,20 @@ import com.app.replant.domain.notification.entity.Notification;
 import com.app.replant.domain.user.entity.User;
 import com.app.replant.domain.user.repository.UserRepository;
 import com.google.firebase.messaging.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * FCM SERVICE 구현체
@@ -25,14 +29,20 @@ import java.util.Optional;
  * @since : 2/21/24
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FcmServiceImpl implements FcmService {
 
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
     private static final int MAX_RETRY_ATTEMPTS = 3; // 최대 재시도 횟수
     private static final long RETRY_DELAY_MS = 1000; // 재시도 간격 (1초)
+    private static final int MAX_BATCH_SIZE = 500; // FCM 배치 전송 1회 최대 메시지 수
+
+    public FcmServiceImpl(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
     
     /**
      * FCM 토큰 마스킹 (로그 보안)
@@ -129,42 +139,8 @@ public class FcmServiceImpl implements FcmService {
 
             String token = userOpt.get().getFcmToken();
 
-            // 2. 알림 데이터 생성
-            Map<String, String> notificationData = buildNotificationData(notification);
-            
-            // 3. FCM 메시지 생성
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(token)
-                    .setNotification(com.google.firebase.messaging.Notification.builder()
-                            .setTitle(notification.getTitle())
-                            .setBody(notification.getContent())
-                            .build())
-                    .putAllData(notificationData);
-            
-            // 기상 미션의 경우 deep link 추가
-            if ("SPONTANEOUS_WAKE_UP".equals(notification.getType()) && 
-                notificationData.containsKey("userMissionId")) {
-                String userMissionId = notificationData.get("userMissionId");
-                // Android용 click_action 설정 (React Native에서 사용)
-                messageBuilder.setAndroidConfig(AndroidConfig.builder()
-                        .setNotification(AndroidNotification.builder()
-                                .setColor("#023c69") // 앱 primary 색상
-                                .setSound("default")
-                                .setClickAction("FLUTTER_NOTIFICATION_CLICK") // React Native에서 처리
-                                .build())
-                        .build());
-                
-                log.info("[FCM] 기상 미션 알림 - userMissionId 포함: {}", userMissionId);
-            } else {
-                messageBuilder.setAndroidConfig(AndroidConfig.builder()
-                        .setNotification(AndroidNotification.builder()
-                                .setColor("#023c69") // 앱 primary 색상
-                                .setSound("default")
-                                .build())
-                        .build());
-            }
-            
-            Message message = messageBuilder.build();
+            // 2. FCM 메시지 생성
+            Message message = buildMessage(token, notification);
 
             // 3. FCM 전송
             String response = FirebaseMessaging.getInstance().send(message);
@@ -190,6 +166,101 @@ public class FcmServiceImpl implements FcmService {
         }
     }
     
+    /**
+     * 알림 엔티티로 FCM 메시지 생성 (단건/배치 전송 공용)
+     */
+    private Message buildMessage(String token, Notification notification) {
+        Map<String, String> notificationData = buildNotificationData(notification);
+
+        Message.Builder messageBuilder = Message.builder()
+                .setToken(token)
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(notification.getTitle())
+                        .setBody(notification.getContent())
+                        .build())
+                .putAllData(notificationData);
+
+        // 기상 미션의 경우 deep link 추가
+        if ("SPONTANEOUS_WAKE_UP".equals(notification.getType()) &&
+            notificationData.containsKey("userMissionId")) {
+            // Android용 click_action 설정 (React Native에서 사용)
+            messageBuilder.setAndroidConfig(AndroidConfig.builder()
+                    .setNotification(AndroidNotification.builder()
+                            .setColor("#023c69") // 앱 primary 색상
+                            .setSound("default")
+                            .setClickAction("FLUTTER_NOTIFICATION_CLICK") // React Native에서 처리
+                            .build())
+                    .build());
+
+            log.info("[FCM] 기상 미션 알림 - userMissionId 포함: {}", notificationData.get("userMissionId"));
+        } else {
+            messageBuilder.setAndroidConfig(AndroidConfig.builder()
+                    .setNotification(AndroidNotification.builder()
+                            .setColor("#023c69") // 앱 primary 색상
+                            .setSound("default")
+                            .build())
+                    .build());
+        }
+        return messageBuilder.build();
+    }
+
+    /**
+     * 여러 알림을 FCM 배치 전송 (sendEach, 요청당 최대 500건)
+     * 알림마다 id/referenceId 데이터가 달라 동일 페이로드만 보내는 멀티캐스트 대신 배치 API 사용
+     */
+    @Override
+    public int sendNotifications(List<Notification> notifications, Map<Long, String> tokensByUserId) {
+        List<Message> messages = new ArrayList<>();
+        List<Long> recipientIds = new ArrayList<>();
+        for (Notification notification : notifications) {
+            Long userId = notification.getUser().getId();
+            String token = tokensByUserId.get(userId);
+            if (token == null || token.isEmpty()) {
+                continue;
+            }
+            messages.add(buildMessage(token, notification));
+            recipientIds.add(userId);
+        }
+
+        int successCount = 0;
+        Set<Long> invalidUserIds = new HashSet<>();
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            int to = Math.min(from + MAX_BATCH_SIZE, messages.size());
+            try {
+                BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages.subList(from, to));
+                successCount += response.getSuccessCount();
+                List<SendResponse> responses = response.getResponses();
+                for (int i = 0; i < responses.size(); i++) {
+                    FirebaseMessagingException e = responses.get(i).getException();
+                    if (e != null && (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT ||
+                            e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED)) {
+                        invalidUserIds.add(recipientIds.get(from + i));
+                    }
+                }
+            } catch (FirebaseMessagingException e) {
+                log.error("[FCM] 배치 전송 실패 - count: {}, error: {}, errorCode: {}",
+                        to - from, e.getMessage(), e.getMessagingErrorCode());
+            } catch (Exception e) {
+                log.error("[FCM] 배치 전송 중 예외 발생 - count: {}", to - from, e);
+            }
+        }
+
+        if (!invalidUserIds.isEmpty()) {
+            try {
+                List<String> invalidTokens = invalidUserIds.stream().map(tokensByUserId::get).toList();
+                Integer cleared = transactionTemplate.execute(status ->
+                        userRepository.clearFcmTokens(invalidUserIds, invalidTokens));
+                log.warn("[FCM] 유효하지 않은 토큰 일괄 삭제 - count: {}", cleared);
+            } catch (Exception e) {
+                log.error("[FCM] 토큰 일괄 삭제 실패 - count: {}", invalidUserIds.size(), e);
+            }
+        }
+
+        log.info("[FCM] 배치 전송 완료 - 대상: {}, 성공: {}, 무효 토큰: {}",
+                messages.size(), successCount, invalidUserIds.size());
+        return successCount;
+    }
+
     /**
      * 사용자 FCM 토큰 조회 (내부용)
      */
@@ -0,0 +1,143 @@
+package com.app.replant.global.scheduler;
+
+import com.app.replant.domain.meallog.entity.MealLog;
+import com.app.replant.domain.meallog.enums.MealType;
+import com.app.replant.domain.meallog.service.MealLogService;
+import com.app.replant.domain.notification.entity.Notification;
+import com.app.replant.domain.notification.enums.NotificationType;
+import com.app.replant.domain.notification.service.NotificationService;
+import com.app.replant.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식사 미션 스케줄러
+ * 사용자가 설정한 아침/점심/저녁 시간에 맞춰 식사 미션(MealLog)을 자동 할당합니다.
+ * 실행 주기: 매 1분마다
+ * - 해당 분(자정 기준 식사별 minute 컬럼)의 사용자만 인덱스로 조회
+ * - 식사 슬롯별로 기존 기록 확인/MealLog INSERT/알림 INSERT를 일괄 처리, 푸시는 커밋 이후 비동기 전송
+ * - 마감이 지난 식사 미션은 조회 시점에 실패 처리 (MealLogService, 주기적 만료 스캔 없음)
+ * - 묶음마다 별도 트랜잭션으로 처리 (한 묶음 실패가 다른 묶음/슬롯의 할당을 롤백하지 않음)
+ */
+@Component
+@Slf4j
+public class MealMissionScheduler {
+
+    private final UserRepository userRepository;
+    private final MealLogService mealLogService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public MealMissionScheduler(UserRepository userRepository,
+                                MealLogService mealLogService,
+                                NotificationService notificationService,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.mealLogService = mealLogService;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
+
+    /** 한 번에 처리하는 사용자 수 (IN 절 크기 제한) */
+    private static final int USER_CHUNK_SIZE = 500;
+
+    /**
+     * 매 1분마다 실행
+     * zone = "Asia/Seoul"이므로 KST 기준으로 실행 (사용자 식사 시간도 KST 기준)
+     */
+    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    public void assignMealMissions() {
+        try {
+            LocalDateTime now = LocalDateTime.now(ZONE_SEOUL);
+            int minuteOfDay = now.getHour() * 60 + now.getMinute();
+
+            Map<MealType, List<Long>> userIdsBySlot =
+                    groupBySlot(userRepository.findMealSlotsByMinute(minuteOfDay), minuteOfDay);
+            if (userIdsBySlot.isEmpty()) {
+                return;
+            }
+
+            for (Map.Entry<MealType, List<Long>> slot : userIdsBySlot.entrySet()) {
+                MealType mealType = slot.getKey();
+                List<Long> userIds = slot.getValue();
+                int assignedCount = 0;
+                for (int from = 0; from < userIds.size(); from += USER_CHUNK_SIZE) {
+                    List<Long> chunk = userIds.subList(from, Math.min(from + USER_CHUNK_SIZE, userIds.size()));
+                    try {
+                        // 묶음 단위로 트랜잭션 분리하여 에러 격리
+                        Integer assigned = transactionTemplate.execute(
+                                status -> assignAndNotify(mealType, chunk, now));
+                        assignedCount += assigned != null ? assigned : 0;
+                    } catch (Exception e) {
+                        log.error("[식사 미션] {} 묶음 처리 중 오류 (첫 사용자 ID: {}, {}명): {}",
+                                mealType.getDisplayName(), chunk.get(0), chunk.size(), e.getMessage(), e);
+                        // 묶음 에러는 무시하고 다음 묶음 계속 진행
+                    }
+                }
+                log.info("=== {} 식사 미션 할당 완료 === 시각: {}, 대상: {}, 할당: {}",
+                        mealType.getDisplayName(), now.toLocalTime().withSecond(0).withNano(0),
+                        userIds.size(), assignedCount);
+            }
+        } catch (Exception e) {
+            log.error("식사 미션 할당 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+
+    /**
+     * [사용자 ID, 아침 분, 점심 분, 저녁 분] 행을 현재 분과 일치하는 식사 슬롯별로 분류
+     */
+    private Map<MealType, List<Long>> groupBySlot(List<Object[]> rows, int minuteOfDay) {
+        Map<MealType, List<Long>> userIdsBySlot = new EnumMap<>(MealType.class);
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            addIfDue(userIdsBySlot, MealType.BREAKFAST, row[1], minuteOfDay, userId);
+            addIfDue(userIdsBySlot, MealType.LUNCH, row[2], minuteOfDay, userId);
+            addIfDue(userIdsBySlot, MealType.DINNER, row[3], minuteOfDay, userId);
+        }
+        return userIdsBySlot;
+    }
+
+    private void addIfDue(Map<MealType, List<Long>> userIdsBySlot, MealType mealType, Object slotMinute,
+                          int minuteOfDay, Long userId) {
+        if (slotMinute != null && ((Number) slotMinute).intValue() == minuteOfDay) {
+            userIdsBySlot.computeIfAbsent(mealType, key -> new ArrayList<>()).add(userId);
+        }
+    }
+
+    /**
+     * 사용자 묶음에 식사 미션 할당 후 알림 일괄 저장
+     * @return 새로 할당한 사용자 수
+     */
+    private int assignAndNotify(MealType mealType, List<Long> userIds, LocalDateTime now) {
+        List<MealLog> mealLogs = mealLogService.assignMealMissions(mealType, userIds, now);
+        if (mealLogs.isEmpty()) {
+            return 0;
+        }
+
+        // 알림 저장 후 커밋 이후 비동기 SSE/FCM 전송 (앱에서 인증 시 mealLogId 사용)
+        List<Notification> notifications = mealLogs.stream()
+                .map(mealLog -> Notification.builder()
+                        .user(mealLog.getUser())
+                        .type(NotificationType.SPONTANEOUS_MEAL.name())
+                        .title(mealType.getDisplayName() + " 식사 시간입니다! 🍚")
+                        .content(mealType.getDisplayName() + " 식사 미션이 도착했습니다. 2시간 안에 식사를 인증해주세요!")
+                        .referenceType("MEAL_LOG")
+                        .referenceId(mealLog.getId())
+                        .build())
+                .toList();
+        notificationService.createNotificationsAndPushAsync(notifications);
+        return mealLogs.size();
+    }
+}
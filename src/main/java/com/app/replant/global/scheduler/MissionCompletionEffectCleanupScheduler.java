@@ -0,0 +1,58 @@
+package com.app.replant.global.scheduler;
+
+import com.app.replant.domain.usermission.repository.MissionCompletionEffectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미션 완료 후속 처리 멱등 키 정리 스케줄러
+ * 멱등 키는 완료 이벤트의 재시도/중복 처리 구간에만 필요하므로 보존 기간이 지난 키를 삭제
+ * - 묶음(1000개)마다 짧은 트랜잭션으로 삭제하여 긴 잠금 방지
+ *
+ * 실행 주기: 매일 오전 4시 30분 (KST)
+ */
+@Component
+@Slf4j
+public class MissionCompletionEffectCleanupScheduler {
+
+    private static final int RETENTION_DAYS = 7;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MissionCompletionEffectRepository effectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MissionCompletionEffectCleanupScheduler(MissionCompletionEffectRepository effectRepository,
+                                                   PlatformTransactionManager transactionManager) {
+        this.effectRepository = effectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void deleteExpiredEffects() {
+        log.info("=== 미션 완료 멱등 키 정리 시작 ===");
+        long startedAt = System.currentTimeMillis();
+        int deletedCount = 0;
+
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+            while (true) {
+                Integer deleted = transactionTemplate.execute(
+                        status -> effectRepository.deleteCreatedBefore(before, CHUNK_SIZE));
+                int count = deleted != null ? deleted : 0;
+                deletedCount += count;
+                if (count < CHUNK_SIZE) {
+                    break;
+                }
+            }
+            log.info("=== 미션 완료 멱등 키 정리 완료: {}개 삭제, {}ms ===",
+                    deletedCount, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("미션 완료 멱등 키 정리 실패 ({}개 삭제 후 중단)", deletedCount, e);
+        }
+    }
+}
@@ -1,84 +1,75 @@
 package com.app.replant.global.scheduler;
 
-import com.app.replant.domain.missionset.entity.TodoList;
-import com.app.replant.domain.missionset.repository.TodoListRepository;
-import com.app.replant.domain.usermission.entity.UserMission;
-import com.app.replant.domain.usermission.repository.UserMissionRepository;
-import lombok.RequiredArgsConstructor;
+import com.app.replant.domain.usermission.service.UserMissionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 미션 만료 처리 스케줄러
  * 매시간 실행하여 기한이 지난 미션을 자동으로 실패 처리
+ * - 엔티티를 메모리에 올리지 않고 묶음(500개) 단위 일괄 UPDATE, 묶음마다 짧은 트랜잭션
+ * - 처리 건수/소요 시간은 Micrometer 지표로 노출 (mission.expiration.failed, mission.expiration.duration)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MissionExpirationScheduler {
 
-    private final UserMissionRepository userMissionRepository;
-    private final TodoListRepository todoListRepository;
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserMissionService userMissionService;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    public MissionExpirationScheduler(UserMissionService userMissionService, MeterRegistry meterRegistry) {
+        this.userMissionService = userMissionService;
+        this.failedCounter = Counter.builder("mission.expiration.failed")
+                .description("만료로 실패 처리된 사용자 미션 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("mission.expiration.duration")
+                .description("미션 만료 처리 소요 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 매시간 정각에 실행
      * 기한이 지난 미션을 FAILED 상태로 변경
      */
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
     public void processExpiredMissions() {
         log.info("=== 미션 만료 처리 스케줄러 시작 ===");
+        Timer.Sample sample = Timer.start();
+        LocalDateTime now = LocalDateTime.now();
+        int failedCount = 0;
+        int chunkCount = 0;
 
         try {
-            LocalDateTime now = LocalDateTime.now();
-
-            // 1. 기한이 지난 ASSIGNED 상태의 UserMission 조회
-            List<UserMission> expiredMissions = userMissionRepository.findExpiredMissions(now);
-            log.info("만료된 미션 수: {}", expiredMissions.size());
-
-            int failedCount = 0;
-            for (UserMission mission : expiredMissions) {
-                try {
-                    mission.fail();
-                    failedCount++;
-                    log.debug("미션 만료 처리: missionId={}, userId={}",
-                            mission.getMission().getId(), mission.getUser().getId());
-                } catch (Exception e) {
-                    log.error("미션 만료 처리 실패: userMissionId={}", mission.getId(), e);
-                }
-            }
-
-            // 2. 활성 투두리스트 중 모든 미션이 완료된 경우 투두리스트도 완료 처리
-            List<TodoList> activeTodoLists = todoListRepository.findAllActiveTodoLists();
-            log.info("활성 투두리스트 수: {}", activeTodoLists.size());
-
-            int completedTodoLists = 0;
-            for (TodoList todoList : activeTodoLists) {
-                try {
-                    // 완료된 미션 수가 총 미션 수와 같으면 자동 완료
-                    Integer totalCount = todoList.getTotalCount();
-                    Integer completedCount = todoList.getCompletedCount();
-
-                    if (totalCount != null && completedCount != null && completedCount >= totalCount) {
-                        todoList.completeTodoList();
-                        completedTodoLists++;
-                        log.info("투두리스트 자동 완료: todoListId={}, completedCount={}/{}",
-                                todoList.getId(), completedCount, totalCount);
-                    }
-                } catch (Exception e) {
-                    log.error("투두리스트 상태 업데이트 실패: todoListId={}", todoList.getId(), e);
+            // 묶음이 가득 차지 않으면 남은 만료 미션이 없는 것으로 판단 (경합으로 덜 처리된 건은 다음 실행에서 처리)
+            while (true) {
+                int updated = userMissionService.expireOverdueMissions(now, CHUNK_SIZE);
+                failedCount += updated;
+                failedCounter.increment(updated);
+                chunkCount++;
+                if (updated < CHUNK_SIZE) {
+                    break;
                 }
             }
 
-            log.info("=== 미션 만료 처리 스케줄러 완료 === 미션 실패: {}, 투두리스트 완료: {}",
-                    failedCount, completedTodoLists);
+            // 투두리스트 완료 전환은 완료 수 증가 UPDATE에서 함께 처리되므로 별도 스캔 없음
+            log.info("=== 미션 만료 처리 스케줄러 완료 === 미션 실패: {}, 묶음: {}, {}ms",
+                    failedCount, chunkCount, nanosToMillis(sample.stop(durationTimer)));
         } catch (Exception e) {
-            log.error("미션 만료 처리 스케줄러 실행 중 오류 발생", e);
+            sample.stop(durationTimer);
+            log.error("미션 만료 처리 스케줄러 실행 중 오류 발생 ({}개 처리 후 중단)", failedCount, e);
         }
     }
+
+    private static long nanosToMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
 }
@@ -0,0 +1,51 @@
+package com.app.replant.global.scheduler;
+
+import com.app.replant.domain.mission.service.MissionStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 미션 통계 재동기화 스케줄러
+ * 증분 갱신으로 누적된 오차(사용자 미션 삭제, 실패한 트랜잭션 외 경로 등)를
+ * user_mission / mission_review 원본 기준으로 보정
+ *
+ * 실행 주기: 매일 오전 4시 (KST)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionStatsReconciliationScheduler {
+
+    private final MissionStatsService missionStatsService;
+
+    /**
+     * 미션 ID 구간(500개) 단위로 짧은 트랜잭션에서 재계산
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcileMissionStats() {
+        log.info("=== 미션 통계 재동기화 시작 ===");
+        long startedAt = System.currentTimeMillis();
+        int reconciledCount = 0;
+
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<Long> missionIds = missionStatsService.findMissionIdChunk(afterId);
+                if (missionIds.isEmpty()) {
+                    break;
+                }
+                missionStatsService.reconcile(missionIds);
+                reconciledCount += missionIds.size();
+                afterId = missionIds.get(missionIds.size() - 1);
+            }
+            log.info("=== 미션 통계 재동기화 완료: {}개 미션, {}ms ===",
+                    reconciledCount, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("미션 통계 재동기화 실패 ({}개 미션 처리 후 중단)", reconciledCount, e);
+        }
+    }
+}
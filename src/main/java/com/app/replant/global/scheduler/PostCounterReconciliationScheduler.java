@@ -0,0 +1,51 @@
+package com.app.replant.global.scheduler;
+
+import com.app.replant.domain.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 좋아요/댓글 수 재동기화 스케줄러
+ * 원자적 증감으로 관리되는 post.like_count / comment_count의 오차(직접 삭제, 실패한 요청 등)를
+ * post_like / comment 원본 기준으로 보정
+ *
+ * 실행 주기: 매일 오전 4시 30분 (KST)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterReconciliationScheduler {
+
+    private final PostService postService;
+
+    /**
+     * 게시글 ID 구간(500개) 단위로 짧은 트랜잭션에서 재계산
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcilePostCounters() {
+        log.info("=== 게시글 카운터 재동기화 시작 ===");
+        long startedAt = System.currentTimeMillis();
+        int reconciledCount = 0;
+
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<Long> postIds = postService.findPostIdChunk(afterId);
+                if (postIds.isEmpty()) {
+                    break;
+                }
+                postService.reconcileCounters(postIds);
+                reconciledCount += postIds.size();
+                afterId = postIds.get(postIds.size() - 1);
+            }
+            log.info("=== 게시글 카운터 재동기화 완료: {}개 게시글, {}ms ===",
+                    reconciledCount, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("게시글 카운터 재동기화 실패 ({}개 게시글 처리 후 중단)", reconciledCount, e);
+        }
+    }
+}
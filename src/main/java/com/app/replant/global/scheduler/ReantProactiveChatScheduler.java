@@ -1,26 +1,27 @@
 package com.app.replant.global.scheduler;
 
-import com.app.replant.domain.chat.repository.ChatLogRepository;
+import com.app.replant.domain.chat.repository.ChatActivityRepository;
 import com.app.replant.domain.chat.service.ChatService;
+import com.app.replant.domain.notification.entity.Notification;
 import com.app.replant.domain.notification.enums.NotificationType;
 import com.app.replant.domain.notification.service.NotificationService;
 import com.app.replant.domain.reant.entity.Reant;
 import com.app.replant.domain.reant.repository.ReantRepository;
-import com.app.replant.domain.user.entity.User;
-import com.app.replant.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
-import java.time.LocalDate;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 리앤트 선제 메시지 스케줄러
@@ -28,17 +29,36 @@ import java.util.Optional;
  *
  * 실행 주기: 매 2시간마다
  * 제한: 사용자당 하루 최대 1회
+ * - 대상은 조건(배고픔/기분 저하/비활성)별로 (정렬 키, user_id) 인덱스를 키셋 페이지(500명)로 한 번씩 순회
+ *   (오늘 한도에 도달했거나 이번 실행에서 이미 보낸 사용자는 제외)
+ * - 묶음마다 짧은 트랜잭션으로 ChatLog/알림 일괄 INSERT, 푸시는 커밋 이후 비동기 전송
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ReantProactiveChatScheduler {
 
-    private final ChatLogRepository chatLogRepository;
+    private static final int CHUNK_SIZE = 500;
+
+    // 키셋 첫 페이지의 시각 하한 (DATETIME 최솟값)
+    private static final LocalDateTime SCAN_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final ChatActivityRepository chatActivityRepository;
     private final ChatService chatService;
     private final ReantRepository reantRepository;
-    private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReantProactiveChatScheduler(ChatActivityRepository chatActivityRepository,
+                                       ChatService chatService,
+                                       ReantRepository reantRepository,
+                                       NotificationService notificationService,
+                                       PlatformTransactionManager transactionManager) {
+        this.chatActivityRepository = chatActivityRepository;
+        this.chatService = chatService;
+        this.reantRepository = reantRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     // 하루 최대 선제 메시지 수
     private static final int MAX_PROACTIVE_PER_DAY = 1;
@@ -46,6 +66,12 @@ public class ReantProactiveChatScheduler {
     // 비활성 기준 (시간)
     private static final int INACTIVITY_HOURS = 24;
 
+    // 배고픔 메시지 기준 (hunger > 70)
+    private static final int HUNGRY_THRESHOLD = 70;
+
+    // 기분 저하 메시지 기준 (mood < 50)
+    private static final int LOW_MOOD_THRESHOLD = 50;
+
     /** S2245: 보안·암호학적 용도가 아니어도 SonarCloud PRNG 경고 회피용 */
     private static final SecureRandom secureRandom = new SecureRandom();
 
@@ -78,28 +104,35 @@ public class ReantProactiveChatScheduler {
     @Scheduled(cron = "0 0 8,10,12,14,16,18,20,22 * * *", zone = "Asia/Seoul")
     public void sendProactiveMessages() {
         log.info("=== 리앤트 선제 메시지 스케줄러 시작 ===");
+        long startedAt = System.currentTimeMillis();
 
         try {
             LocalDateTime now = LocalDateTime.now();
-            LocalDateTime todayStart = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
             LocalDateTime inactivityThreshold = now.minusHours(INACTIVITY_HOURS);
-
-            // 채팅 기록이 있는 사용자 목록 조회
-            List<Long> userIds = chatLogRepository.findDistinctUserIds();
-            int sentCount = 0;
-
-            for (Long userId : userIds) {
-                try {
-                    // 각 사용자 처리를 별도의 트랜잭션으로 분리하여 에러 격리
-                    sendProactiveMessageToUser(userId, todayStart, inactivityThreshold);
-                    sentCount++;
-                } catch (Exception e) {
-                    log.error("[선제메시지] userId: {} 처리 중 오류: {}", userId, e.getMessage(), e);
-                    // 개별 사용자 에러는 무시하고 계속 진행
-                }
-            }
-
-            log.info("=== 리앤트 선제 메시지 스케줄러 완료 === 전송: {}건", sentCount);
+            LocalDateTime hungryFedBefore = Reant.fedBeforeForHunger(now, HUNGRY_THRESHOLD);
+            // 이번 실행에서 기록한 last_proactive_at(now)은 항상 이 값 이상 (DATETIME 소수점 반올림 영향 없음)
+            LocalDateTime runStartedAt = now.truncatedTo(ChronoUnit.SECONDS);
+
+            // 조건별로 한 번씩 키셋 순회 (이번 실행에서 보낸 사용자는 이후 조회에서 제외되어 중복 전송 없음)
+            int[] hungry = sendInChunks("배고픔", now, inactivityThreshold,
+                    last -> chatActivityRepository.findHungryProactiveCandidates(
+                            last != null ? toLocalDateTime(last[2]) : SCAN_START,
+                            last != null ? ((Number) last[0]).longValue() : 0L,
+                            hungryFedBefore, now.toLocalDate(), MAX_PROACTIVE_PER_DAY, runStartedAt, CHUNK_SIZE));
+            int[] lowMood = sendInChunks("기분 저하", now, inactivityThreshold,
+                    last -> chatActivityRepository.findLowMoodProactiveCandidates(
+                            last != null ? ((Number) last[2]).intValue() : Integer.MIN_VALUE,
+                            last != null ? ((Number) last[0]).longValue() : 0L,
+                            LOW_MOOD_THRESHOLD, now.toLocalDate(), MAX_PROACTIVE_PER_DAY, runStartedAt, CHUNK_SIZE));
+            int[] inactive = sendInChunks("비활성", now, inactivityThreshold,
+                    last -> chatActivityRepository.findInactiveProactiveCandidates(
+                            last != null ? toLocalDateTime(last[1]) : SCAN_START,
+                            last != null ? ((Number) last[0]).longValue() : 0L,
+                            inactivityThreshold, now.toLocalDate(), MAX_PROACTIVE_PER_DAY, runStartedAt, CHUNK_SIZE));
+
+            log.info("=== 리앤트 선제 메시지 스케줄러 완료 === 대상: {}, 전송: {}건, {}ms",
+                    hungry[0] + lowMood[0] + inactive[0], hungry[1] + lowMood[1] + inactive[1],
+                    System.currentTimeMillis() - startedAt);
 
         } catch (Exception e) {
             log.error("리앤트 선제 메시지 스케줄러 실행 중 오류", e);
@@ -107,67 +140,94 @@ public class ReantProactiveChatScheduler {
     }
 
     /**
-     * 개별 사용자에게 선제 메시지 전송 (별도 트랜잭션으로 격리)
+     * 한 조건의 후보를 키셋 페이지 단위로 끝까지 읽으며 묶음마다 전송
+     * @param nextPage 직전 묶음의 마지막 행(첫 묶음은 null) 다음부터 CHUNK_SIZE개를 조회
+     * @return [대상 수, 전송 수]
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendProactiveMessageToUser(Long userId, LocalDateTime todayStart, LocalDateTime inactivityThreshold) {
-        // 오늘 이미 선제 메시지를 보냈으면 스킵
-        Long proactiveToday = chatLogRepository.countProactiveTodayByUserId(userId, todayStart);
-        if (proactiveToday >= MAX_PROACTIVE_PER_DAY) {
-            return;
-        }
+    private int[] sendInChunks(String condition, LocalDateTime now, LocalDateTime inactivityThreshold,
+                               Function<Object[], List<Object[]>> nextPage) {
+        int candidateCount = 0;
+        int sentCount = 0;
+        Object[] last = null;
+        while (true) {
+            List<Object[]> rows = nextPage.apply(last);
+            if (rows.isEmpty()) {
+                break;
+            }
 
-        // 리앤트 조회 - N+1 문제 방지를 위해 user를 함께 fetch join
-        Optional<Reant> reantOpt = reantRepository.findByUserIdWithUser(userId);
-        if (reantOpt.isEmpty()) {
-            return;
-        }
-        Reant reant = reantOpt.get();
+            // [사용자 ID, 마지막 채팅 시각, ...]
+            Map<Long, LocalDateTime> lastChatByUserId = new HashMap<>();
+            for (Object[] row : rows) {
+                lastChatByUserId.put(((Number) row[0]).longValue(), toLocalDateTime(row[1]));
+            }
+            candidateCount += rows.size();
+            last = rows.get(rows.size() - 1);
+
+            try {
+                // 묶음 단위로 트랜잭션 분리하여 에러 격리
+                Integer sent = transactionTemplate.execute(
+                        status -> sendToCandidates(lastChatByUserId, now, inactivityThreshold));
+                sentCount += sent != null ? sent : 0;
+            } catch (Exception e) {
+                log.error("[선제메시지] {} 묶음 처리 중 오류 (마지막 사용자 ID: {}): {}",
+                        condition, last[0], e.getMessage(), e);
+                // 묶음 에러는 무시하고 다음 묶음 계속 진행
+            }
 
-        // 메시지 선택 (우선순위: 배고픔 > 기분 > 비활성)
-        String message = selectMessage(userId, reant, inactivityThreshold);
-        if (message == null) {
-            return;
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
         }
+        log.info("[선제메시지] {} 대상: {}, 전송: {}건", condition, candidateCount, sentCount);
+        return new int[]{candidateCount, sentCount};
+    }
 
-        // 사용자 조회
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
-            return;
+    /**
+     * 대상 사용자 묶음에 선제 메시지 저장 + 알림 저장 (푸시는 커밋 이후 비동기)
+     * @return 전송한 사용자 수
+     */
+    private int sendToCandidates(Map<Long, LocalDateTime> lastChatByUserId, LocalDateTime now,
+                                 LocalDateTime inactivityThreshold) {
+        List<ChatService.ProactiveMessage> messages = new ArrayList<>();
+        for (Reant reant : reantRepository.findAllByUserIds(lastChatByUserId.keySet())) {
+            // 메시지 선택 (우선순위: 배고픔 > 기분 > 비활성), user는 LAZY 프록시이므로 getId()는 추가 조회 없음
+            String message = selectMessage(reant, lastChatByUserId.get(reant.getUser().getId()), inactivityThreshold);
+            if (message != null) {
+                messages.add(new ChatService.ProactiveMessage(reant, message));
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
         }
-        User user = userOpt.get();
-
-        // 선제 메시지 저장
-        chatService.createProactiveMessage(user, reant, message);
-
-        // 푸시 알림 전송
-        notificationService.createAndPushNotification(
-                user,
-                NotificationType.CHAT_MESSAGE,
-                reant.getName(),
-                message
-        );
 
-        log.info("[선제메시지] 전송 완료 - userId: {}, reant: {}", userId, reant.getName());
+        chatService.createProactiveMessages(messages, now);
+        notificationService.createNotificationsAndPushAsync(messages.stream()
+                .map(message -> Notification.builder()
+                        .user(message.reant().getUser())
+                        .type(NotificationType.CHAT_MESSAGE.name())
+                        .title(message.reant().getName())
+                        .content(message.message())
+                        .build())
+                .toList());
+        return messages.size();
     }
 
     /**
      * 조건에 따라 적절한 메시지 선택
      * @return 보낼 메시지, 조건에 해당하지 않으면 null
      */
-    private String selectMessage(Long userId, Reant reant, LocalDateTime inactivityThreshold) {
-        // 1. 배고픔이 높으면 (hunger > 70)
-        if (reant.getHunger() > 70) {
+    private String selectMessage(Reant reant, LocalDateTime lastChat, LocalDateTime inactivityThreshold) {
+        // 1. 배고픔이 높으면 (hunger > 70, 경과 시간 기준 계산)
+        if (reant.getCurrentHunger() > HUNGRY_THRESHOLD) {
             return pickRandom(HUNGRY_MESSAGES);
         }
 
-        // 2. 기분이 낮으면 (mood < 50)
-        if (reant.getMood() < 50) {
+        // 2. 기분이 낮으면 (mood < 50, 경과 시간 기준 계산)
+        if (reant.getCurrentMood() < LOW_MOOD_THRESHOLD) {
             return pickRandom(LOW_MOOD_MESSAGES);
         }
 
         // 3. 마지막 채팅이 24시간 이상 전이면
-        LocalDateTime lastChat = chatLogRepository.findLastChatTimeByUserId(userId);
         if (lastChat != null && lastChat.isBefore(inactivityThreshold)) {
             return pickRandom(INACTIVITY_MESSAGES);
         }
@@ -178,4 +238,9 @@ public class ReantProactiveChatScheduler {
     private String pickRandom(String[] messages) {
         return messages[secureRandom.nextInt(messages.length)];
     }
+
+    // 네이티브 쿼리의 DATETIME 값은 드라이버 설정에 따라 Timestamp로 반환될 수 있음
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
 }
@@ -0,0 +1,59 @@
+package com.app.replant.global.scheduler;
+
+import com.app.replant.domain.missionset.service.TodoListPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 투두리스트 랭킹 유지 스케줄러
+ * - 매시 정각: 감쇠 기준 시각 이동 (Redis 점수 크기 제한)
+ * - 매일 오전 4시 20분 (KST): DB 원본으로 전체 재구성 (Redis 장애 등으로 빠진 증분 보정)
+ * - 애플리케이션 시작 시 랭킹이 비어 있으면 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoListPopularityScheduler {
+
+    private final TodoListPopularityService todoListPopularityService;
+
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void rebasePopularity() {
+        try {
+            todoListPopularityService.rebase();
+        } catch (Exception e) {
+            log.warn("인기 투두리스트 감쇠 기준 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 20 4 * * *", zone = "Asia/Seoul")
+    public void rebuildPopularity() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (todoListPopularityService.isEmpty()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("인기 투두리스트 랭킹 확인 실패 (Redis 미연결 시 DB 정렬 사용): {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        log.info("=== 인기 투두리스트 랭킹 재구성 시작 ===");
+        long startedAt = System.currentTimeMillis();
+        try {
+            int count = todoListPopularityService.rebuild();
+            log.info("=== 인기 투두리스트 랭킹 재구성 완료: {}건, {}ms ===", count, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("인기 투두리스트 랭킹 재구성 실패", e);
+        }
+    }
+}
@@ -1,30 +1,31 @@
 package com.app.replant.global.scheduler;
 
-import com.app.replant.domain.missionset.repository.TodoListRepository;
 import com.app.replant.domain.notification.enums.NotificationType;
 import com.app.replant.domain.notification.service.NotificationService;
-import com.app.replant.domain.user.entity.User;
 import com.app.replant.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 투두리스트 생성 알림 스케줄러
  * 매일 오전 7시(KST)에 기존 가입자(투두리스트가 1개 이상인 사용자)에게 투두리스트 생성 알림 발송
  * 신규 가입자(투두리스트 0개)는 제외
+ * - 대상 ID는 EXISTS 조건의 키셋 페이지(500명)로 읽고, 묶음마다 알림 일괄 INSERT (짧은 트랜잭션)
+ * - 전송은 커밋 이후 비동기(SSE / FCM 배치)로 처리되어 메모리와 실행 시간이 대상 수에 비례해 커지지 않음
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TodoReminderScheduler {
 
+    private static final int CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
-    private final TodoListRepository todoListRepository;
     private final NotificationService notificationService;
 
     /**
@@ -35,43 +36,29 @@ public class TodoReminderScheduler {
     @Scheduled(cron = "0 0 7 * * *", zone = "Asia/Seoul")
     public void sendDailyTodoReminder() {
         log.info("=== 투두리스트 생성 알림 스케줄러 시작 (오전 7시) ===");
+        long startedAt = System.currentTimeMillis();
+        int notifiedCount = 0;
 
         try {
-            // 모든 활성 사용자 조회
-            List<User> activeUsers = userRepository.findAllActiveUsers();
-            log.info("전체 활성 사용자 수: {}", activeUsers.size());
-
-            // 기존 가입자만 필터링 (투두리스트가 1개 이상인 사용자)
-            List<User> existingUsers = activeUsers.stream()
-                    .filter(user -> {
-                        long todoListCount = todoListRepository.countAllTodoListsByCreator(user);
-                        return todoListCount > 0; // 투두리스트가 1개 이상인 경우만
-                    })
-                    .collect(Collectors.toList());
-
-            log.info("기존 가입자 수 (투두리스트 1개 이상): {}", existingUsers.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            for (User user : existingUsers) {
-                try {
-                    // 알림 생성 및 발송
-                    notificationService.createAndPushNotification(
-                            user,
-                            NotificationType.SYSTEM,
-                            "투두리스트 작성 알림",
-                            "오늘의 투두리스트를 작성해보세요!");
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("사용자 {}에게 알림 발송 실패", user.getId(), e);
-                    failCount++;
+            Long afterId = 0L;
+            while (true) {
+                List<Long> userIds = userRepository.findTodoReminderTargetIds(afterId, PageRequest.of(0, CHUNK_SIZE));
+                if (userIds.isEmpty()) {
+                    break;
                 }
+                notificationService.createNotificationsAndPushAsync(
+                        userIds,
+                        NotificationType.SYSTEM,
+                        "투두리스트 작성 알림",
+                        "오늘의 투두리스트를 작성해보세요!");
+                notifiedCount += userIds.size();
+                afterId = userIds.get(userIds.size() - 1);
             }
 
-            log.info("=== 투두리스트 생성 알림 스케줄러 완료 === 성공: {}, 실패: {}", successCount, failCount);
+            log.info("=== 투두리스트 생성 알림 스케줄러 완료 === 대상: {}, {}ms",
+                    notifiedCount, System.currentTimeMillis() - startedAt);
         } catch (Exception e) {
-            log.error("투두리스트 알림 스케줄러 실행 중 오류 발생", e);
+            log.error("투두리스트 알림 스케줄러 실행 중 오류 발생 ({}명 처리 후 중단)", notifiedCount, e);
         }
     }
 }
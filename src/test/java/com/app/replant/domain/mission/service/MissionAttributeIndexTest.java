@@ -0,0 +1,99 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.dto.MissionResponse;
+import com.app.replant.domain.mission.enums.AgeRange;
+import com.app.replant.domain.mission.enums.GenderType;
+import com.app.replant.domain.mission.enums.MissionCategory;
+import com.app.replant.domain.mission.enums.VerificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MissionAttributeIndex 비트맵 필터 검증")
+class MissionAttributeIndexTest {
+
+    // 비트 i = missions.get(i)
+    private final List<MissionResponse> missions = List.of(
+            mission(5L, MissionCategory.EXERCISE, VerificationType.GPS, GenderType.ALL,
+                    List.of(AgeRange.EARLY_TWENTIES, AgeRange.MID_TWENTIES)),
+            mission(4L, MissionCategory.EXERCISE, VerificationType.TIME, GenderType.FEMALE,
+                    List.of(AgeRange.EARLY_TWENTIES)),
+            mission(3L, MissionCategory.STUDY, VerificationType.TIME, GenderType.MALE, null),
+            mission(2L, MissionCategory.HEALTH, VerificationType.COMMUNITY, null,
+                    List.of(AgeRange.FORTIES_PLUS)),
+            mission(1L, MissionCategory.EXERCISE, VerificationType.TIME, GenderType.MALE,
+                    List.of(AgeRange.MID_TWENTIES)));
+
+    private final MissionAttributeIndex index = new MissionAttributeIndex(missions);
+
+    @Test
+    @DisplayName("조건이 모두 null이면 전체 미션")
+    void no_condition_matches_everything() {
+        BitSet result = filter(null, null, null, null);
+
+        assertThat(result.cardinality()).isEqualTo(missions.size());
+    }
+
+    @Test
+    @DisplayName("여러 조건은 AND로 결합")
+    void combines_conditions_with_and() {
+        assertThat(bits(filter(MissionCategory.EXERCISE, null, null, null))).containsExactly(0, 1, 4);
+        assertThat(bits(filter(MissionCategory.EXERCISE, VerificationType.TIME, null, null))).containsExactly(1, 4);
+        assertThat(bits(filter(MissionCategory.EXERCISE, VerificationType.TIME, null, AgeRange.MID_TWENTIES)))
+                .containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("성별 조건은 ALL로 등록된 미션을 포함, 성별이 없는 미션은 제외")
+    void gender_condition_includes_all_missions() {
+        assertThat(bits(filter(null, null, GenderType.MALE, null))).containsExactly(0, 2, 4);
+        assertThat(bits(filter(null, null, GenderType.FEMALE, null))).containsExactly(0, 1);
+        assertThat(bits(filter(null, null, GenderType.ALL, null))).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("연령대는 미션의 연령대 목록 중 하나와 일치하면 포함")
+    void age_range_matches_any_listed_range() {
+        assertThat(bits(filter(null, null, null, AgeRange.EARLY_TWENTIES))).containsExactly(0, 1);
+        assertThat(bits(filter(null, null, null, AgeRange.FORTIES_PLUS))).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("어떤 미션에도 없는 값이면 빈 결과")
+    void unknown_value_matches_nothing() {
+        assertThat(filter(MissionCategory.RELATIONSHIP, null, null, null).isEmpty()).isTrue();
+        assertThat(filter(MissionCategory.EXERCISE, VerificationType.BUTTON, null, null).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("반환된 비트셋을 수정해도 색인은 바뀌지 않음")
+    void returned_bitset_is_a_copy() {
+        filter(MissionCategory.EXERCISE, null, GenderType.MALE, null).clear();
+
+        assertThat(bits(filter(MissionCategory.EXERCISE, null, GenderType.MALE, null))).containsExactly(0, 4);
+    }
+
+    private BitSet filter(MissionCategory category, VerificationType verificationType,
+                          GenderType genderType, AgeRange ageRange) {
+        return index.filter(category, verificationType, null, ageRange, genderType, null, null);
+    }
+
+    private static List<Integer> bits(BitSet bitSet) {
+        return bitSet.stream().boxed().toList();
+    }
+
+    private static MissionResponse mission(Long id, MissionCategory category, VerificationType verificationType,
+                                           GenderType genderType, List<AgeRange> ageRanges) {
+        return MissionResponse.builder()
+                .id(id)
+                .category(category)
+                .verificationType(verificationType)
+                .genderType(genderType)
+                .ageRanges(ageRanges)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.dto.MissionResponse;
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.enums.MissionCategory;
+import com.app.replant.domain.mission.repository.MissionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MissionRandomSampler 무작위 선택 검증")
+class MissionRandomSamplerTest {
+
+    private final MissionCatalog missionCatalog = mock(MissionCatalog.class);
+    private final MissionRepository missionRepository = mock(MissionRepository.class);
+    private final MissionRandomSampler sampler = new MissionRandomSampler(missionCatalog, missionRepository);
+
+    @Test
+    @DisplayName("요청 개수만큼 중복 없이, 제외 ID 없이 선택")
+    void picks_distinct_ids_outside_excluded() {
+        useCatalog(20, MissionCategory.EXERCISE);
+        Set<Long> excluded = Set.of(1L, 2L, 3L);
+
+        for (int i = 0; i < 50; i++) {
+            List<Long> ids = sampler.sampleIds(5, null, excluded);
+
+            assertThat(ids).hasSize(5).doesNotHaveDuplicates().doesNotContainAnyElementsOf(excluded);
+            assertThat(ids).allMatch(id -> id >= 1 && id <= 20);
+        }
+    }
+
+    @Test
+    @DisplayName("후보 대부분이 제외되어도 남은 후보에서 채움")
+    void falls_back_to_remaining_candidates() {
+        useCatalog(100, MissionCategory.EXERCISE);
+        List<Long> excluded = LongStream.rangeClosed(1, 97).boxed().toList();
+
+        List<Long> ids = sampler.sampleIds(3, null, excluded);
+
+        assertThat(ids).containsExactlyInAnyOrder(98L, 99L, 100L);
+    }
+
+    @Test
+    @DisplayName("후보가 부족하면 가능한 만큼만 반환")
+    void returns_fewer_when_candidates_run_out() {
+        useCatalog(4, MissionCategory.EXERCISE);
+
+        assertThat(sampler.sampleIds(3, null, List.of(1L, 2L))).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(sampler.sampleIds(0, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리를 지정하면 해당 카테고리 미션만 선택")
+    void restricts_to_categories() {
+        List<MissionResponse> missions = new ArrayList<>();
+        for (long id = 10; id >= 1; id--) {
+            missions.add(MissionResponse.builder()
+                    .id(id)
+                    .category(id % 2 == 0 ? MissionCategory.STUDY : MissionCategory.HEALTH)
+                    .build());
+        }
+        when(missionCatalog.current()).thenReturn(new MissionCatalogSnapshot(1L, missions));
+
+        List<Long> ids = sampler.sampleIds(5, List.of(MissionCategory.STUDY), null);
+
+        assertThat(ids).containsExactlyInAnyOrder(2L, 4L, 6L, 8L, 10L);
+        assertThat(sampler.sampleIds(3, List.of(MissionCategory.RELATIONSHIP), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 결과는 선택 순서를 유지하고 스냅샷 이후 비활성화된 미션은 제외")
+    void keeps_sampled_order_and_drops_inactive() {
+        useCatalog(3, MissionCategory.EXERCISE);
+        Mission inactive = mission(2L, false);
+        List<Mission> found = List.of(mission(1L, true), inactive, mission(3L, true));
+        List<Long> requestedIds = new ArrayList<>();
+        // DB 조회 결과는 선택 순서와 무관하게 id 오름차순
+        when(missionRepository.findByIdIn(anyList())).thenAnswer(invocation -> {
+            requestedIds.addAll(invocation.<List<Long>>getArgument(0));
+            return found;
+        });
+
+        List<Mission> result = sampler.sample(3);
+
+        assertThat(result).extracting(Mission::getId)
+                .containsExactlyElementsOf(requestedIds.stream().filter(id -> id != 2L).toList());
+        assertThat(result).doesNotContain(inactive);
+    }
+
+    private void useCatalog(int size, MissionCategory category) {
+        List<MissionResponse> missions = new ArrayList<>();
+        for (long id = size; id >= 1; id--) {
+            missions.add(MissionResponse.builder().id(id).category(category).build());
+        }
+        when(missionCatalog.current()).thenReturn(new MissionCatalogSnapshot(1L, missions));
+    }
+
+    private static Mission mission(Long id, boolean active) {
+        Mission mission = mock(Mission.class);
+        when(mission.getId()).thenReturn(id);
+        when(mission.getIsActive()).thenReturn(active);
+        when(mission.isOfficialMission()).thenReturn(true);
+        return mission;
+    }
+}
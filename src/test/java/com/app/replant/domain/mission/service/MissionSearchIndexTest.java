@@ -0,0 +1,139 @@
+package com.app.replant.domain.mission.service;
+
+import com.app.replant.domain.mission.entity.Mission;
+import com.app.replant.domain.mission.enums.MissionType;
+import com.app.replant.domain.mission.event.MissionChangedEvent;
+import com.app.replant.domain.mission.repository.MissionRepository;
+import com.app.replant.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MissionSearchIndex 검색 정렬/필터 검증")
+class MissionSearchIndexTest {
+
+    private final MissionRepository missionRepository = mock(MissionRepository.class);
+    private final MissionSearchIndex index =
+            new MissionSearchIndex(missionRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("제목 일치 > 제목 시작 > 제목 포함 > 설명 포함 순, 동점은 최신(id 내림차순)")
+    void ranks_by_match_kind_then_latest() {
+        build(
+                mission(1L, "아침 산책하기", "공원에서 걷기", MissionType.OFFICIAL, null, true),
+                mission(2L, "산책", "", MissionType.OFFICIAL, null, true),
+                mission(3L, "산책 30분", "", MissionType.OFFICIAL, null, true),
+                mission(4L, "저녁 산책하기", "", MissionType.OFFICIAL, null, true),
+                mission(5L, "스트레칭", "산책 전에 하기", MissionType.OFFICIAL, null, true),
+                mission(6L, "독서", "책 읽기", MissionType.OFFICIAL, null, true));
+
+        List<Long> ids = index.searchIds(MissionSearchCondition.builder().keyword("산책").build());
+
+        assertThat(ids).containsExactly(2L, 3L, 4L, 1L, 5L);
+    }
+
+    @Test
+    @DisplayName("검색어 바이그램이 모두 있어도 연속 부분 문자열이 아니면 제외 (LIKE '%kw%'와 동일)")
+    void excludes_gram_matches_that_are_not_substrings() {
+        build(
+                mission(1L, "가나다나가", "", MissionType.OFFICIAL, null, true),
+                mission(2L, "가나가", "", MissionType.OFFICIAL, null, true));
+
+        assertThat(index.searchIds(MissionSearchCondition.builder().keyword("가나가").build()))
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("검색어는 대소문자/연속 공백을 무시하고, titleOnly면 설명 일치는 제외")
+    void normalizes_keyword_and_respects_title_only() {
+        build(
+                mission(1L, "Morning Run", "", MissionType.OFFICIAL, null, true),
+                mission(2L, "달리기", "morning  run 30분", MissionType.OFFICIAL, null, true));
+
+        assertThat(index.searchIds(MissionSearchCondition.builder().keyword("  MORNING   run ").build()))
+                .containsExactly(1L, 2L);
+        assertThat(index.searchIds(MissionSearchCondition.builder().keyword("morning run").titleOnly(true).build()))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("publicOnly는 다른 사람의 비공개 미션만 제외 (본인 비공개 미션은 포함)")
+    void public_only_keeps_own_private_missions() {
+        build(
+                mission(1L, "물 마시기", "", MissionType.CUSTOM, 10L, true),
+                mission(2L, "물 마시기", "", MissionType.CUSTOM, 10L, false),
+                mission(3L, "물 마시기", "", MissionType.CUSTOM, 20L, false),
+                mission(4L, "물 마시기", "", MissionType.OFFICIAL, null, true));
+
+        List<Long> ids = index.searchIds(MissionSearchCondition.builder()
+                .keyword("물")
+                .missionType(MissionType.CUSTOM)
+                .creatorId(10L)
+                .publicOnly(true)
+                .build());
+        List<Long> mine = index.searchIds(MissionSearchCondition.builder()
+                .keyword("물")
+                .missionType(MissionType.CUSTOM)
+                .creatorId(10L)
+                .onlyCreator(true)
+                .build());
+
+        assertThat(ids).containsExactly(2L, 1L);
+        assertThat(mine).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 해당 미션만 색인에서 제거")
+    void removes_deleted_mission_incrementally() {
+        build(
+                mission(1L, "명상", "", MissionType.OFFICIAL, null, true),
+                mission(2L, "명상하기", "", MissionType.OFFICIAL, null, true));
+
+        index.onMissionChanged(MissionChangedEvent.deleted(1L, MissionType.OFFICIAL));
+
+        assertThat(index.searchIds(MissionSearchCondition.builder().keyword("명상").build()))
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비활성 미션은 색인하지 않음")
+    void skips_inactive_missions() {
+        Mission inactive = mission(1L, "일기 쓰기", "", MissionType.OFFICIAL, null, true);
+        when(inactive.getIsActive()).thenReturn(false);
+        build(inactive, mission(2L, "일기", "", MissionType.OFFICIAL, null, true));
+
+        assertThat(index.searchIds(MissionSearchCondition.builder().keyword("일기").build()))
+                .containsExactly(2L);
+    }
+
+    private void build(Mission... missions) {
+        // 전체 재빌드는 missionIds = null로 조회
+        when(missionRepository.findForSearchIndex(isNull())).thenReturn(List.of(missions));
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private Mission mission(Long id, String title, String description, MissionType missionType,
+                            Long creatorId, boolean isPublic) {
+        Mission mission = mock(Mission.class);
+        when(mission.getId()).thenReturn(id);
+        when(mission.getTitle()).thenReturn(title);
+        when(mission.getDescription()).thenReturn(description);
+        when(mission.getMissionType()).thenReturn(missionType);
+        when(mission.getIsActive()).thenReturn(true);
+        when(mission.getIsPublic()).thenReturn(isPublic);
+        if (creatorId != null) {
+            User creator = mock(User.class);
+            when(creator.getId()).thenReturn(creatorId);
+            when(mission.getCreator()).thenReturn(creator);
+        }
+        return mission;
+    }
+}
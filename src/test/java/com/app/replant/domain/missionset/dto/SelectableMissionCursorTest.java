@@ -0,0 +1,65 @@
+package com.app.replant.domain.missionset.dto;
+
+import com.app.replant.global.common.dto.TimeIdCursor;
+import com.app.replant.global.exception.CustomException;
+import com.app.replant.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("선택 가능 미션 커서(SelectableMissionCursor/SelectableSearchCursor) 검증")
+class SelectableMissionCursorTest {
+
+    private final TimeIdCursor position = new TimeIdCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15), 100L);
+
+    @Test
+    @DisplayName("본인/공개 그룹과 위치가 encode → decode 왕복 시 유지")
+    void mission_cursor_round_trip() {
+        TodoListDto.SelectableMissionCursor mine = new TodoListDto.SelectableMissionCursor(true, position);
+        TodoListDto.SelectableMissionCursor others = new TodoListDto.SelectableMissionCursor(false, position);
+
+        assertThat(TodoListDto.SelectableMissionCursor.decode(mine.encode())).isEqualTo(mine);
+        assertThat(TodoListDto.SelectableMissionCursor.decode(others.encode())).isEqualTo(others);
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 문자열은 첫 페이지")
+    void blank_cursor_means_first_page() {
+        assertThat(TodoListDto.SelectableMissionCursor.decode(null)).isNull();
+        assertThat(TodoListDto.SelectableMissionCursor.decode("")).isNull();
+        assertThat(TodoListDto.SelectableSearchCursor.decode(null).offset()).isZero();
+        assertThat(TodoListDto.SelectableSearchCursor.decode(" ").offset()).isZero();
+    }
+
+    @Test
+    @DisplayName("그룹 표시가 없거나 위치가 비어 있으면 INVALID_REQUEST")
+    void malformed_mission_cursor_is_rejected() {
+        assertInvalid(() -> TodoListDto.SelectableMissionCursor.decode("X" + position.encode()));
+        assertInvalid(() -> TodoListDto.SelectableMissionCursor.decode("M"));
+        assertInvalid(() -> TodoListDto.SelectableMissionCursor.decode("Mnot-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("검색 커서는 순위 오프셋을 왕복하고, 다른 형식/음수는 INVALID_REQUEST")
+    void search_cursor_round_trip_and_validation() {
+        assertThat(TodoListDto.SelectableSearchCursor.decode(new TodoListDto.SelectableSearchCursor(40).encode()))
+                .isEqualTo(new TodoListDto.SelectableSearchCursor(40));
+
+        assertInvalid(() -> TodoListDto.SelectableSearchCursor.decode("S-1"));
+        assertInvalid(() -> TodoListDto.SelectableSearchCursor.decode("Sabc"));
+        // 최신순 커서를 검색 요청에 넘긴 경우
+        assertInvalid(() -> TodoListDto.SelectableSearchCursor.decode(
+                new TodoListDto.SelectableMissionCursor(true, position).encode()));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,168 @@
+package com.app.replant.domain.missionset.service;
+
+import com.app.replant.domain.missionset.entity.TodoList;
+import com.app.replant.domain.missionset.event.TodoListChangedEvent;
+import com.app.replant.domain.missionset.repository.RedisTodoListRankingRepository;
+import com.app.replant.domain.missionset.repository.TodoListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TodoListPopularityService 전방 감쇠(forward decay) 인기 점수 검증")
+class TodoListPopularityServiceTest {
+
+    private static final long DAY_SECONDS = Duration.ofDays(1).toSeconds();
+
+    private final RedisTodoListRankingRepository rankingRepository = mock(RedisTodoListRankingRepository.class);
+    private final TodoListRepository todoListRepository = mock(TodoListRepository.class);
+    private final TodoListPopularityService service =
+            new TodoListPopularityService(rankingRepository, todoListRepository);
+
+    @Test
+    @DisplayName("감쇠 계수는 반감기 3일 (3일 전 사건의 가중치는 절반)")
+    void lambda_gives_three_day_half_life() {
+        double weight = decayed(1.0, 0, 3 * DAY_SECONDS);
+
+        assertThat(weight).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("기준 시각 대비 저장 점수의 순서 = 현재 시각 기준 감쇠 점수의 순서 (기준 시각과 무관)")
+    void stored_order_matches_current_decayed_order_for_any_epoch() {
+        long now = 30 * DAY_SECONDS;
+        // A: 오래전 좋아요 여러 개, B: 최근 좋아요 하나 + 완료
+        long[] eventsA = {now - 9 * DAY_SECONDS, now - 8 * DAY_SECONDS, now - 7 * DAY_SECONDS};
+        long likedB = now - DAY_SECONDS / 2;
+
+        double currentA = 0;
+        for (long t : eventsA) {
+            currentA += decayed(TodoListPopularityService.LIKE_WEIGHT, t, now);
+        }
+        double currentB = decayed(TodoListPopularityService.LIKE_WEIGHT, likedB, now)
+                + decayed(TodoListPopularityService.COMPLETION_WEIGHT, now - 3600, now);
+
+        for (long epoch : new long[]{0, 10 * DAY_SECONDS, now}) {
+            double storedA = 0;
+            for (long t : eventsA) {
+                storedA += forward(TodoListPopularityService.LIKE_WEIGHT, t, epoch);
+            }
+            double storedB = forward(TodoListPopularityService.LIKE_WEIGHT, likedB, epoch)
+                    + forward(TodoListPopularityService.COMPLETION_WEIGHT, now - 3600, epoch);
+
+            assertThat(Double.compare(storedA, storedB)).isEqualTo(Double.compare(currentA, currentB));
+            // 기준 시각을 now로 옮기면(rebase) 저장 점수가 곧 현재 점수
+            double factor = Math.exp(-TodoListPopularityService.LAMBDA * (now - epoch));
+            assertThat(storedA * factor).isCloseTo(currentA, within(1e-9));
+            assertThat(storedB * factor).isCloseTo(currentB, within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 좋아요 작성 시각 기준으로 같은 가중치를 빼서 정확히 상쇄")
+    void unlike_cancels_like_at_the_same_event_time() {
+        LocalDateTime likedAt = LocalDateTime.of(2026, 4, 10, 21, 0);
+
+        service.recordLike(7L);
+        service.recordUnlike(7L, likedAt);
+        service.recordCompletion(7L, likedAt);
+        service.recordUncompletion(7L, likedAt);
+
+        ArgumentCaptor<Double> weights = ArgumentCaptor.forClass(Double.class);
+        ArgumentCaptor<Long> eventTimes = ArgumentCaptor.forClass(Long.class);
+        verify(rankingRepository, times(4)).increment(eq(7L), weights.capture(),
+                eq(TodoListPopularityService.LAMBDA), eventTimes.capture());
+        assertThat(weights.getAllValues()).containsExactly(
+                TodoListPopularityService.LIKE_WEIGHT, -TodoListPopularityService.LIKE_WEIGHT,
+                TodoListPopularityService.COMPLETION_WEIGHT, -TodoListPopularityService.COMPLETION_WEIGHT);
+        // 취소와 완료/완료 취소는 모두 같은 사건 시각을 사용
+        List<Long> eventSeconds = eventTimes.getAllValues();
+        assertThat(eventSeconds.get(1)).isEqualTo(eventSeconds.get(2)).isEqualTo(eventSeconds.get(3));
+    }
+
+    @Test
+    @DisplayName("사건 시각이 없으면 점수를 바꾸지 않음")
+    void ignores_events_without_time() {
+        service.recordUnlike(7L, null);
+        service.recordCompletion(null, LocalDateTime.now());
+
+        verify(rankingRepository, never()).increment(anyLong(), anyDouble(), anyDouble(), anyLong());
+    }
+
+    @Test
+    @DisplayName("변경 이벤트: 공개 투두리스트면 재계산 점수 저장, 결과가 없으면(비공개/삭제) 랭킹에서 제거")
+    void recomputes_or_removes_on_change() {
+        when(todoListRepository.computePopularityScores(eq(1L), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 12.5}));
+        when(todoListRepository.computePopularityScores(eq(2L), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of());
+
+        service.onTodoListChanged(new TodoListChangedEvent(1L));
+        service.onTodoListChanged(new TodoListChangedEvent(2L));
+
+        verify(rankingRepository).put(eq(1L), eq(12.5), eq(TodoListPopularityService.LAMBDA), anyLong());
+        verify(rankingRepository).remove(2L);
+    }
+
+    @Test
+    @DisplayName("인기순 페이지는 랭킹 순서를 유지하고 조회되지 않은(비공개 전환 등) 투두리스트는 제외")
+    void popular_page_keeps_rank_order() {
+        when(rankingRepository.count()).thenReturn(3L);
+        when(rankingRepository.findTopIds(0, 3)).thenReturn(List.of(30L, 10L, 20L));
+        TodoList ten = todoList(10L);
+        TodoList thirty = todoList(30L);
+        when(todoListRepository.findPublicByIdsWithCreator(List.of(30L, 10L, 20L))).thenReturn(List.of(ten, thirty));
+
+        Optional<Page<TodoList>> page = service.findPopularPage(PageRequest.of(0, 3));
+
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).containsExactly(thirty, ten);
+        assertThat(page.get().getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("랭킹이 비었거나 Redis 오류면 empty (호출 측 DB 정렬 폴백)")
+    void popular_page_falls_back_when_ranking_unavailable() {
+        when(rankingRepository.count()).thenReturn(0L);
+        assertThat(service.findPopularPage(PageRequest.of(0, 10))).isEmpty();
+
+        when(rankingRepository.count()).thenThrow(new IllegalStateException("redis down"));
+        assertThat(service.findPopularPage(PageRequest.of(0, 10))).isEmpty();
+        verify(rankingRepository, never()).findTopIds(anyLong(), anyInt());
+    }
+
+    /** 현재 시각(now) 기준 감쇠 가중치: weight × e^(−λ × (now − t)) */
+    private static double decayed(double weight, long eventSeconds, long nowSeconds) {
+        return weight * Math.exp(-TodoListPopularityService.LAMBDA * (nowSeconds - eventSeconds));
+    }
+
+    /** 기준 시각(epoch) 대비 저장 가중치: weight × e^(λ × (t − epoch)) (Redis 스크립트/재구성 SQL과 같은 식) */
+    private static double forward(double weight, long eventSeconds, long epochSeconds) {
+        return weight * Math.exp(TodoListPopularityService.LAMBDA * (eventSeconds - epochSeconds));
+    }
+
+    private static TodoList todoList(Long id) {
+        TodoList todoList = mock(TodoList.class);
+        when(todoList.getId()).thenReturn(id);
+        return todoList;
+    }
+}
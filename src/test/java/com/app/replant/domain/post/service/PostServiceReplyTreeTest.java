@@ -0,0 +1,92 @@
+package com.app.replant.domain.post.service;
+
+import com.app.replant.domain.post.dto.CommentResponse;
+import com.app.replant.domain.post.entity.Comment;
+import com.app.replant.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostService.buildReplyTree 답글 트리 구성 검증")
+class PostServiceReplyTreeTest {
+
+    @Test
+    @DisplayName("답글은 부모 아래에 작성순으로, 답글의 답글은 해당 답글 아래에 붙음")
+    void nests_replies_under_their_parent_in_creation_order() {
+        // 작성순: 10(1에 답글), 11(10에 답글), 12(1에 답글), 14(10에 답글)
+        List<Comment> replies = List.of(
+                reply(10L, 1L, 1L, 100L),
+                reply(11L, 10L, 1L, 200L),
+                reply(12L, 1L, 1L, 100L),
+                reply(14L, 10L, 1L, 300L));
+
+        Map<Long, List<CommentResponse>> tree = PostService.buildReplyTree(replies, 100L);
+
+        assertThat(tree).containsOnlyKeys(1L);
+        List<CommentResponse> thread = tree.get(1L);
+        assertThat(thread).extracting(CommentResponse::getId).containsExactly(10L, 12L);
+
+        CommentResponse first = thread.get(0);
+        assertThat(first.getReplies()).extracting(CommentResponse::getId).containsExactly(11L, 14L);
+        assertThat(first.getReplyCount()).isEqualTo(2);
+        assertThat(first.getIsAuthor()).isTrue();
+        assertThat(first.getReplies().get(0).getIsAuthor()).isFalse();
+
+        CommentResponse second = thread.get(1);
+        assertThat(second.getReplies()).isNull();
+        assertThat(second.getReplyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("부모가 목록에 없는 답글은 최상위 댓글 아래에 붙음")
+    void attaches_orphans_to_thread_root() {
+        List<Comment> replies = List.of(
+                reply(10L, 1L, 1L, 100L),
+                reply(13L, 99L, 1L, 100L));
+
+        Map<Long, List<CommentResponse>> tree = PostService.buildReplyTree(replies, null);
+
+        assertThat(tree.get(1L)).extracting(CommentResponse::getId).containsExactly(10L, 13L);
+        assertThat(tree.get(1L)).extracting(CommentResponse::getParentId).containsExactly(1L, 99L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 답글은 각 최상위 댓글별로 분리")
+    void separates_threads_by_root() {
+        List<Comment> replies = List.of(
+                reply(10L, 1L, 1L, 100L),
+                reply(20L, 2L, 2L, 100L),
+                reply(21L, 20L, 2L, 100L),
+                reply(22L, 2L, 2L, 100L));
+
+        Map<Long, List<CommentResponse>> tree = PostService.buildReplyTree(replies, null);
+
+        assertThat(tree).containsOnlyKeys(1L, 2L);
+        assertThat(tree.get(1L)).extracting(CommentResponse::getId).containsExactly(10L);
+        assertThat(tree.get(2L)).extracting(CommentResponse::getId).containsExactly(20L, 22L);
+        assertThat(tree.get(2L).get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("답글이 없으면 빈 맵")
+    void empty_replies_give_empty_tree() {
+        assertThat(PostService.buildReplyTree(List.of(), 1L)).isEmpty();
+    }
+
+    private static Comment reply(Long id, Long parentId, Long rootId, Long userId) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+        Comment comment = mock(Comment.class);
+        when(comment.getId()).thenReturn(id);
+        when(comment.getParentId()).thenReturn(parentId);
+        when(comment.getRootId()).thenReturn(rootId);
+        when(comment.getUser()).thenReturn(user);
+        return comment;
+    }
+}
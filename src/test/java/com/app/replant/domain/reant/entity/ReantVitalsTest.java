@@ -0,0 +1,89 @@
+package com.app.replant.domain.reant.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReantVitals 경과 시간 기반 배고픔/기분/건강 계산 검증")
+class ReantVitalsTest {
+
+    private static final LocalDateTime FED_AT = LocalDateTime.of(2026, 5, 1, 8, 0);
+
+    @Test
+    @DisplayName("배고픔은 먹은 뒤 시간당 5씩 증가하고 100에서 멈춤")
+    void hunger_grows_per_hour_and_caps_at_100() {
+        ReantVitals vitals = new ReantVitals(80, 90, 0, FED_AT, FED_AT);
+
+        assertThat(vitals.hungerAt(FED_AT)).isZero();
+        assertThat(vitals.hungerAt(FED_AT.plusMinutes(11))).isZero();
+        assertThat(vitals.hungerAt(FED_AT.plusHours(2))).isEqualTo(10);
+        assertThat(vitals.hungerAt(FED_AT.plusHours(30))).isEqualTo(100);
+        // 시계가 fedAt보다 앞서 있어도 음수가 되지 않음
+        assertThat(vitals.hungerAt(FED_AT.minusHours(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("굶주림(배고픔 80 초과) 전에는 기분/건강이 줄지 않음")
+    void mood_and_health_hold_until_starving() {
+        ReantVitals vitals = new ReantVitals(80, 90, 0, FED_AT, FED_AT);
+        LocalDateTime starvingSince = FED_AT.plusMinutes(Reant.STARVING_MINUTES);
+
+        assertThat(Reant.STARVING_MINUTES).isEqualTo(16 * 60);
+        assertThat(vitals.hungerAt(starvingSince)).isEqualTo(80);
+        assertThat(vitals.moodAt(starvingSince)).isEqualTo(80);
+        assertThat(vitals.healthAt(starvingSince)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("굶주린 시간만큼 기분은 시간당 5, 건강은 시간당 2 감소하고 0 아래로 내려가지 않음")
+    void mood_and_health_decay_while_starving() {
+        ReantVitals vitals = new ReantVitals(80, 90, 0, FED_AT, FED_AT);
+        LocalDateTime starvingSince = FED_AT.plusMinutes(Reant.STARVING_MINUTES);
+
+        assertThat(vitals.moodAt(starvingSince.plusHours(2))).isEqualTo(70);
+        assertThat(vitals.healthAt(starvingSince.plusHours(2))).isEqualTo(86);
+        assertThat(vitals.moodAt(starvingSince.plusDays(2))).isZero();
+        assertThat(vitals.healthAt(starvingSince.plusDays(3))).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 반영 시각 이후의 굶주림만 감소에 반영 (이미 반영된 구간은 다시 빼지 않음)")
+    void decay_counts_only_after_last_update() {
+        LocalDateTime starvingSince = FED_AT.plusMinutes(Reant.STARVING_MINUTES);
+        ReantVitals vitals = new ReantVitals(60, 70, 0, FED_AT, starvingSince.plusHours(1));
+
+        assertThat(vitals.moodAt(starvingSince.plusHours(3))).isEqualTo(50);
+        assertThat(vitals.healthAt(starvingSince.plusHours(3))).isEqualTo(66);
+    }
+
+    @Test
+    @DisplayName("중간에 값을 반영(materialize)해도 이후 계산 결과가 같음")
+    void materializing_midway_does_not_change_later_values() {
+        ReantVitals original = new ReantVitals(80, 90, 0, FED_AT, FED_AT);
+        LocalDateTime midway = FED_AT.plusHours(18);
+        LocalDateTime later = FED_AT.plusHours(21);
+
+        int hungerAtMidway = original.hungerAt(midway);
+        ReantVitals materialized = new ReantVitals(original.moodAt(midway), original.healthAt(midway), hungerAtMidway,
+                Reant.fedBeforeForHunger(midway, hungerAtMidway), midway);
+
+        assertThat(materialized.hungerAt(later)).isEqualTo(original.hungerAt(later));
+        assertThat(materialized.moodAt(later)).isEqualTo(original.moodAt(later));
+        assertThat(materialized.healthAt(later)).isEqualTo(original.healthAt(later));
+    }
+
+    @Test
+    @DisplayName("fedAt이 없는 이전 데이터는 저장된 배고픔 값으로 먹은 시각을 역산")
+    void legacy_rows_derive_fed_at_from_stored_hunger() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 5, 1, 12, 0);
+        ReantVitals vitals = new ReantVitals(50, 50, 40, null, updatedAt);
+
+        assertThat(vitals.hungerAt(updatedAt)).isEqualTo(40);
+        assertThat(vitals.hungerAt(updatedAt.plusHours(4))).isEqualTo(60);
+        // 배고픔 40 → 80까지 8시간, 이후 1시간 굶주림
+        assertThat(vitals.moodAt(updatedAt.plusHours(9))).isEqualTo(45);
+    }
+}
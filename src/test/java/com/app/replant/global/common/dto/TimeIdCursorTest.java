@@ -0,0 +1,65 @@
+package com.app.replant.global.common.dto;
+
+import com.app.replant.global.exception.CustomException;
+import com.app.replant.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimeIdCursor 인코딩/디코딩 검증")
+class TimeIdCursorTest {
+
+    @Test
+    @DisplayName("encode → decode 왕복 시 시각(마이크로초 포함)과 id 유지")
+    void round_trip_keeps_time_and_id() {
+        TimeIdCursor cursor = new TimeIdCursor(LocalDateTime.of(2026, 2, 4, 13, 27, 5, 123_456_000), 42L);
+
+        assertThat(TimeIdCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초가 0인 시각도 왕복 가능 (LocalDateTime.toString이 초를 생략하는 경우)")
+    void round_trip_without_seconds() {
+        TimeIdCursor cursor = new TimeIdCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 7L);
+
+        assertThat(TimeIdCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 URL에 그대로 쓸 수 있는 문자만 포함")
+    void encoded_cursor_is_url_safe() {
+        String encoded = new TimeIdCursor(LocalDateTime.of(2026, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 문자열은 첫 페이지(null)")
+    void blank_cursor_means_first_page() {
+        assertThat(TimeIdCursor.decode(null)).isNull();
+        assertThat(TimeIdCursor.decode("")).isNull();
+        assertThat(TimeIdCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_REQUEST")
+    void malformed_cursor_is_rejected() {
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-02-04T13:27".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-02-04T13:27|abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[]{"not a cursor!", noSeparator, badId}) {
+            assertThatThrownBy(() -> TimeIdCursor.decode(cursor))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}